@@ -0,0 +1,67 @@
+package convex.sampling;
+
+import convex.objects.ConvexBody;
+import convex.objects.Ellipsoid;
+import convex.objects.Polytope;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
+import linalg.Vector;
+import org.openjdk.jmh.annotations.*;
+import utils.Sampler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a single Hit-and-Run step, which is the inner loop of every sampling routine. Each invocation continues the
+ * chain from the point returned by the previous one, so the measured cost matches the one observed in RandomWalk.chain().
+ *
+ * @author lucianodp
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HitAndRunBenchmark {
+    public enum Body { BALL, CUBE }
+
+    @Param({"APACHE", "OJALGO", "SIMPLE", "SIMD", "FLOAT32", "HYBRID"})
+    public LinearAlgebraLibrary library;
+
+    @Param({"3", "10", "50", "200"})
+    public int dim;
+
+    @Param({"BALL", "CUBE"})
+    public Body body;
+
+    private HitAndRun sampler;
+    private ConvexBody convexBody;
+    private Vector point;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        LinearAlgebraConfig.setLibrary(library);
+        Sampler.setSeed(0);
+        sampler = new HitAndRun(1, 1);
+        convexBody = body == Body.BALL ? new Ellipsoid(dim) : makeCube(dim);
+        point = Vector.FACTORY.makeZero(dim);
+    }
+
+    private static Polytope makeCube(int dim){
+        Matrix eye = Matrix.FACTORY.makeEye(dim);
+        double[][] constrains = new double[2*dim][];
+        for(int i=0; i < dim; i++){
+            constrains[i] = eye.getRow(i).asArray();
+            constrains[dim + i] = eye.getRow(i).multiply(-1).asArray();
+        }
+        return new Polytope(Matrix.FACTORY.make(constrains), Vector.FACTORY.makeFilled(2*dim, 1.0));
+    }
+
+    @Benchmark
+    public Vector step(){
+        point = sampler.step(convexBody, point);
+        return point;
+    }
+}
@@ -0,0 +1,67 @@
+package linalg;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Matrix operations whose cost is at most quadratic in the matrix dimension, for every linear algebra backend.
+ * Square matrices of size dim x dim are used throughout.
+ *
+ * @see MatrixMultiplyBenchmark
+ * @author lucianodp
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixBenchmark {
+    @Param({"APACHE", "OJALGO", "SIMPLE", "SIMD", "FLOAT32", "HYBRID"})
+    public LinearAlgebraLibrary library;
+
+    @Param({"2", "8", "32", "128", "512", "1024", "4096"})
+    public int dim;
+
+    private Matrix matrix;
+    private Vector vector;
+    private int row;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        LinearAlgebraConfig.setLibrary(library);
+        Random random = new Random(0);
+        matrix = Matrix.FACTORY.make(randomArray(random, dim, dim));
+        vector = Vector.FACTORY.make(VectorBenchmark.randomArray(random, dim));
+        row = dim / 2;
+    }
+
+    static double[][] randomArray(Random random, int rows, int cols){
+        double[][] values = new double[rows][];
+        for(int i=0; i < rows; i++)
+            values[i] = VectorBenchmark.randomArray(random, cols);
+        return values;
+    }
+
+    @Benchmark
+    public Vector multiplyVector(){
+        return matrix.multiply(vector);
+    }
+
+    @Benchmark
+    public Matrix transpose(){
+        return matrix.transpose();
+    }
+
+    @Benchmark
+    public Vector getRow(){
+        return matrix.getRow(row);
+    }
+
+    @Benchmark
+    public Matrix sliceColumns(){
+        return matrix.sliceColumns(0, Math.max(1, dim / 2));
+    }
+}
@@ -0,0 +1,42 @@
+package linalg;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Matrix-Matrix multiplication for every linear algebra backend. Since this operation is cubic in the matrix
+ * dimension, the largest sizes are left out of the default run; pass "-p dim=2048,4096" to the runner to include them.
+ *
+ * @see MatrixBenchmark
+ * @author lucianodp
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixMultiplyBenchmark {
+    @Param({"APACHE", "OJALGO", "SIMPLE", "SIMD", "FLOAT32", "HYBRID"})
+    public LinearAlgebraLibrary library;
+
+    @Param({"2", "8", "32", "128", "512", "1024"})
+    public int dim;
+
+    private Matrix left, right;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        LinearAlgebraConfig.setLibrary(library);
+        Random random = new Random(0);
+        left = Matrix.FACTORY.make(MatrixBenchmark.randomArray(random, dim, dim));
+        right = Matrix.FACTORY.make(MatrixBenchmark.randomArray(random, dim, dim));
+    }
+
+    @Benchmark
+    public Matrix multiplyMatrix(){
+        return left.multiply(right);
+    }
+}
@@ -0,0 +1,57 @@
+package linalg;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the most common Vector operations for every linear algebra backend.
+ *
+ * @author lucianodp
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorBenchmark {
+    @Param({"APACHE", "OJALGO", "SIMPLE", "SIMD", "FLOAT32", "HYBRID"})
+    public LinearAlgebraLibrary library;
+
+    @Param({"2", "8", "32", "128", "512", "1024", "4096"})
+    public int dim;
+
+    private Vector left, right;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        LinearAlgebraConfig.setLibrary(library);
+        Random random = new Random(0);
+        left = Vector.FACTORY.make(randomArray(random, dim));
+        right = Vector.FACTORY.make(randomArray(random, dim));
+    }
+
+    static double[] randomArray(Random random, int size){
+        double[] values = new double[size];
+        for(int i=0; i < size; i++)
+            values[i] = 1.0 + random.nextDouble();  // bounded away from zero, so divide() never hits a zero
+        return values;
+    }
+
+    @Benchmark
+    public Vector add(){
+        return left.add(right);
+    }
+
+    @Benchmark
+    public double dot(){
+        return left.dot(right);
+    }
+
+    @Benchmark
+    public Vector divide(){
+        return left.divide(right);
+    }
+}
@@ -9,8 +9,7 @@ public interface Classifier {
     default LabelCollection predict(Matrix points){
         LabelCollection labels = new LabelCollection();
 
-        for(int i=0; i < points.getNumRows(); i++)
-            labels.add(predict(points.getRow(i)));
+        points.forEachRow((i, row) -> labels.add(predict(row)));
 
         return labels;
     }
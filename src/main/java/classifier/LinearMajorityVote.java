@@ -3,6 +3,7 @@ package classifier;
 
 import exceptions.IncompatibleDimensionsException;
 import linalg.Matrix;
+import linalg.RowCursor;
 import linalg.Vector;
 
 public class LinearMajorityVote implements Classifier{
@@ -16,6 +17,14 @@ public class LinearMajorityVote implements Classifier{
         this.weights = weights;
     }
 
+    public Vector getBiases() {
+        return biases;
+    }
+
+    public Matrix getWeights() {
+        return weights;
+    }
+
     @Override
     public Label predict(Vector point) {
         if(point.getDim() != weights.getNumCols())
@@ -28,11 +37,13 @@ public class LinearMajorityVote implements Classifier{
         if(points.getNumCols() != weights.getNumCols())
             throw new IncompatibleDimensionsException(points.getNumCols(), weights.getNumCols());
 
-        Matrix values = points.multiply(weights.transpose());
+        Matrix values = points.multiplyTransposed(weights);
+        double[] offsets = biases.asArray();
         LabelCollection labels = new LabelCollection();
 
-        for(int i=0; i < values.getNumRows(); i++)
-            labels.add(getLabelFromThresholds(values.getRow(i).add(biases)));
+        RowCursor cursor = values.rowCursor();
+        while (cursor.next())
+            labels.add(getLabelFromThresholds(cursor.getValues(), offsets));
 
         return labels;
     }
@@ -47,4 +58,15 @@ public class LinearMajorityVote implements Classifier{
         }
         return count >= 0 ? Label.POSITIVE: Label.NEGATIVE;
     }
+
+    private Label getLabelFromThresholds(double[] values, double[] offsets){
+        int count = 0;
+        for(int i=0; i < values.length; i++){
+            if(values[i] + offsets[i] >= 0)
+                count += 1;
+            else
+                count -= 1;
+        }
+        return count >= 0 ? Label.POSITIVE: Label.NEGATIVE;
+    }
 }
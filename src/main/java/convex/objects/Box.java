@@ -6,7 +6,9 @@ import exceptions.convex.EmptyIntersectionException;
 import exceptions.IncompatibleBoundsException;
 import exceptions.IncompatibleDimensionsException;
 import exceptions.convex.NegativeLengthException;
+import linalg.LinearAlgebraContext;
 import linalg.Vector;
+import linalg.VectorExpression;
 
 /**
  * Implementation of a Box convex set. It is defined by two parameters: its lower-most edge point L and its upper-most edge
@@ -25,7 +27,11 @@ public class Box implements ConvexBody {
     }
 
     public Box(double[] low, double[] high){
-        this(Vector.FACTORY.make(low), Vector.FACTORY.make(high));
+        this(low, high, LinearAlgebraContext.current());
+    }
+
+    public Box(double[] low, double[] high, LinearAlgebraContext context){
+        this(context.getVectorFactory().make(low), context.getVectorFactory().make(high));
     }
 
 
@@ -43,7 +49,11 @@ public class Box implements ConvexBody {
     }
 
     public Box(double[] center, double length){
-        this(Vector.FACTORY.make(center), length);
+        this(center, length, LinearAlgebraContext.current());
+    }
+
+    public Box(double[] center, double length, LinearAlgebraContext context){
+        this(context.getVectorFactory().make(center), length);
     }
 
     /**
@@ -51,8 +61,17 @@ public class Box implements ConvexBody {
      * @param dim: dimension of underlying euclidean space
      */
     public Box(int dim){
-        low = Vector.FACTORY.makeFilled(dim, -1.0);
-        high = Vector.FACTORY.makeFilled(dim, 1.0);
+        this(dim, LinearAlgebraContext.current());
+    }
+
+    /**
+     * Constructs an unit box, whose vectors are created by the given Linear Algebra context.
+     * @param dim: dimension of underlying euclidean space
+     * @param context: Linear Algebra context
+     */
+    public Box(int dim, LinearAlgebraContext context){
+        low = context.getVectorFactory().makeFilled(dim, -1.0);
+        high = context.getVectorFactory().makeFilled(dim, 1.0);
     }
 
     private void validateAttributes(){
@@ -104,8 +123,8 @@ public class Box implements ConvexBody {
     public LineSegment intersect(Line line) {
         checkDim(line);
 
-        Vector normalizedLow = low.subtract(line.getCenter()).divide(line.getDirection());
-        Vector normalizedHigh = high.subtract(line.getCenter()).divide(line.getDirection());
+        VectorExpression normalizedLow = Vector.expr(low).minus(line.getCenter()).div(line.getDirection());
+        VectorExpression normalizedHigh = Vector.expr(high).minus(line.getCenter()).div(line.getDirection());
 
         double lowerBound = Double.NEGATIVE_INFINITY;
         double upperBound = Double.POSITIVE_INFINITY;
@@ -2,6 +2,7 @@ package convex.objects;
 
 import convex.sampling.Line;
 import convex.sampling.LineSegment;
+import convex.sampling.SamplingCursor;
 import exceptions.convex.EmptyIntersectionException;
 import exceptions.IncompatibleDimensionsException;
 import exceptions.linalg.NegativeDimensionException;
@@ -76,4 +77,16 @@ public interface ConvexBody {
      * @see LineSegment
      */
     LineSegment intersect(Line line);
+
+    /**
+     * Creates a cursor for random walks starting at the given point. Convex bodies which can reuse computations between
+     * consecutive intersections (for instance, across the steps of a Hit-and-Run chain) should override this method.
+     *
+     * @param point: starting point of the walk
+     * @return sampling cursor positioned at point
+     * @throws IncompatibleDimensionsException if point and convex body have different dimensions
+     */
+    default SamplingCursor cursor(Vector point) {
+        return new SamplingCursor(this, point);
+    }
 }
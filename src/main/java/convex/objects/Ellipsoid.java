@@ -5,7 +5,9 @@ import convex.sampling.LineSegment;
 import exceptions.convex.EmptyIntersectionException;
 import exceptions.IncompatibleDimensionsException;
 import exceptions.convex.NegativeLengthException;
+import linalg.LinearAlgebraContext;
 import linalg.Vector;
+import linalg.VectorExpression;
 
 /**
  * Implementation of an Ellipsoid convex set. It is defined by two parameters: its geometrical center (any point in an
@@ -27,7 +29,11 @@ public class Ellipsoid implements ConvexBody {
     }
 
     public Ellipsoid(double[] center, double[] halfAxisLengths){
-        this(Vector.FACTORY.make(center), Vector.FACTORY.make(halfAxisLengths));
+        this(center, halfAxisLengths, LinearAlgebraContext.current());
+    }
+
+    public Ellipsoid(double[] center, double[] halfAxisLengths, LinearAlgebraContext context){
+        this(context.getVectorFactory().make(center), context.getVectorFactory().make(halfAxisLengths));
     }
 
     /**
@@ -36,23 +42,44 @@ public class Ellipsoid implements ConvexBody {
      * @param radius: radius of ball (must be positive)
      */
     public Ellipsoid(Vector center, double radius){
+        this(center, radius, LinearAlgebraContext.current());
+    }
+
+    /**
+     * Construct a ball given its center and a radius.
+     * @param center: center of ball
+     * @param radius: radius of ball (must be positive)
+     * @param context: Linear Algebra context creating the half-axis lengths vector (should match center's library)
+     */
+    public Ellipsoid(Vector center, double radius, LinearAlgebraContext context){
         this.center = center;
 
         if (radius <= 0)
             throw new NegativeLengthException("Radius");
 
-        this.halfAxisLengths = Vector.FACTORY.makeFilled(this.center.getDim(), radius);
+        this.halfAxisLengths = context.getVectorFactory().makeFilled(this.center.getDim(), radius);
     }
 
     public Ellipsoid(double[] center, double radius){
-        this(Vector.FACTORY.make(center), radius);
+        this(center, radius, LinearAlgebraContext.current());
+    }
+
+    public Ellipsoid(double[] center, double radius, LinearAlgebraContext context){
+        this(context.getVectorFactory().make(center), radius, context);
     }
 
     /**
      * Constructs an unit ball (centered at origin, radius 1)
      * @param dim: dimension of underlying euclidean space
      */
-    public Ellipsoid(int dim){ this(Vector.FACTORY.makeZero(dim), 1); }
+    public Ellipsoid(int dim){ this(dim, LinearAlgebraContext.current()); }
+
+    /**
+     * Constructs an unit ball, whose vectors are created by the given Linear Algebra context.
+     * @param dim: dimension of underlying euclidean space
+     * @param context: Linear Algebra context
+     */
+    public Ellipsoid(int dim, LinearAlgebraContext context){ this(context.getVectorFactory().makeZero(dim), 1, context); }
 
     @Override
     public int getDim() {
@@ -79,7 +106,7 @@ public class Ellipsoid implements ConvexBody {
     @Override
     public boolean isInside(Vector point) {
         checkDim(point);
-        return point.subtract(center).divide(halfAxisLengths).norm() < 1;
+        return Vector.expr(point).minus(center).div(halfAxisLengths).sqNorm() < 1;
     }
 
     private void checkLengthsArePositive(Vector point){
@@ -103,13 +130,14 @@ public class Ellipsoid implements ConvexBody {
     @Override
     public LineSegment intersect(Line line){
         checkDim(line);
-        Vector normalizedCenter = line.getCenter().subtract(this.center).divide(this.halfAxisLengths);
-        Vector normalizedDirection = line.getDirection().divide(this.halfAxisLengths);
-
-        // solve second degree equation
-        double a = normalizedDirection.sqNorm();
-        double b = normalizedCenter.dot(normalizedDirection);
-        double c = normalizedCenter.sqNorm() - 1;
+        VectorExpression normalizedCenter = Vector.expr(line.getCenter()).minus(this.center).div(this.halfAxisLengths);
+        VectorExpression normalizedDirection = Vector.expr(line.getDirection()).div(this.halfAxisLengths);
+
+        // solve second degree equation, whose coefficients are computed in a single pass
+        double[] gram = normalizedDirection.gram(normalizedCenter);
+        double a = gram[0];
+        double b = gram[1];
+        double c = gram[2] - 1;
 
         double delta = b*b - a*c;
         if (delta <= 0)  // only two real solutions determine a segment
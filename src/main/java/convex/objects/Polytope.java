@@ -3,8 +3,10 @@ package convex.objects;
 
 import convex.sampling.Line;
 import convex.sampling.LineSegment;
+import convex.sampling.SamplingCursor;
 import exceptions.convex.EmptyIntersectionException;
 import exceptions.IncompatibleDimensionsException;
+import linalg.LinearAlgebraContext;
 import linalg.Matrix;
 import linalg.Vector;
 
@@ -31,7 +33,11 @@ public class Polytope implements ConvexBody {
     }
 
     public Polytope(double[][] A, double[] b){
-        this(Matrix.FACTORY.make(A), Vector.FACTORY.make(b));
+        this(A, b, LinearAlgebraContext.current());
+    }
+
+    public Polytope(double[][] A, double[] b, LinearAlgebraContext context){
+        this(context.getMatrixFactory().make(A), context.getVectorFactory().make(b));
     }
 
     @Override
@@ -79,13 +85,22 @@ public class Polytope implements ConvexBody {
      */
     @Override
     public LineSegment intersect(Line line) {
-        Vector numerator = b.subtract(A.multiply(line.getCenter()));
-        Vector denominator = A.multiply(line.getDirection());
+        return intersect(line, b.subtract(A.multiply(line.getCenter())), A.multiply(line.getDirection()));
+    }
 
+    /**
+     * Solves the inequalities \( t \cdot denominator_i &lt; numerator_i \) for every constrain i.
+     * @param line: line being intersected
+     * @param numerator: slack of the line's center, \( b - A c \)
+     * @param denominator: line's direction projected by each constrain, \( A D \)
+     * @return line intersection result
+     * @throws EmptyIntersectionException if line does not intercept Polytope
+     */
+    static LineSegment intersect(Line line, Vector numerator, Vector denominator){
         double lowerBound = Double.NEGATIVE_INFINITY;
         double upperBound = Double.POSITIVE_INFINITY;
 
-        for(int i=0; i < getNumConstrains(); i++){
+        for(int i=0; i < numerator.getDim(); i++){
             if(denominator.get(i) > 0)
                 upperBound = Math.min(upperBound, numerator.get(i)/denominator.get(i));
 
@@ -102,4 +117,14 @@ public class Polytope implements ConvexBody {
 
         return new LineSegment(line, lowerBound, upperBound);
     }
+
+    /**
+     * The returned cursor keeps the slack \( b - A x \) of its current point, so each step only needs to compute one
+     * matrix-vector product instead of two.
+     * @see PolytopeCursor
+     */
+    @Override
+    public SamplingCursor cursor(Vector point) {
+        return new PolytopeCursor(this, A, b, point);
+    }
 }
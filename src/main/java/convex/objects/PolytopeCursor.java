@@ -0,0 +1,82 @@
+package convex.objects;
+
+import convex.sampling.Line;
+import convex.sampling.LineSegment;
+import convex.sampling.SamplingCursor;
+import linalg.Matrix;
+import linalg.Vector;
+import linalg.libraries.sparse.SparseVector;
+
+/**
+ * Sampling cursor over a convex body described by linear constrains \( A x &lt; b \), such as a Polytope, which keeps
+ * the slack vector \( s = b - A x \) of the current point across steps.
+ *
+ * Intersecting the body with a line \( x + t D \) only requires \( A D \), since the slack is already known; after
+ * moving to \( x' = x + t D \), the new slack is obtained as \( s' = s - t (A D) \) without any further matrix product.
+ * This halves the cost of each Hit-and-Run step. Along a coordinate axis \( e_i \), \( A e_i \) is simply the i-th
+ * column of A, so a step costs O(m) instead of O(m n). Sparse columns (from a SparseMatrix) are densified first, since
+ * the slack they update is dense.
+ *
+ * Since the incremental updates slowly accumulate rounding errors, the slack is recomputed from scratch every
+ * REFRESH_INTERVAL moves. The constrains must not change while the cursor is in use.
+ *
+ * @see Polytope#cursor(Vector)
+ */
+public class PolytopeCursor extends SamplingCursor {
+    /**
+     * Number of incremental slack updates between two full recomputations
+     */
+    static final int REFRESH_INTERVAL = 64;
+
+    private final Matrix A;
+    private final Vector b;
+    private Vector slack, projectedDirection;
+    private int movesSinceRefresh;
+
+    /**
+     * @param convexBody: convex body being sampled, equal to \( \{x : A x &lt; b\} \)
+     * @param A: constrains matrix
+     * @param b: constrains vector
+     * @param point: starting point
+     */
+    public PolytopeCursor(ConvexBody convexBody, Matrix A, Vector b, Vector point) {
+        super(convexBody, point);
+        this.A = A;
+        this.b = b;
+        refresh();
+    }
+
+    /**
+     * @return slack \( b - A x \) of the current point. It must not be modified.
+     */
+    Vector getSlack() {
+        return slack;
+    }
+
+    private void refresh(){
+        slack = b.subtract(A.multiply(getPoint()));
+        movesSinceRefresh = 0;
+    }
+
+    @Override
+    protected LineSegment intersect(Line line) {
+        projectedDirection = A.multiply(line.getDirection());
+        return Polytope.intersect(line, slack, projectedDirection);
+    }
+
+    @Override
+    protected LineSegment intersectAxis(Line line, int axis) {
+        projectedDirection = A.getColumn(axis);
+        if(projectedDirection instanceof SparseVector)
+            projectedDirection = Vector.FACTORY.make(projectedDirection.asArray());
+        return Polytope.intersect(line, slack, projectedDirection);
+    }
+
+    @Override
+    protected void moved(Line line, double position) {
+        if (++movesSinceRefresh >= REFRESH_INTERVAL)
+            refresh();
+        else
+            slack.axpy(-position, projectedDirection);
+    }
+}
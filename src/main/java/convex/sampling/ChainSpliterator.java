@@ -0,0 +1,68 @@
+package convex.sampling;
+
+import linalg.LinearAlgebraContext;
+import linalg.Vector;
+import utils.Sampler;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazily runs a single Markov chain, emitting its state after burnIn steps and then once every thin steps, until limit
+ * points have been emitted. Steps are only computed when the next point is requested, so consumers can process arbitrarily
+ * long chains in constant memory.
+ *
+ * A chain is inherently sequential, so this spliterator never splits. Each advance binds the random walk's
+ * LinearAlgebraContext, since the chain may be consumed long after the stream was created.
+ *
+ * @see RandomWalk#stream(convex.objects.ConvexBody, Vector, int, int, long)
+ */
+class ChainSpliterator implements Spliterator<Vector> {
+    private final RandomWalk randomWalk;
+    private final SamplingCursor cursor;
+    private final Sampler sampler;
+    private final int thin, characteristics;
+    private int stepsToNext;
+    private long remaining;
+
+    ChainSpliterator(RandomWalk randomWalk, SamplingCursor cursor, Sampler sampler, int burnIn, int thin, long limit) {
+        this.randomWalk = randomWalk;
+        this.cursor = cursor;
+        this.sampler = sampler;
+        this.thin = thin;
+        this.stepsToNext = burnIn;
+        this.remaining = limit;
+        this.characteristics = limit == Long.MAX_VALUE ? ORDERED | NONNULL : ORDERED | NONNULL | SIZED;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Vector> action) {
+        if (remaining <= 0)
+            return false;
+
+        try (LinearAlgebraContext.Scope scope = LinearAlgebraContext.bind(randomWalk.getContext())) {
+            for (; stepsToNext > 0; stepsToNext--)
+                randomWalk.step(cursor, sampler);
+        }
+
+        stepsToNext = thin;
+        remaining--;
+        action.accept(cursor.getPoint());
+        return true;
+    }
+
+    @Override
+    public Spliterator<Vector> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return hasCharacteristics(SIZED) ? remaining : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
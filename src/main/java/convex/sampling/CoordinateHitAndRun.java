@@ -0,0 +1,52 @@
+package convex.sampling;
+
+import exceptions.convex.EmptyIntersectionException;
+import linalg.LinearAlgebraContext;
+import linalg.Vector;
+import utils.Sampler;
+
+/**
+ * Coordinate Hit-and-Run: a variant of Hit-and-Run where each line is parallel to a randomly chosen coordinate axis,
+ * instead of following a random gaussian direction. Its limiting distribution is also the uniform distribution over the
+ * convex body, although it may need more steps to mix than the original algorithm when the body is elongated along
+ * directions which are not aligned with the axes.
+ *
+ * In exchange, steps are much cheaper over bodies defined by linear constrains \( A x &lt; b \): the projection of the
+ * direction \( A e_i \) is just the i-th column of A, so with cached slacks a step costs O(m) instead of O(m n).
+ *
+ * Reference:
+ * <ul>
+ *  <li>Title: Hit-and-Run Algorithms for Generating Multivariate Distributions</li>
+ *  <li>Authors: Belisle., Claude J.P.; Romeijn, H. Edwin; Smith, Robert L.</li>
+ * </ul>
+ * @see HitAndRun
+ * @see SamplingCursor#intersectAxis(int)
+ */
+public class CoordinateHitAndRun extends RandomWalk {
+    public CoordinateHitAndRun(int chainLength, int sampleSize){
+        super(chainLength, sampleSize);
+    }
+
+    public CoordinateHitAndRun(int chainLength, int sampleSize, LinearAlgebraContext context){
+        super(chainLength, sampleSize, context);
+    }
+
+    /**
+     * Coordinate Hit-and-Run core. This algorithm performs 3 actions:
+     *
+     *   1) It samples a random coordinate axis i
+     *   2) Compute the intersection of the line \(X_t + t e_i\) with the convex body, which is a line segment
+     *   3) Return \(X_{t+1}\) as a random point on this line segment
+     *
+     * @param cursor: cursor positioned at the current point in the algorithm (\(X_t\) at iteration t+1)
+     * @param sampler: source of randomness
+     * @return next point \(X_{t+1}\) based on the Coordinate Hit-and-Run rule
+     * @throws EmptyIntersectionException may be thrown if the convexbody is unbounded
+     */
+    @Override
+    Vector step(SamplingCursor cursor, Sampler sampler){
+        int axis = sampler.sampleIndex(cursor.getPoint().getDim());
+        LineSegment segment = cursor.intersectAxis(axis);
+        return cursor.moveTo(segment.samplePosition(sampler));
+    }
+}
@@ -1,8 +1,9 @@
 package convex.sampling;
 
-import convex.objects.ConvexBody;
 import exceptions.convex.EmptyIntersectionException;
+import linalg.LinearAlgebraContext;
 import linalg.Vector;
+import utils.Sampler;
 
 /**
  * This class implements the Hit-and-Run algorithm for sampling uniformly over convex bodies.
@@ -36,6 +37,10 @@ public class HitAndRun extends RandomWalk {
         super(chainLength, sampleSize);
     }
 
+    public HitAndRun(int chainLength, int sampleSize, LinearAlgebraContext context){
+        super(chainLength, sampleSize, context);
+    }
+
     /**
      * Hit-and-Run algorithm core. This algorithm performs 3 actions:
      *
@@ -45,14 +50,15 @@ public class HitAndRun extends RandomWalk {
      *
      * If the convex body is unbounded in any direction or not full-dimensional, you may obtain a EmptyIntersectionException.
      *
-     * @param convexBody: convex body from which we are sampling from
-     * @param point: current point in the algorithm (\(X_t\) at iteration t+1)
+     * @param cursor: cursor positioned at the current point in the algorithm (\(X_t\) at iteration t+1)
+     * @param sampler: source of randomness
      * @return next point \(X_{t+1}\) based on the Hit-and-Run rule
      * @throws EmptyIntersectionException may be thrown if the convexbody is unbounded
      */
-    Vector step(ConvexBody convexBody, Vector point){
-        Line randomLine = Line.sample(point);
-        LineSegment segment = convexBody.intersect(randomLine);
-        return segment.sample();
+    @Override
+    Vector step(SamplingCursor cursor, Sampler sampler){
+        Vector randomDirection = sampler.sampleGaussian(cursor.getPoint().getDim());
+        LineSegment segment = cursor.intersect(randomDirection);
+        return cursor.moveTo(segment.samplePosition(sampler));
     }
 }
\ No newline at end of file
@@ -48,16 +48,17 @@ public class Line {
      * @return  \( C + t D \)
      */
     public Vector getPoint(double position){
-        return center.add(direction.multiply(position));
+        return direction.multiply(position).addInPlace(center);
     }
 
     /**
      * Returns a random line centered at the given point.
      * @param point: center of random line
+     * @param sampler: sampler drawing the line's direction
      * @return random line centered at point
      */
-    public static Line sample(Vector point){
-        Vector randomDirection = Sampler.sampleGaussian(point.getDim());
+    public static Line sample(Vector point, Sampler sampler){
+        Vector randomDirection = sampler.sampleGaussian(point.getDim());
         return new Line(point, randomDirection);
     }
 }
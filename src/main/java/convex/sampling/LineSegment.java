@@ -54,12 +54,23 @@ public class LineSegment {
 
     /**
      * Returns a random point on the line segment. If segment is unbounded, throws an exception.
+     * @param sampler: sampler drawing the point's position
      * @return random point on the line segment.
      * @throws UnboundedSegmentException if segment is unbounded
      */
-    public Vector sample(){
+    public Vector sample(Sampler sampler){
+        return line.getPoint(samplePosition(sampler));
+    }
+
+    /**
+     * Returns the parameter t of a random point on the line segment. If segment is unbounded, throws an exception.
+     * @param sampler: sampler drawing the position
+     * @return uniformly sampled value in [t_{min}, t_{max}]
+     * @throws UnboundedSegmentException if segment is unbounded
+     */
+    public double samplePosition(Sampler sampler){
         if (isUnbounded())
             throw new UnboundedSegmentException();
-        return line.getPoint(Sampler.sampleUniform(lower, upper));
+        return sampler.sampleUniform(lower, upper);
     }
 }
@@ -3,8 +3,17 @@ package convex.sampling;
 import convex.objects.ConvexBody;
 import exceptions.convex.PointOutsideConvexBodyException;
 import exceptions.IncompatibleDimensionsException;
+import linalg.LinearAlgebraContext;
 import linalg.Matrix;
+import linalg.MatrixBuilder;
 import linalg.Vector;
+import utils.Sampler;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class is a general interface for Random Walking methods over convex bodies. Most of sampling and volume computation
@@ -17,11 +26,28 @@ import linalg.Vector;
  * Our RandomWalk modules provide two main pieces of functionality. First there is the chain length C, which is a upper bound
  * on the size of every chain it samples. Second, there is the sample size S, representing how many points to sample.
  *
+ * Each random walk runs under the LinearAlgebraContext current at its construction (or the one explicitly given), so
+ * walks belonging to different sessions may use different Linear Algebra libraries.
+ *
+ * The chains computed by uniform() are independent of each other, so they can also run concurrently on a ForkJoinPool
+ * (see setForkJoinPool()). In this case, the convex body must support concurrent calls to its isInside, intersect and
+ * cursor methods.
+ *
+ * Long chains can also be consumed lazily through stream(), which emits points with a given burn-in and thinning
+ * without materializing the whole chain.
+ *
+ * Randomness comes from the walk's own Sampler, which is split from the default Sampler at construction unless another
+ * one is set through setSampler(). Walks can thus be created and used from different threads, but a single walk must
+ * not sample from several threads at once (apart from the chains uniform() runs on its ForkJoinPool).
+ *
  * @see ConvexBody
  * @author lucianodp
  */
-abstract class RandomWalk{
+public abstract class RandomWalk{
     private int chainLength, sampleSize;
+    private final LinearAlgebraContext context;
+    private ForkJoinPool forkJoinPool;
+    private Sampler sampler;
 
     /**
      * Creates a new random walking sampler by specifying two parameters: the maximum chain length (when to stop sampling
@@ -31,9 +57,64 @@ abstract class RandomWalk{
      * @throws IllegalArgumentException if chainLength or sampleSize are non-positive integers
      */
     public RandomWalk(int chainLength, int sampleSize){
+        this(chainLength, sampleSize, LinearAlgebraContext.current());
+    }
+
+    /**
+     * @param chainLength: size of chain
+     * @param sampleSize: size of uniform sample
+     * @param context: Linear Algebra context used for creating the sampled points
+     * @throws IllegalArgumentException if chainLength or sampleSize are non-positive integers
+     */
+    public RandomWalk(int chainLength, int sampleSize, LinearAlgebraContext context){
         checkParameters(chainLength, sampleSize);
         this.chainLength = chainLength;
         this.sampleSize = sampleSize;
+        this.context = context;
+        this.sampler = Sampler.splitDefault();
+    }
+
+    public LinearAlgebraContext getContext() {
+        return context;
+    }
+
+    public int getChainLength() {
+        return chainLength;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * @return sampler used by this random walk
+     */
+    public Sampler getSampler() {
+        return sampler;
+    }
+
+    /**
+     * @param sampler: sampler used by this random walk, or null for splitting a new one from the default Sampler
+     */
+    public void setSampler(Sampler sampler) {
+        this.sampler = sampler != null ? sampler : Sampler.splitDefault();
+    }
+
+    /**
+     * @return pool running the chains of uniform(), or null if they run in the calling thread
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * Sets the pool running the chains of uniform() concurrently. By default, chains run one after another in the calling
+     * thread. Either way, each chain draws from its own Sampler, split from this walk's before any chain starts, so
+     * results only depend on the random seed and not on how chains were scheduled.
+     * @param forkJoinPool: pool running the chains, or null for running them in the calling thread
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
     }
 
     private void checkParameters(int chainLength, int sampleSize){
@@ -53,18 +134,19 @@ abstract class RandomWalk{
      * @throws PointOutsideConvexBodyException if initialPoint is not on the interior of convex body
      */
     public Matrix chain(ConvexBody convexBody, Vector initialPoint){
-        checkInitialPoint(convexBody, initialPoint);
-        Vector sample = initialPoint;
+        try (LinearAlgebraContext.Scope scope = LinearAlgebraContext.bind(context)) {
+            checkInitialPoint(convexBody, initialPoint);
+            SamplingCursor cursor = convexBody.cursor(initialPoint);
+            Sampler sampler = getSampler();
 
-        double[][] chain = new double[chainLength+1][initialPoint.getDim()];
-        chain[0] = initialPoint.asArray();
+            MatrixBuilder chain = new MatrixBuilder(initialPoint.getDim(), chainLength + 1);
+            chain.appendRow(initialPoint);
 
-        for (int i=1; i <= chainLength; i++) {
-            sample = step(convexBody, sample);
-            chain[i] = sample.asArray();
-        }
+            for (int i = 1; i <= chainLength; i++)
+                chain.appendRow(step(cursor, sampler));
 
-        return Matrix.FACTORY.make(chain);
+            return chain.build();
+        }
     }
 
     /**
@@ -77,23 +159,165 @@ abstract class RandomWalk{
      * @throws exceptions.IncompatibleDimensionsException if initialPoint and convexBody have different dimensions
      */
     public Matrix uniform(ConvexBody convexBody, Vector initialPoint){
-        checkInitialPoint(convexBody, initialPoint);
+        try (LinearAlgebraContext.Scope scope = LinearAlgebraContext.bind(context)) {
+            checkInitialPoint(convexBody, initialPoint);
+
+            Vector[] initialPoints = new Vector[sampleSize];
+            Arrays.fill(initialPoints, initialPoint);
+            return runChains(convexBody, initialPoints, chainLength);
+        }
+    }
+
+    /**
+     * Continues one chain from each of the given points, for a given number of steps. This is useful for warm-starting
+     * chains from points which are already (approximately) uniformly distributed, for instance the result of a previous
+     * call to uniform() over a slightly larger convex body: in this case, a few steps suffice for mixing them again.
+     * @param convexBody: convex body to sample from
+     * @param points: matrix whose rows are the chains' starting points, all INSIDE the convex body
+     * @param length: number of steps of each chain
+     * @return matrix whose row i contains the last point of the chain started at the i-th row of points
+     * @throws IllegalArgumentException if length is negative
+     * @throws IncompatibleDimensionsException if points and convexBody have different dimensions
+     * @throws PointOutsideConvexBodyException if any of the points is not on the interior of convex body
+     */
+    public Matrix advance(ConvexBody convexBody, Matrix points, int length){
+        if (length < 0)
+            throw new IllegalArgumentException("Number of steps cannot be negative");
+
+        try (LinearAlgebraContext.Scope scope = LinearAlgebraContext.bind(context)) {
+            convexBody.checkDim(points);
 
-        double[][] sample = new double[sampleSize][initialPoint.getDim()];
+            Vector[] initialPoints = new Vector[points.getNumRows()];
+            points.forEachRow((i, row) -> {
+                checkInitialPoint(convexBody, row);
+                initialPoints[i] = row.copy();
+            });
+            return runChains(convexBody, initialPoints, length);
+        }
+    }
 
-        for (int i=0; i < sampleSize; i++)
-            sample[i] = sampleSinglePoint(convexBody, initialPoint).asArray();
+    /**
+     * Lazily samples a single long markov chain from a given convexbody. The chain first runs burnIn steps, then the
+     * current point is emitted once every thin steps, until limit points have been emitted. Steps are only computed as
+     * points are consumed, so statistics can be accumulated on the fly in constant memory, and a single long chain can
+     * replace the many restarts of uniform().
+     *
+     * Consecutive points are correlated, and all of them depend on the initial point; burnIn and thin control how much.
+     * The returned stream is sequential, and must be consumed by a single thread at a time.
+     * @param convexBody: convex body to sample from
+     * @param initialPoint: initial point INSIDE the convexbody (starting point for the algorithm)
+     * @param burnIn: number of steps before the first emitted point (if 0, the initial point itself is emitted first)
+     * @param thin: number of steps between consecutive emitted points
+     * @param limit: maximum number of emitted points
+     * @return stream of points of the chain
+     * @throws IllegalArgumentException if burnIn or limit are negative, or thin is non-positive
+     * @throws IncompatibleDimensionsException if initialPoint and convexBody have different dimensions
+     * @throws PointOutsideConvexBodyException if initialPoint is not on the interior of convex body
+     */
+    public Stream<Vector> stream(ConvexBody convexBody, Vector initialPoint, int burnIn, int thin, long limit){
+        if (burnIn < 0)
+            throw new IllegalArgumentException("Burn-in length cannot be negative");
 
-        return Matrix.FACTORY.make(sample);
+        if (thin <= 0)
+            throw new IllegalArgumentException("Thinning interval must be a positive integer");
+
+        if (limit < 0)
+            throw new IllegalArgumentException("Limit cannot be negative");
+
+        try (LinearAlgebraContext.Scope scope = LinearAlgebraContext.bind(context)) {
+            checkInitialPoint(convexBody, initialPoint);
+            SamplingCursor cursor = convexBody.cursor(initialPoint);
+            return StreamSupport.stream(new ChainSpliterator(this, cursor, getSampler(), burnIn, thin, limit), false);
+        }
     }
 
-    private Vector sampleSinglePoint(ConvexBody convexBody, Vector initialPoint){
-        Vector sample = initialPoint;
+    /**
+     * Same as stream(convexBody, initialPoint, burnIn, thin, limit), but without any limit: the returned stream is
+     * infinite, so it must be truncated by the consumer (through limit() or a short-circuiting operation, for instance).
+     * @param convexBody: convex body to sample from
+     * @param initialPoint: initial point INSIDE the convexbody (starting point for the algorithm)
+     * @param burnIn: number of steps before the first emitted point
+     * @param thin: number of steps between consecutive emitted points
+     * @return infinite stream of points of the chain
+     * @throws IllegalArgumentException if burnIn is negative, or thin is non-positive
+     * @throws IncompatibleDimensionsException if initialPoint and convexBody have different dimensions
+     * @throws PointOutsideConvexBodyException if initialPoint is not on the interior of convex body
+     */
+    public Stream<Vector> stream(ConvexBody convexBody, Vector initialPoint, int burnIn, int thin){
+        return stream(convexBody, initialPoint, burnIn, thin, Long.MAX_VALUE);
+    }
 
-        for (int i=0; i < chainLength; i++)
-            sample = step(convexBody, sample);
+    private Matrix runChains(ConvexBody convexBody, Vector[] initialPoints, int length){
+        Sampler sampler = getSampler();
+        Sampler[] samplers = new Sampler[initialPoints.length];
+        for (int i = 0; i < samplers.length; i++)
+            samplers[i] = sampler.split();
 
-        return sample;
+        int dim = initialPoints[0].getDim();
+        double[] sample = new double[initialPoints.length * dim];
+        ChainsTask task = new ChainsTask(convexBody, initialPoints, length, samplers, sample, 0, initialPoints.length);
+
+        if (forkJoinPool == null)
+            task.sampleChains();
+        else
+            forkJoinPool.invoke(task);
+
+        return Matrix.FACTORY.make(sample, initialPoints.length, dim);
+    }
+
+    private Vector sampleSinglePoint(ConvexBody convexBody, Vector initialPoint, int length, Sampler sampler){
+        SamplingCursor cursor = convexBody.cursor(initialPoint);
+
+        for (int i=0; i < length; i++)
+            step(cursor, sampler);
+
+        return cursor.getPoint();
+    }
+
+    /**
+     * Samples the chains in [start, end), writing their last point to the corresponding rows of the sample. When running
+     * in a pool, the range is recursively split in halves until a single chain is left; tasks write to disjoint rows of
+     * the sample, so no synchronization is needed.
+     */
+    private class ChainsTask extends RecursiveAction {
+        private final ConvexBody convexBody;
+        private final Vector[] initialPoints;
+        private final int length;
+        private final Sampler[] samplers;
+        private final double[] sample;
+        private final int start, end;
+
+        ChainsTask(ConvexBody convexBody, Vector[] initialPoints, int length, Sampler[] samplers, double[] sample, int start, int end) {
+            this.convexBody = convexBody;
+            this.initialPoints = initialPoints;
+            this.length = length;
+            this.samplers = samplers;
+            this.sample = sample;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= 1) {
+                try (LinearAlgebraContext.Scope scope = LinearAlgebraContext.bind(context)) {
+                    sampleChains();
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new ChainsTask(convexBody, initialPoints, length, samplers, sample, start, middle),
+                      new ChainsTask(convexBody, initialPoints, length, samplers, sample, middle, end));
+        }
+
+        void sampleChains() {
+            int dim = initialPoints[0].getDim();
+            for (int i = start; i < end; i++) {
+                Vector point = sampleSinglePoint(convexBody, initialPoints[i], length, samplers[i]);
+                for (int j = 0; j < dim; j++)
+                    sample[i * dim + j] = point.get(j);
+            }
+        }
     }
 
     private void checkInitialPoint(ConvexBody convexBody, Vector initialPoint){
@@ -110,6 +334,17 @@ abstract class RandomWalk{
      * @param point: current point in the algorithm (\(X_t\) at iteration t+1)
      * @return next point in the algorithm (\( X_{t+1} \) at the end of iteration t+1)
      */
-    abstract Vector step(ConvexBody convexBody, Vector point);
+    Vector step(ConvexBody convexBody, Vector point){
+        return step(convexBody.cursor(point), getSampler());
+    }
+
+    /**
+     * Same as step(convexBody, point), but moving a cursor which may keep some state between consecutive steps of a chain.
+     * @param cursor: cursor positioned at the current point \(X_t\)
+     * @param sampler: source of randomness
+     * @return next point \( X_{t+1} \), which is also the cursor's new position
+     * @see ConvexBody#cursor(Vector)
+     */
+    abstract Vector step(SamplingCursor cursor, Sampler sampler);
 }
 
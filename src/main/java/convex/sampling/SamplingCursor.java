@@ -0,0 +1,116 @@
+package convex.sampling;
+
+import convex.objects.ConvexBody;
+import exceptions.IncompatibleDimensionsException;
+import exceptions.convex.EmptyIntersectionException;
+import linalg.Vector;
+
+/**
+ * Current position of a random walk inside a convex body. Each step of a line-based walk first intersects the body with a
+ * line through the current point, and then moves to some position along that line:
+ *
+ * <pre>
+ *     LineSegment segment = cursor.intersect(direction);
+ *     Vector next = cursor.moveTo(segment.samplePosition(sampler));
+ * </pre>
+ *
+ * This base class simply delegates to ConvexBody.intersect(). Its purpose is to let a convex body keep some per-point
+ * state between consecutive steps, which may make intersections cheaper than recomputing them from scratch; such bodies
+ * return a specialized cursor from ConvexBody.cursor().
+ *
+ * @see ConvexBody#cursor(Vector)
+ * @see RandomWalk
+ */
+public class SamplingCursor {
+    private final ConvexBody convexBody;
+    private Vector point;
+    private Line line;
+
+    /**
+     * @param convexBody: convex body being sampled
+     * @param point: starting point
+     * @throws IncompatibleDimensionsException if point and convexBody have different dimensions
+     */
+    public SamplingCursor(ConvexBody convexBody, Vector point) {
+        convexBody.checkDim(point);
+        this.convexBody = convexBody;
+        this.point = point;
+    }
+
+    public ConvexBody getConvexBody() {
+        return convexBody;
+    }
+
+    /**
+     * @return current point. Moving the cursor does not modify the returned Vector.
+     */
+    public Vector getPoint() {
+        return point;
+    }
+
+    /**
+     * Intersects the convex body with the line through the current point along the given direction.
+     * @param direction: line's direction; it does not have to be normalized
+     * @return intersection segment, parametrized as \( X + t D \) for current point \(X\) and direction \(D\)
+     * @throws IllegalArgumentException if direction is the zero vector
+     * @throws EmptyIntersectionException if line does not intercept the convex body
+     */
+    public LineSegment intersect(Vector direction){
+        Line line = new Line(point, direction);
+        LineSegment segment = intersect(line);
+        this.line = line;
+        return segment;
+    }
+
+    /**
+     * Intersects the convex body with the line through the current point parallel to a coordinate axis.
+     * @param axis: coordinate index i; the line's direction is the i-th canonical basis vector \( e_i \)
+     * @return intersection segment, parametrized as \( X + t e_i \) for current point \(X\)
+     * @throws ArrayIndexOutOfBoundsException if axis is not a valid coordinate index
+     * @throws EmptyIntersectionException if line does not intercept the convex body
+     */
+    public LineSegment intersectAxis(int axis){
+        Vector direction = Vector.FACTORY.makeZero(point.getDim());
+        direction.set(axis, 1);
+        Line line = new Line(point, direction);
+        LineSegment segment = intersectAxis(line, axis);
+        this.line = line;
+        return segment;
+    }
+
+    /**
+     * Moves the cursor along the line of the last intersect() or intersectAxis() call.
+     * @param position: \( t \) parameter of the new point, usually taken from the intersection segment
+     * @return new current point \( X + t D \)
+     * @throws IllegalStateException if no line was intersected since the last move
+     */
+    public Vector moveTo(double position){
+        if (line == null)
+            throw new IllegalStateException("intersect() must be called before moving the cursor.");
+        point = line.getPoint(position);
+        moved(line, position);
+        line = null;
+        return point;
+    }
+
+    /**
+     * Computes the intersection between the convex body and a line centered at the current point.
+     */
+    protected LineSegment intersect(Line line){
+        return convexBody.intersect(line);
+    }
+
+    /**
+     * Same as intersect(line), for a line whose direction is the given coordinate axis. Bodies whose intersection is
+     * cheaper to compute along coordinate axes should override this method.
+     */
+    protected LineSegment intersectAxis(Line line, int axis){
+        return intersect(line);
+    }
+
+    /**
+     * Called after the cursor has moved to line.getPoint(position), so any cached state can be updated.
+     */
+    protected void moved(Line line, double position){
+    }
+}
@@ -0,0 +1,213 @@
+package dataset;
+
+import classifier.Label;
+import classifier.LabelCollection;
+import exceptions.IncompatibleDimensionsException;
+import linalg.Matrix;
+import linalg.libraries.offheap.OffHeapMatrix;
+import linalg.libraries.offheap.OffHeapMatrixFactory;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>A set of points, optionally labeled, stored in a compact binary file. Opening a dataset memory-maps the file and
+ * exposes the points as a read-only Matrix without copying nor parsing them, so datasets larger than the heap can be
+ * streamed through VersionSpace.addConstrains(Matrix, LabelCollection) or Classifier.predict(Matrix).</p>
+ *
+ * <p>File layout (all values little-endian):</p>
+ * <ul>
+ *     <li>header (24 bytes): magic number, format version, number of rows, number of columns, flags and a reserved
+ *     int, all of them 32-bit integers</li>
+ *     <li>points: rows * cols doubles, in row-major order</li>
+ *     <li>labels (only if the HAS_LABELS flag is set): one byte per row, holding Label.getValue()</li>
+ * </ul>
+ *
+ * <p>Datasets hold off-heap memory until closed, so they should be used in a try-with-resources block.</p>
+ *
+ * @see OffHeapMatrix
+ */
+public class Dataset implements AutoCloseable {
+    static final int MAGIC = 0x43425844;  // "CBXD"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    static final int HAS_LABELS = 1;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private final OffHeapMatrix points;
+    private final LabelCollection labels;
+
+    private Dataset(OffHeapMatrix points, LabelCollection labels) {
+        this.points = points;
+        this.labels = labels;
+    }
+
+    /**
+     * @return read-only, memory-mapped matrix of points (one per row)
+     */
+    public Matrix getPoints() {
+        return points;
+    }
+
+    /**
+     * @return whether the file stores a label per point
+     */
+    public boolean hasLabels() {
+        return labels != null;
+    }
+
+    /**
+     * @return labels of each point
+     * @throws IllegalStateException if the dataset is not labeled
+     */
+    public LabelCollection getLabels() {
+        if(labels == null)
+            throw new IllegalStateException("Dataset has no labels.");
+        return labels;
+    }
+
+    /**
+     * Unmaps the points. Neither the dataset nor its points matrix can be used afterwards.
+     */
+    @Override
+    public void close() {
+        points.close();
+    }
+
+    /**
+     * Memory-maps a dataset file.
+     * @param path: file written by Dataset.write
+     * @return opened dataset, to be closed by the caller
+     * @throws IOException if the file cannot be read or is not a valid dataset file
+     */
+    public static Dataset open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+            readFully(channel, header, 0);
+            ((Buffer) header).flip();
+
+            if(header.getInt() != MAGIC)
+                throw new IOException("Not a dataset file: " + path);
+            int version = header.getInt();
+            if(version != VERSION)
+                throw new IOException("Unsupported dataset version: " + version);
+            int rows = header.getInt(), cols = header.getInt(), flags = header.getInt();
+            if(rows <= 0 || cols <= 0)
+                throw new IOException(String.format("Invalid dataset shape: %d x %d", rows, cols));
+
+            long pointBytes = (long) rows * cols * Double.BYTES;
+            boolean labeled = (flags & HAS_LABELS) != 0;
+            long expectedSize = HEADER_BYTES + pointBytes + (labeled ? rows : 0);
+            if(channel.size() < expectedSize)
+                throw new IOException(String.format("Truncated dataset file: expected %d bytes, found %d", expectedSize, channel.size()));
+
+            LabelCollection labels = labeled ? readLabels(channel, HEADER_BYTES + pointBytes, rows) : null;
+            OffHeapMatrix points = new OffHeapMatrixFactory().map(channel, HEADER_BYTES, rows, cols, ORDER);
+            return new Dataset(points, labels);
+        }
+    }
+
+    private static LabelCollection readLabels(FileChannel channel, long position, int rows) throws IOException {
+        LabelCollection labels = new LabelCollection();
+        ByteBuffer buffer = ByteBuffer.allocate(Math.min(rows, 1 << 16));
+        int read = 0;
+        while(read < rows){
+            ((Buffer) buffer).clear();
+            ((Buffer) buffer).limit(Math.min(buffer.capacity(), rows - read));
+            readFully(channel, buffer, position + read);
+            ((Buffer) buffer).flip();
+            while(buffer.hasRemaining())
+                labels.add(toLabel(buffer.get()));
+            read += buffer.limit();
+        }
+        return labels;
+    }
+
+    private static Label toLabel(byte value) throws IOException {
+        if(value == Label.POSITIVE.getValue())
+            return Label.POSITIVE;
+        if(value == Label.NEGATIVE.getValue())
+            return Label.NEGATIVE;
+        throw new IOException("Invalid label value: " + value);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while(buffer.hasRemaining()){
+            int read = channel.read(buffer, position);
+            if(read < 0)
+                throw new IOException("Unexpected end of dataset file.");
+            position += read;
+        }
+    }
+
+    /**
+     * Writes an unlabeled dataset.
+     * @see #write(Path, Matrix, LabelCollection)
+     */
+    public static void write(Path path, Matrix points) throws IOException {
+        write(path, points, null);
+    }
+
+    /**
+     * Writes a dataset file, replacing any existing file. Points are copied one row at a time through Matrix.copyRow, and
+     * moved to the file in bulk, so they can themselves be an off-heap or memory-mapped matrix.
+     * @param path: file to write
+     * @param points: one point per row
+     * @param labels: label of each point, or null for an unlabeled dataset
+     * @throws IOException if writing fails
+     * @throws IncompatibleDimensionsException if labels and points have different sizes
+     */
+    public static void write(Path path, Matrix points, LabelCollection labels) throws IOException {
+        int rows = points.getNumRows(), cols = points.getNumCols();
+        if(labels != null && labels.size() != rows)
+            throw new IncompatibleDimensionsException(rows, labels.size());
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.max(HEADER_BYTES, 1 << 16)).order(ORDER);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols).putInt(labels == null ? 0 : HAS_LABELS).putInt(0);
+
+            double[] row = new double[cols];
+            for(int i=0; i < rows; i++) {
+                points.copyRow(i, row);
+                writeValues(channel, buffer, row);
+            }
+
+            if(labels != null) {
+                for (int i = 0; i < rows; i++) {
+                    if (!buffer.hasRemaining())
+                        flush(channel, buffer);
+                    buffer.put((byte) labels.get(i).getValue());
+                }
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Appends values to the buffer in bulk, flushing it to the channel whenever it gets full
+     */
+    private static void writeValues(FileChannel channel, ByteBuffer buffer, double[] values) throws IOException {
+        int offset = 0;
+        while(offset < values.length){
+            if(buffer.remaining() < Double.BYTES)
+                flush(channel, buffer);
+            int count = Math.min(values.length - offset, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(values, offset, count);
+            ((Buffer) buffer).position(buffer.position() + count * Double.BYTES);
+            offset += count;
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        ((Buffer) buffer).flip();
+        while(buffer.hasRemaining())
+            channel.write(buffer);
+        ((Buffer) buffer).clear();
+    }
+}
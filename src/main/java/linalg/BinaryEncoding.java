@@ -0,0 +1,311 @@
+package linalg;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>Compact, backend-independent binary encoding of Vector and Matrix objects, for persisting them through a ByteBuffer
+ * or any byte channel (such as a FileChannel). Several objects can be written one after the other on the same channel,
+ * and read back in the same order.</p>
+ *
+ * <p>Layout of each object (all values little-endian):</p>
+ * <ul>
+ *     <li>header (16 bytes): magic number, format version, number of rows and number of columns, all of them 32-bit
+ *     integers. Vectors store their dimension as number of rows, and 1 as number of columns.</li>
+ *     <li>values: rows * cols doubles, in row-major order</li>
+ * </ul>
+ *
+ * <p>Values are moved in bulk between byte buffers and double[] arrays, and decoded arrays are handed to
+ * Vector.FACTORY.make(double[]) or Matrix.FACTORY.make(double[], int, int), which adopt them as their storage for
+ * backends such as SIMPLE. Channels are read and written through a single buffer per call, so encoding and decoding
+ * large matrices takes no more memory than the matrix itself, and is bound by I/O rather than CPU: small objects go
+ * through a heap buffer of their own size, and larger ones through a fixed-size direct buffer.</p>
+ *
+ * <p>The shape found in a header is checked against the bytes left in the buffer or channel (when the channel knows its
+ * size, as a FileChannel does) before allocating the values, so a corrupted header fails fast instead of triggering a
+ * huge allocation.</p>
+ *
+ * @see Vector
+ * @see Matrix
+ */
+public final class BinaryEncoding {
+    static final int VECTOR_MAGIC = 0x56584243;  // "CBXV"
+    static final int MATRIX_MAGIC = 0x4D584243;  // "CBXM"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * Size of the direct buffer used for channel I/O
+     */
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    /**
+     * Largest payload moved through a heap buffer instead of a direct one
+     */
+    private static final int HEAP_BYTES = 1 << 16;
+
+    private BinaryEncoding() {
+    }
+
+    /**
+     * @param vector: vector to encode
+     * @return number of bytes taken by the encoding of 'vector'
+     */
+    public static long encodedSize(Vector vector){
+        return HEADER_BYTES + (long) vector.getDim() * Double.BYTES;
+    }
+
+    /**
+     * @param matrix: matrix to encode
+     * @return number of bytes taken by the encoding of 'matrix'
+     */
+    public static long encodedSize(Matrix matrix){
+        return HEADER_BYTES + (long) matrix.getNumRows() * matrix.getNumCols() * Double.BYTES;
+    }
+
+    /**
+     * Encodes a vector at the buffer's current position, which is moved past it. The buffer's byte order is not changed.
+     * @param vector: vector to encode
+     * @param buffer: destination buffer
+     * @throws java.nio.BufferOverflowException if the buffer has less than encodedSize(vector) bytes remaining
+     */
+    public static void write(Vector vector, ByteBuffer buffer){
+        ByteBuffer destination = buffer.duplicate().order(ORDER);
+        putHeader(destination, VECTOR_MAGIC, vector.getDim(), 1);
+        putValues(destination, vector.asArray(), 0, vector.getDim());
+        ((Buffer) buffer).position(destination.position());  // cast keeps the call Java 8 compatible
+    }
+
+    /**
+     * Encodes a matrix at the buffer's current position, which is moved past it. The buffer's byte order is not changed.
+     * @param matrix: matrix to encode
+     * @param buffer: destination buffer
+     * @throws java.nio.BufferOverflowException if the buffer has less than encodedSize(matrix) bytes remaining
+     */
+    public static void write(Matrix matrix, ByteBuffer buffer){
+        ByteBuffer destination = buffer.duplicate().order(ORDER);
+        putHeader(destination, MATRIX_MAGIC, matrix.getNumRows(), matrix.getNumCols());
+
+        double[] row = new double[matrix.getNumCols()];
+        for(int i=0; i < matrix.getNumRows(); i++) {
+            matrix.copyRow(i, row);
+            putValues(destination, row, 0, row.length);
+        }
+        ((Buffer) buffer).position(destination.position());
+    }
+
+    /**
+     * Decodes a vector from the buffer's current position, which is moved past it.
+     * @param buffer: source buffer
+     * @return decoded vector, created through Vector.FACTORY
+     * @throws IllegalArgumentException if the buffer does not contain an encoded vector
+     * @throws BufferUnderflowException if the buffer ends before the encoded vector
+     */
+    public static Vector readVector(ByteBuffer buffer){
+        ByteBuffer source = buffer.duplicate().order(ORDER);
+        int dim = getHeader(source, VECTOR_MAGIC)[0];
+        if(source.remaining() < (long) dim * Double.BYTES)
+            throw new BufferUnderflowException();
+
+        double[] values = new double[dim];
+        getValues(source, values, 0, dim);
+        ((Buffer) buffer).position(source.position());
+        return Vector.FACTORY.make(values);
+    }
+
+    /**
+     * Decodes a matrix from the buffer's current position, which is moved past it.
+     * @param buffer: source buffer
+     * @return decoded matrix, created through Matrix.FACTORY
+     * @throws IllegalArgumentException if the buffer does not contain an encoded matrix
+     * @throws BufferUnderflowException if the buffer ends before the encoded matrix
+     */
+    public static Matrix readMatrix(ByteBuffer buffer){
+        ByteBuffer source = buffer.duplicate().order(ORDER);
+        int[] shape = getHeader(source, MATRIX_MAGIC);
+        if(source.remaining() < (long) shape[0] * shape[1] * Double.BYTES)
+            throw new BufferUnderflowException();
+
+        double[] values = new double[shape[0] * shape[1]];
+        getValues(source, values, 0, values.length);
+        ((Buffer) buffer).position(source.position());
+        return Matrix.FACTORY.make(values, shape[0], shape[1]);
+    }
+
+    /**
+     * Writes the encoding of a vector to a channel, at its current position.
+     * @param vector: vector to encode
+     * @param channel: destination channel
+     * @throws IOException if writing fails
+     */
+    public static void write(Vector vector, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = allocate(encodedSize(vector));
+        putHeader(buffer, VECTOR_MAGIC, vector.getDim(), 1);
+        writeValues(channel, buffer, vector.asArray(), 0, vector.getDim());
+        flush(channel, buffer);
+    }
+
+    /**
+     * Writes the encoding of a matrix to a channel, at its current position. The matrix is read one row at a time through
+     * Matrix.copyRow, so it can itself be an off-heap or memory-mapped matrix.
+     * @param matrix: matrix to encode
+     * @param channel: destination channel
+     * @throws IOException if writing fails
+     */
+    public static void write(Matrix matrix, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = allocate(encodedSize(matrix));
+        putHeader(buffer, MATRIX_MAGIC, matrix.getNumRows(), matrix.getNumCols());
+
+        double[] row = new double[matrix.getNumCols()];
+        for(int i=0; i < matrix.getNumRows(); i++) {
+            matrix.copyRow(i, row);
+            writeValues(channel, buffer, row, 0, row.length);
+        }
+        flush(channel, buffer);
+    }
+
+    /**
+     * Reads a vector from a channel, at its current position.
+     * @param channel: source channel
+     * @return decoded vector, created through Vector.FACTORY
+     * @throws IOException if reading fails, the channel ends too early or it does not contain an encoded vector
+     */
+    public static Vector readVector(ReadableByteChannel channel) throws IOException {
+        int dim = readHeader(channel, VECTOR_MAGIC)[0];
+        checkRemaining(channel, (long) dim * Double.BYTES);
+
+        double[] values = new double[dim];
+        readValues(channel, allocate((long) dim * Double.BYTES), values);
+        return Vector.FACTORY.make(values);
+    }
+
+    /**
+     * Reads a matrix from a channel, at its current position.
+     * @param channel: source channel
+     * @return decoded matrix, created through Matrix.FACTORY
+     * @throws IOException if reading fails, the channel ends too early or it does not contain an encoded matrix
+     */
+    public static Matrix readMatrix(ReadableByteChannel channel) throws IOException {
+        int[] shape = readHeader(channel, MATRIX_MAGIC);
+        checkRemaining(channel, (long) shape[0] * shape[1] * Double.BYTES);
+
+        double[] values = new double[shape[0] * shape[1]];
+        readValues(channel, allocate((long) values.length * Double.BYTES), values);
+        return Matrix.FACTORY.make(values, shape[0], shape[1]);
+    }
+
+    /**
+     * @return heap buffer of 'size' bytes if it is at most HEAP_BYTES, or a direct buffer of up to CHUNK_BYTES otherwise
+     */
+    private static ByteBuffer allocate(long size){
+        if(size <= HEAP_BYTES)
+            return ByteBuffer.allocate((int) Math.max(size, HEADER_BYTES)).order(ORDER);
+        return ByteBuffer.allocateDirect((int) Math.min(size, CHUNK_BYTES)).order(ORDER);
+    }
+
+    /**
+     * Makes sure a channel of known size has at least 'size' bytes left, before allocating room for them
+     */
+    private static void checkRemaining(ReadableByteChannel channel, long size) throws IOException {
+        if(!(channel instanceof SeekableByteChannel))
+            return;
+
+        SeekableByteChannel seekable = (SeekableByteChannel) channel;
+        long remaining = seekable.size() - seekable.position();
+        if(remaining < size)
+            throw new IOException(String.format("Expected %d bytes of values, but only %d are left in the channel", size, remaining));
+    }
+
+    private static void putHeader(ByteBuffer buffer, int magic, int rows, int cols){
+        buffer.putInt(magic).putInt(VERSION).putInt(rows).putInt(cols);
+    }
+
+    private static int[] getHeader(ByteBuffer buffer, int magic){
+        if(buffer.remaining() < HEADER_BYTES)
+            throw new BufferUnderflowException();
+        try {
+            return checkHeader(buffer, magic);
+        } catch (IOException ex){
+            throw new IllegalArgumentException(ex.getMessage());
+        }
+    }
+
+    private static int[] readHeader(ReadableByteChannel channel, int magic) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+        readFully(channel, header);
+        ((Buffer) header).flip();
+        return checkHeader(header, magic);
+    }
+
+    private static int[] checkHeader(ByteBuffer header, int magic) throws IOException {
+        int found = header.getInt();
+        if(found != magic)
+            throw new IOException(String.format("Expected an encoded %s, found magic number 0x%08X", magic == VECTOR_MAGIC ? "vector" : "matrix", found));
+        int version = header.getInt();
+        if(version != VERSION)
+            throw new IOException("Unsupported encoding version: " + version);
+        int rows = header.getInt(), cols = header.getInt();
+        if(rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE)
+            throw new IOException(String.format("Invalid shape: %d x %d", rows, cols));
+        return new int[] {rows, cols};
+    }
+
+    private static void putValues(ByteBuffer buffer, double[] values, int offset, int length){
+        buffer.asDoubleBuffer().put(values, offset, length);
+        ((Buffer) buffer).position(buffer.position() + length * Double.BYTES);
+    }
+
+    private static void getValues(ByteBuffer buffer, double[] values, int offset, int length){
+        buffer.asDoubleBuffer().get(values, offset, length);
+        ((Buffer) buffer).position(buffer.position() + length * Double.BYTES);
+    }
+
+    /**
+     * Appends values to the buffer, flushing it to the channel whenever it gets full
+     */
+    private static void writeValues(WritableByteChannel channel, ByteBuffer buffer, double[] values, int offset, int length) throws IOException {
+        while(length > 0){
+            if(buffer.remaining() < Double.BYTES)
+                flush(channel, buffer);
+            int count = Math.min(length, buffer.remaining() / Double.BYTES);
+            putValues(buffer, values, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    private static void readValues(ReadableByteChannel channel, ByteBuffer buffer, double[] values) throws IOException {
+        int offset = 0;
+        while(offset < values.length){
+            ((Buffer) buffer).clear();
+            ((Buffer) buffer).limit((int) Math.min(buffer.capacity(), (long) (values.length - offset) * Double.BYTES));
+            readFully(channel, buffer);
+            ((Buffer) buffer).flip();
+
+            int count = buffer.remaining() / Double.BYTES;
+            getValues(buffer, values, offset, count);
+            offset += count;
+        }
+    }
+
+    private static void flush(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        ((Buffer) buffer).flip();
+        while(buffer.hasRemaining())
+            channel.write(buffer);
+        ((Buffer) buffer).clear();
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while(buffer.hasRemaining()){
+            if(channel.read(buffer) < 0)
+                throw new IOException("Unexpected end of channel.");
+        }
+    }
+}
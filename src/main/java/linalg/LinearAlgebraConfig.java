@@ -1,12 +1,6 @@
 package linalg;
 
-import exceptions.linalg.LinearAlgebraLibraryNotFound;
-import linalg.libraries.apache.ApacheMatrixFactory;
-import linalg.libraries.apache.ApacheVectorFactory;
-import linalg.libraries.ojalgo.OjalgoMatrixFactory;
-import linalg.libraries.ojalgo.OjalgoVectorFactory;
-import linalg.libraries.simple.SimpleMatrixFactory;
-import linalg.libraries.simple.SimpleVectorFactory;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The LinearAlgebraConfig is a single entry point for all operations related to getting or setting of which Linear Algebra
@@ -18,49 +12,44 @@ import linalg.libraries.simple.SimpleVectorFactory;
  * LinearAlgebraLibrary is changed more than once, any object created BEFORE the change cannot communicate with objects created
  * AFTER the change, since they use different libraries under the hood.
  *
+ * The library set here is the default LinearAlgebraContext, used whenever no other context is bound to the current
+ * thread. Use LinearAlgebraContext directly to run sessions with different libraries side by side.
+ *
+ * Finally, it also controls how many threads heavy operations (such as Matrix-Matrix multiplication) may use, through
+ * setParallelism(). It defaults to the number of available processors.
+ *
  * @author lucianodp
  */
 public class LinearAlgebraConfig {
-    private static LinearAlgebraLibrary library = null;
-    private static VectorFactory vectorFactory = null;
-    private static MatrixFactory matrixFactory = null;
+    private static LinearAlgebraContext defaultContext = null;
+    private static volatile int parallelism = Runtime.getRuntime().availableProcessors();
+    private static volatile ForkJoinPool forkJoinPool = null;
 
     /**
      * Get the current library
      * @return LinearAlgebraLibrary enum
      */
     public static LinearAlgebraLibrary getLibrary(){
-        return library;
+        return defaultContext == null ? null : defaultContext.getLibrary();
     }
 
     /**
      * Set a new library of choice.
      * @param library: LinearAlgebraLibrary enum of choice
      * @throws NullPointerException if library is null
-     * @throws LinearAlgebraLibraryNotFound if library was unrecognized (should never happen).
+     * @throws exceptions.linalg.LinearAlgebraLibraryNotFound if library was unrecognized (should never happen).
      */
     public static void setLibrary(LinearAlgebraLibrary library){
-        if(library == null)
-            throw new NullPointerException("Library cannot be null.");
-
-        switch (library){
-            case APACHE:
-                vectorFactory = new ApacheVectorFactory();
-                matrixFactory = new ApacheMatrixFactory();
-                break;
-            case OJALGO:
-                vectorFactory = new OjalgoVectorFactory();
-                matrixFactory = new OjalgoMatrixFactory();
-                break;
-            case SIMPLE:
-                vectorFactory = new SimpleVectorFactory();
-                matrixFactory = new SimpleMatrixFactory();
-                break;
-            default:
-                throw new LinearAlgebraLibraryNotFound(library.name());
-        }
+        defaultContext = new LinearAlgebraContext(library);
+    }
 
-        LinearAlgebraConfig.library = library;
+    /**
+     * Get the default context, used when no other context is bound to the current thread. Returns null if library was not
+     * set beforehand.
+     * @return LinearAlgebraContext
+     */
+    public static LinearAlgebraContext getDefaultContext(){
+        return defaultContext;
     }
 
     /**
@@ -68,7 +57,7 @@ public class LinearAlgebraConfig {
      * @return VectorFactory
      */
     public static VectorFactory getVectorFactory(){
-        return vectorFactory;
+        return defaultContext == null ? null : defaultContext.getVectorFactory();
     }
 
     /**
@@ -76,6 +65,45 @@ public class LinearAlgebraConfig {
      * @return MatrixFactory
      */
     public static MatrixFactory getMatrixFactory(){
-        return matrixFactory;
+        return defaultContext == null ? null : defaultContext.getMatrixFactory();
+    }
+
+    /**
+     * @return maximum number of threads used by parallel linear algebra operations
+     */
+    public static int getParallelism(){
+        return parallelism;
+    }
+
+    /**
+     * Set the maximum number of threads used by parallel linear algebra operations. Use 1 to disable parallelism.
+     *
+     * Operations which already fetched the previous pool keep running on it. That pool is never shut down: it is simply
+     * dropped, and its idle worker threads terminate on their own once those operations are done.
+     * @param parallelism: number of threads
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public static synchronized void setParallelism(int parallelism){
+        if(parallelism <= 0)
+            throw new IllegalArgumentException("Parallelism must be positive.");
+
+        if(parallelism != LinearAlgebraConfig.parallelism)
+            forkJoinPool = null;
+        LinearAlgebraConfig.parallelism = parallelism;
+    }
+
+    /**
+     * @return pool running parallel linear algebra operations, created on first use with getParallelism() threads
+     */
+    static ForkJoinPool getForkJoinPool(){
+        ForkJoinPool pool = forkJoinPool;
+        if(pool != null)
+            return pool;
+
+        synchronized (LinearAlgebraConfig.class) {
+            if(forkJoinPool == null)
+                forkJoinPool = new ForkJoinPool(parallelism);
+            return forkJoinPool;
+        }
     }
 }
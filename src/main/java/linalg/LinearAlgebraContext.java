@@ -0,0 +1,144 @@
+package linalg;
+
+import exceptions.linalg.LinearAlgebraLibraryNotFound;
+import linalg.libraries.apache.ApacheMatrixFactory;
+import linalg.libraries.apache.ApacheVectorFactory;
+import linalg.libraries.float32.FloatMatrixFactory;
+import linalg.libraries.float32.FloatVectorFactory;
+import linalg.libraries.hybrid.HybridMatrixFactory;
+import linalg.libraries.ojalgo.OjalgoMatrixFactory;
+import linalg.libraries.ojalgo.OjalgoVectorFactory;
+import linalg.libraries.simd.SimdMatrixFactory;
+import linalg.libraries.simd.SimdVectorFactory;
+import linalg.libraries.simple.SimpleMatrixFactory;
+import linalg.libraries.simple.SimpleVectorFactory;
+
+/**
+ * A LinearAlgebraContext pairs a Linear Algebra library with its Vector and Matrix factories. It allows several sessions
+ * using different libraries to run in the same JVM, without sharing the global state in LinearAlgebraConfig.
+ *
+ * A context can be bound to the current thread through bind(), in which case Vector.FACTORY and Matrix.FACTORY create
+ * objects through it until the returned Scope is closed:
+ *
+ * <pre>
+ *     try (LinearAlgebraContext.Scope scope = context.bind()) {
+ *         Vector vector = Vector.FACTORY.make(values);  // created by context's library
+ *     }
+ * </pre>
+ *
+ * When no context is bound, the default context held by LinearAlgebraConfig is used, so the static API keeps working as
+ * before. Classes such as LinearVersionSpace and HitAndRun can also receive a context explicitly, binding it themselves
+ * whenever they run.
+ *
+ * @see LinearAlgebraConfig
+ * @author lucianodp
+ */
+public class LinearAlgebraContext {
+    private static final ThreadLocal<LinearAlgebraContext> BOUND = new ThreadLocal<>();
+
+    private final LinearAlgebraLibrary library;
+    private final VectorFactory vectorFactory;
+    private final MatrixFactory matrixFactory;
+
+    /**
+     * @param library: LinearAlgebraLibrary enum of choice
+     * @throws NullPointerException if library is null
+     * @throws LinearAlgebraLibraryNotFound if library was unrecognized (should never happen).
+     */
+    public LinearAlgebraContext(LinearAlgebraLibrary library){
+        if(library == null)
+            throw new NullPointerException("Library cannot be null.");
+
+        switch (library){
+            case APACHE:
+                vectorFactory = new ApacheVectorFactory();
+                matrixFactory = new ApacheMatrixFactory();
+                break;
+            case OJALGO:
+                vectorFactory = new OjalgoVectorFactory();
+                matrixFactory = new OjalgoMatrixFactory();
+                break;
+            case SIMPLE:
+                vectorFactory = new SimpleVectorFactory();
+                matrixFactory = new SimpleMatrixFactory();
+                break;
+            case SIMD:
+                vectorFactory = new SimdVectorFactory();
+                matrixFactory = new SimdMatrixFactory();
+                break;
+            case FLOAT32:
+                vectorFactory = new FloatVectorFactory();
+                matrixFactory = new FloatMatrixFactory();
+                break;
+            case HYBRID:
+                vectorFactory = new SimpleVectorFactory();
+                matrixFactory = new HybridMatrixFactory();
+                break;
+            default:
+                throw new LinearAlgebraLibraryNotFound(library.name());
+        }
+
+        this.library = library;
+    }
+
+    public LinearAlgebraLibrary getLibrary() {
+        return library;
+    }
+
+    public VectorFactory getVectorFactory() {
+        return vectorFactory;
+    }
+
+    public MatrixFactory getMatrixFactory() {
+        return matrixFactory;
+    }
+
+    /**
+     * @return context bound to the current thread, or LinearAlgebraConfig's default context if none is bound (which is
+     * null if no library was set).
+     */
+    public static LinearAlgebraContext current(){
+        LinearAlgebraContext context = BOUND.get();
+        return context != null ? context : LinearAlgebraConfig.getDefaultContext();
+    }
+
+    /**
+     * Binds this context to the current thread, until the returned scope is closed.
+     * @return scope restoring the previous binding when closed
+     */
+    public Scope bind(){
+        return bind(this);
+    }
+
+    /**
+     * Binds a context to the current thread, until the returned scope is closed. Binding null restores the default
+     * context for the duration of the scope.
+     * @param context: context to bind, possibly null
+     * @return scope restoring the previous binding when closed
+     */
+    public static Scope bind(LinearAlgebraContext context){
+        Scope scope = new Scope(BOUND.get());
+        BOUND.set(context);
+        return scope;
+    }
+
+    /**
+     * Restores the previously bound context when closed. Scopes must be closed in the same thread they were opened, and in
+     * reverse order (which try-with-resources blocks guarantee).
+     */
+    public static final class Scope implements AutoCloseable {
+        private final LinearAlgebraContext previous;
+
+        private Scope(LinearAlgebraContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if(previous == null)
+                BOUND.remove();
+            else
+                BOUND.set(previous);
+        }
+    }
+}
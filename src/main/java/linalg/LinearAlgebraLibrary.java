@@ -1,7 +1,7 @@
 package linalg;
 
 /**
- * All linear algebra libraries supported at this moment. Right now, we have three implementations:
+ * All linear algebra libraries supported at this moment. Right now, we have six implementations:
  *
  * <ul>
  *     <li>APACHE: Apache Commons Math is an Apache project aiming to provide a very broad LinearAlgebra toolkit.</li>
@@ -10,6 +10,12 @@ package linalg;
  *     available across a large number of operations. </li>
  *     <li>SIMPLE: this is a small vector/matrix library implemented by ourselves, used mostly for performance benchmarking
  *     and testing. You should rather use one of the options above.</li>
+ *     <li>SIMD: same layout as SIMPLE, with its kernels written on the JDK Vector API when running on Java 17 or newer
+ *     (falling back to plain loops otherwise).</li>
+ *     <li>FLOAT32: single-precision version of SIMPLE, using half the memory. Dot products and norms are still accumulated
+ *     in double precision, but stored values only keep about 7 significant digits.</li>
+ *     <li>HYBRID: uses SIMPLE for vectors and most matrix operations, but switches to OJALGO for large matrix-matrix
+ *     products, converting between both representations as needed.</li>
  * </ul>
  *
  * @see <a href="http://commons.apache.org/proper/commons-math/">Apache Commons Math website</a>
@@ -18,5 +24,5 @@ package linalg;
  */
 
 public enum LinearAlgebraLibrary {
-    APACHE, OJALGO, SIMPLE
+    APACHE, OJALGO, SIMPLE, SIMD, FLOAT32, HYBRID
 }
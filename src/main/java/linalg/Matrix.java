@@ -24,26 +24,36 @@ public abstract class Matrix {
 
     /**
      * FACTORY, as the name implies, is a simple factory class providing a shortcut for Matrix creation. It instantiates
-     * Matrix objects based on LinearAlgebraConfig configurations, so both APIs always give the same results. However,
-     * we are not able to directly set a new library from here, use LinearAlgebraConfig instead.
+     * Matrix objects through the LinearAlgebraContext bound to the current thread, or through LinearAlgebraConfig's
+     * configuration if none is bound, so both APIs always give the same results. However,
+     * we are not able to directly set a new library from here, use LinearAlgebraConfig or LinearAlgebraContext instead.
      *
      * @see LinearAlgebraConfig
+     * @see LinearAlgebraContext
      */
     public static class FACTORY{
         public static Matrix make(double[][] values){
-            return LinearAlgebraConfig.getMatrixFactory().make(values);
+            return LinearAlgebraContext.current().getMatrixFactory().make(values);
+        }
+
+        public static Matrix make(double[] values, int rows, int cols){
+            return LinearAlgebraContext.current().getMatrixFactory().make(values, rows, cols);
+        }
+
+        public static Matrix makeView(double[] values, int rows, int cols){
+            return LinearAlgebraContext.current().getMatrixFactory().makeView(values, rows, cols);
         }
 
         public static Matrix makeFilled(int rows, int cols, double fill){
-            return LinearAlgebraConfig.getMatrixFactory().makeFilled(rows, cols, fill);
+            return LinearAlgebraContext.current().getMatrixFactory().makeFilled(rows, cols, fill);
         }
 
         public static Matrix makeZero(int rows, int cols){
-            return LinearAlgebraConfig.getMatrixFactory().makeZero(rows, cols);
+            return LinearAlgebraContext.current().getMatrixFactory().makeZero(rows, cols);
         }
 
         public static Matrix makeEye(int dim){
-            return LinearAlgebraConfig.getMatrixFactory().makeEye(dim);
+            return LinearAlgebraContext.current().getMatrixFactory().makeEye(dim);
         }
     }
 
@@ -101,19 +111,65 @@ public abstract class Matrix {
         return colVector;
     }
 
+    /**
+     * Copies a given row of the matrix into an existing array, without any allocation.
+     * @param row: row to copy
+     * @param destination: array of length at least getNumCols()
+     * @throws ArrayIndexOutOfBoundsException if row is negative or larger than getNumRows()
+     */
+    public void copyRow(int row, double[] destination){
+        for(int i=0; i < getNumCols(); i++)
+            destination[i] = get(row, i);
+    }
+
+    /**
+     * @return a cursor scanning the rows of this matrix in order, through a single reused buffer
+     * @see RowCursor
+     */
+    public RowCursor rowCursor(){
+        return new RowCursor(this);
+    }
+
+    /**
+     * Calls 'consumer' on each row of the matrix, in order. Contrary to getRow(), no new vector is allocated per row:
+     * the same Vector object is reused and overwritten at each call, so consumers must copy it if they need to keep it.
+     * @param consumer: function receiving each row index and row
+     */
+    public void forEachRow(RowConsumer consumer){
+        RowCursor cursor = rowCursor();
+        while (cursor.next())
+            consumer.accept(cursor.getIndex(), cursor.getRow());
+    }
+
+    /**
+     * Receives the rows of a matrix during forEachRow().
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+        /**
+         * @param index: row position
+         * @param row: row contents, only valid until this method returns
+         */
+        void accept(int index, Vector row);
+    }
+
     /**
      * @param start: start column
      * @param end: end column (not included)
      * @return submatrix consisted of all columns between 'start' and 'end'
+     * @throws ArrayIndexOutOfBoundsException if start is negative or end is larger than getNumCols()
+     * @throws IncompatibleBoundsException if start is not smaller than end
      */
     public Matrix sliceColumns(int start, int end){
+        if(start < 0 || end > getNumCols())
+            throw new ArrayIndexOutOfBoundsException();
         if(start >= end)
             throw new IncompatibleBoundsException();
 
         Matrix result = Matrix.FACTORY.makeZero(getNumRows(), end - start);
         for(int i=0; i < getNumRows(); i++)
             for(int j=start; j < end; j++)
-                result.set(i, j, get(i,j));
+                result.set(i, j - start, get(i,j));
         return result;
     }
 
@@ -208,6 +264,8 @@ public abstract class Matrix {
     }
 
     /**
+     * Both operands are first copied into row-major arrays, and the product is computed by the cache-blocked (and, for
+     * large matrices, parallel) kernel in MatrixMultiplication.
      * @param matrix: matrix to multiply to the right
      * @return Matrix-Matrix multiplication result
      */
@@ -215,16 +273,43 @@ public abstract class Matrix {
         if(this.getNumCols() != matrix.getNumRows())
             throw new IncompatibleDimensionsException(this.getNumCols(), matrix.getNumRows());
 
-        Matrix result = FACTORY.makeZero(this.getNumRows(), matrix.getNumCols());
-        for(int i=0; i < this.getNumRows(); i++) {
-            for (int j = 0; j < matrix.getNumCols(); j++) {
-                double sum = 0.0;
-                for (int k = 0; k < matrix.getNumRows(); k++)
-                    sum += this.get(i, k) * matrix.get(k, j);
-                result.set(i, j, sum);
-            }
+        int rows = getNumRows(), inner = getNumCols(), cols = matrix.getNumCols();
+        double[] product = new double[rows * cols];
+        MatrixMultiplication.multiply(toRowMajor(this), toRowMajor(matrix), product, rows, inner, cols);
+
+        double[][] result = new double[rows][cols];
+        for(int i=0; i < rows; i++)
+            System.arraycopy(product, i * cols, result[i], 0, cols);
+        return FACTORY.make(result);
+    }
+
+    /**
+     * Computes \( A B^T \), where A is this matrix and B is 'matrix', without building the transpose of B: element (i, j)
+     * of the result is the dot product of row i of A and row j of B. This generic implementation copies both operands into
+     * row-major arrays and runs the kernel in MatrixMultiplication; backends override it with native versions.
+     * @param matrix: matrix B, whose transpose is multiplied to the right
+     * @return Matrix of size getNumRows() x matrix.getNumRows()
+     * @throws IncompatibleDimensionsException if both matrices have a different number of columns
+     */
+    public Matrix multiplyTransposed(Matrix matrix){
+        if(this.getNumCols() != matrix.getNumCols())
+            throw new IncompatibleDimensionsException(this.getNumCols(), matrix.getNumCols());
+
+        int rows = getNumRows(), inner = getNumCols(), cols = matrix.getNumRows();
+        double[] product = new double[rows * cols];
+        MatrixMultiplication.multiplyTransposed(toRowMajor(this), toRowMajor(matrix), product, rows, inner, cols);
+        return FACTORY.make(product, rows, cols);
+    }
+
+    private static double[] toRowMajor(Matrix matrix){
+        int rows = matrix.getNumRows(), cols = matrix.getNumCols();
+        double[] values = new double[rows * cols];
+        double[] row = new double[cols];
+        for(int i=0; i < rows; i++) {
+            matrix.copyRow(i, row);
+            System.arraycopy(row, 0, values, i * cols, cols);
         }
-        return result;
+        return values;
     }
 
     /**
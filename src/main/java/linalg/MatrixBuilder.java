@@ -0,0 +1,174 @@
+package linalg;
+
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.NegativeDimensionException;
+import linalg.libraries.sparse.SparseVector;
+
+import java.util.Arrays;
+
+/**
+ * Append-only, growable collection of rows which can be turned into a Matrix. Rows are kept in a single contiguous
+ * row-major array, whose capacity is doubled whenever it runs out of space, so appending a row costs amortized O(cols).
+ *
+ * build() hands the array over to the new Matrix, which adopts it without copying for backends storing their elements in
+ * row-major order (see MatrixFactory.make(double[], int, int)). The array is trimmed first, unless the builder holds
+ * exactly as many rows as its capacity (for instance, when the expected number of rows was given at construction) and
+ * no snapshot of it is still around.
+ * The builder is left empty afterwards, and can be reused for building another matrix.
+ *
+ * snapshot() instead keeps the array, so more rows can be appended afterwards: the snapshot is a view over the rows
+ * appended so far (see MatrixFactory.makeView(double[], int, int)), which later rows never touch. Alternating appends
+ * and snapshots thus costs amortized O(cols) per row on backends sharing the array, instead of copying every row again.
+ *
+ * @see Matrix
+ * @see MatrixFactory#make(double[], int, int)
+ */
+public class MatrixBuilder {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int cols;
+    private double[] storage;
+    private int rows;
+    private boolean snapshotTaken;
+
+    /**
+     * @param cols: number of columns of every row
+     * @throws NegativeDimensionException if cols is not positive
+     */
+    public MatrixBuilder(int cols) {
+        this(cols, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param cols: number of columns of every row
+     * @param expectedRows: number of rows to reserve space for
+     * @throws NegativeDimensionException if cols or expectedRows are not positive
+     */
+    public MatrixBuilder(int cols, int expectedRows) {
+        if(cols <= 0)
+            throw new NegativeDimensionException(cols);
+        if(expectedRows <= 0)
+            throw new NegativeDimensionException(expectedRows);
+
+        this.cols = cols;
+        this.storage = new double[cols * expectedRows];
+    }
+
+    /**
+     * @return number of rows appended so far
+     */
+    public int getNumRows() {
+        return rows;
+    }
+
+    /**
+     * @return number of columns of every row
+     */
+    public int getNumCols() {
+        return cols;
+    }
+
+    /**
+     * @return whether no rows have been appended yet
+     */
+    public boolean isEmpty(){
+        return rows == 0;
+    }
+
+    /**
+     * @param row: row position
+     * @param col: column position
+     * @return element at row 'row' and column 'col'
+     * @throws ArrayIndexOutOfBoundsException if row or col are out of bounds
+     */
+    public double get(int row, int col){
+        if(row < 0 || row >= rows || col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+        return storage[row * cols + col];
+    }
+
+    /**
+     * Appends a copy of the given values as the last row
+     * @param row: row values
+     * @return this builder
+     * @throws IncompatibleDimensionsException if row.length is different from getNumCols()
+     */
+    public MatrixBuilder appendRow(double[] row){
+        if(row.length != cols)
+            throw new IncompatibleDimensionsException(cols, row.length);
+
+        System.arraycopy(row, 0, reserveRow(), rows++ * cols, cols);
+        return this;
+    }
+
+    /**
+     * Appends a copy of the given vector as the last row. Sparse vectors only write their non-zeros over a zeroed row,
+     * instead of being read one component at a time.
+     * @param row: row values
+     * @return this builder
+     * @throws IncompatibleDimensionsException if row's dimension is different from getNumCols()
+     */
+    public MatrixBuilder appendRow(Vector row){
+        if(row.getDim() != cols)
+            throw new IncompatibleDimensionsException(cols, row.getDim());
+
+        double[] destination = reserveRow();
+        int start = rows * cols;
+        if(row instanceof SparseVector) {
+            SparseVector sparse = (SparseVector) row;
+            Arrays.fill(destination, start, start + cols, 0);
+            for (int p = 0; p < sparse.getNumNonZeros(); p++)
+                destination[start + sparse.getIndexAt(p)] = sparse.getValueAt(p);
+        }
+        else {
+            for (int j = 0, pos = start; j < cols; j++, pos++)
+                destination[pos] = row.get(j);
+        }
+        rows++;
+        return this;
+    }
+
+    /**
+     * Makes sure there is room for one more row, doubling the capacity if needed
+     * @return the storage array
+     */
+    private double[] reserveRow(){
+        int required = (rows + 1) * cols;
+        if(required > storage.length)
+            storage = Arrays.copyOf(storage, Math.max(required, 2 * storage.length));
+        return storage;
+    }
+
+    /**
+     * Creates a Matrix containing all rows appended so far, through the current Matrix.FACTORY, without emptying this
+     * builder. Rows appended afterwards do not show up in the snapshot.
+     * @return Matrix of size getNumRows() x getNumCols()
+     * @throws NegativeDimensionException if no rows have been appended
+     */
+    public Matrix snapshot(){
+        if(rows == 0)
+            throw new NegativeDimensionException(0);
+
+        snapshotTaken = true;
+        return Matrix.FACTORY.makeView(storage, rows, cols);
+    }
+
+    /**
+     * Creates a Matrix containing all rows appended so far, through the current Matrix.FACTORY, and empties this builder.
+     * @return Matrix of size getNumRows() x getNumCols()
+     * @throws NegativeDimensionException if no rows have been appended
+     */
+    public Matrix build(){
+        if(rows == 0)
+            throw new NegativeDimensionException(0);
+
+        boolean adopt = storage.length == rows * cols && !snapshotTaken;
+        double[] values = adopt ? storage : Arrays.copyOf(storage, rows * cols);
+        Matrix matrix = Matrix.FACTORY.make(values, rows, cols);
+
+        storage = new double[0];
+        rows = 0;
+        snapshotTaken = false;
+        return matrix;
+    }
+}
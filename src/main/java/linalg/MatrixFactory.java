@@ -1,7 +1,10 @@
 package linalg;
 
+import exceptions.IncompatibleDimensionsException;
 import exceptions.linalg.NegativeDimensionException;
 
+import java.util.Arrays;
+
 /**
  * Interface for creating Matrix objects. Factories shouldn't (but can) be directly instantiated; you can access its methods
  * by requesting one factory from LinearAlgebraConfig.getMatrixLibrary() or by using Matrix.FACTORY.{method of choice}.
@@ -16,6 +19,43 @@ public interface MatrixFactory {
      */
     Matrix make(double[][] values);
 
+    /**
+     * Create Matrix from its elements in row-major order, that is, element (i, j) is given by values[i * cols + j].
+     * Backends storing their elements the same way (such as SIMPLE) adopt the array as their storage, without copying it,
+     * so it must not be modified by the caller afterwards.
+     * @param values: array of length rows * cols, in row-major order
+     * @param rows: number of rows
+     * @param cols: number of columns
+     * @return Matrix containing values
+     * @throws NegativeDimensionException if rows or cols is not positive
+     * @throws IncompatibleDimensionsException if values.length is different from rows * cols
+     */
+    default Matrix make(double[] values, int rows, int cols){
+        checkRowMajor(values, rows, cols);
+
+        double[][] result = new double[rows][cols];
+        for(int i=0; i < rows; i++)
+            System.arraycopy(values, i * cols, result[i], 0, cols);
+        return make(result);
+    }
+
+    /**
+     * Create Matrix from the first rows * cols elements of an array, in row-major order. Contrary to make(double[], int,
+     * int), the array may be longer: the caller can keep writing past that range (for instance, appending new rows), but
+     * must not modify the range itself afterwards. Backends storing their elements in row-major order (such as SIMPLE)
+     * share the array instead of copying the range, and only copy it before the matrix's first write.
+     * @param values: array of length at least rows * cols, in row-major order
+     * @param rows: number of rows
+     * @param cols: number of columns
+     * @return Matrix containing the first rows * cols values
+     * @throws NegativeDimensionException if rows or cols is not positive
+     * @throws IncompatibleDimensionsException if values.length is smaller than rows * cols
+     */
+    default Matrix makeView(double[] values, int rows, int cols){
+        checkView(values, rows, cols);
+        return make(Arrays.copyOf(values, rows * cols), rows, cols);
+    }
+
     /**
      * Create matrix of given size populated with the same value.
      * @param rows: number of rows
@@ -42,4 +82,25 @@ public interface MatrixFactory {
      * @throws NegativeDimensionException if dim is negative
      */
     Matrix makeEye(int dim);
+
+    /**
+     * Validates the arguments of make(double[], int, int).
+     */
+    static void checkView(double[] values, int rows, int cols){
+        if(rows <= 0)
+            throw new NegativeDimensionException(rows);
+        if(cols <= 0)
+            throw new NegativeDimensionException(cols);
+        if(values.length < rows * cols)
+            throw new IncompatibleDimensionsException(rows * cols, values.length);
+    }
+
+    static void checkRowMajor(double[] values, int rows, int cols){
+        if(rows <= 0)
+            throw new NegativeDimensionException(rows);
+        if(cols <= 0)
+            throw new NegativeDimensionException(cols);
+        if(values.length != rows * cols)
+            throw new IncompatibleDimensionsException(rows * cols, values.length);
+    }
 }
@@ -0,0 +1,147 @@
+package linalg;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Cache-blocked Matrix-Matrix multiplication kernels over row-major double[] arrays, used by Matrix.multiply(Matrix),
+ * Matrix.multiplyTransposed(Matrix) and by the backends storing their elements in a flat array.
+ *
+ * The product is computed in i-k-j order over square tiles of the inner and column dimensions, so each tile of the
+ * right-hand side stays in cache while all rows of the current block are processed. Above a size threshold, rows are
+ * split into blocks which are multiplied in parallel by the ForkJoinPool configured in LinearAlgebraConfig.
+ *
+ * For \( A B^T \), each element of the result is the dot product of a row of A and a row of B, so both operands are read
+ * along their rows. Rows of B are processed in tiles, which stay in cache while all rows of the current block of A go
+ * through them.
+ *
+ * @see LinearAlgebraConfig#setParallelism(int)
+ */
+public final class MatrixMultiplication {
+    /**
+     * Side of the tiles over the inner and column dimensions
+     */
+    private static final int TILE_SIZE = 64;
+
+    /**
+     * Maximum number of rows multiplied by a single task
+     */
+    private static final int ROW_BLOCK_SIZE = 32;
+
+    /**
+     * Minimum number of multiply-adds before we go parallel
+     */
+    private static final long PARALLEL_THRESHOLD = 1L << 18;
+
+    private MatrixMultiplication() {
+    }
+
+    /**
+     * Computes \( C = A B \).
+     * @param left: A, a rows x inner matrix in row-major order
+     * @param right: B, a inner x cols matrix in row-major order
+     * @param result: C, a zero-filled rows x cols array in row-major order
+     * @param rows: number of rows of A
+     * @param inner: number of columns of A (and rows of B)
+     * @param cols: number of columns of B
+     */
+    public static void multiply(double[] left, double[] right, double[] result, int rows, int inner, int cols) {
+        int parallelism = LinearAlgebraConfig.getParallelism();
+        if(parallelism <= 1 || rows <= ROW_BLOCK_SIZE || (long) rows * inner * cols < PARALLEL_THRESHOLD) {
+            multiplyRows(left, right, result, 0, rows, inner, cols);
+            return;
+        }
+
+        LinearAlgebraConfig.getForkJoinPool().invoke(new RowBlockTask(left, right, result, 0, rows, inner, cols, false));
+    }
+
+    /**
+     * Computes \( C = A B^T \), without transposing B.
+     * @param left: A, a rows x inner matrix in row-major order
+     * @param right: B, a cols x inner matrix in row-major order
+     * @param result: C, a rows x cols array in row-major order. It is overwritten.
+     * @param rows: number of rows of A
+     * @param inner: number of columns of A (and of B)
+     * @param cols: number of rows of B
+     */
+    public static void multiplyTransposed(double[] left, double[] right, double[] result, int rows, int inner, int cols) {
+        int parallelism = LinearAlgebraConfig.getParallelism();
+        if(parallelism <= 1 || rows <= ROW_BLOCK_SIZE || (long) rows * inner * cols < PARALLEL_THRESHOLD) {
+            multiplyRowsTransposed(left, right, result, 0, rows, inner, cols);
+            return;
+        }
+
+        LinearAlgebraConfig.getForkJoinPool().invoke(new RowBlockTask(left, right, result, 0, rows, inner, cols, true));
+    }
+
+    private static void multiplyRows(double[] left, double[] right, double[] result, int rowStart, int rowEnd, int inner, int cols) {
+        for(int kk=0; kk < inner; kk += TILE_SIZE) {
+            int kMax = Math.min(kk + TILE_SIZE, inner);
+            for (int jj = 0; jj < cols; jj += TILE_SIZE) {
+                int jMax = Math.min(jj + TILE_SIZE, cols);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int resultRow = i * cols;
+                    int leftRow = i * inner;
+                    for (int k = kk; k < kMax; k++) {
+                        double value = left[leftRow + k];
+                        int rightRow = k * cols;
+                        for (int j = jj; j < jMax; j++)
+                            result[resultRow + j] += value * right[rightRow + j];
+                    }
+                }
+            }
+        }
+    }
+
+    private static void multiplyRowsTransposed(double[] left, double[] right, double[] result, int rowStart, int rowEnd, int inner, int cols) {
+        for (int jj = 0; jj < cols; jj += TILE_SIZE) {
+            int jMax = Math.min(jj + TILE_SIZE, cols);
+            for (int i = rowStart; i < rowEnd; i++) {
+                int leftRow = i * inner;
+                for (int j = jj; j < jMax; j++) {
+                    int rightRow = j * inner;
+                    double sum = 0;
+                    for (int k = 0; k < inner; k++)
+                        sum += left[leftRow + k] * right[rightRow + k];
+                    result[i * cols + j] = sum;
+                }
+            }
+        }
+    }
+
+    /**
+     * Recursively splits the rows in halves, until at most ROW_BLOCK_SIZE rows are left. Tasks write to disjoint rows of
+     * the result, so no synchronization is needed.
+     */
+    private static class RowBlockTask extends RecursiveAction {
+        private final double[] left, right, result;
+        private final int rowStart, rowEnd, inner, cols;
+        private final boolean transposed;
+
+        RowBlockTask(double[] left, double[] right, double[] result, int rowStart, int rowEnd, int inner, int cols, boolean transposed) {
+            this.left = left;
+            this.right = right;
+            this.result = result;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+            this.inner = inner;
+            this.cols = cols;
+            this.transposed = transposed;
+        }
+
+        @Override
+        protected void compute() {
+            if(rowEnd - rowStart <= ROW_BLOCK_SIZE) {
+                if(transposed)
+                    multiplyRowsTransposed(left, right, result, rowStart, rowEnd, inner, cols);
+                else
+                    multiplyRows(left, right, result, rowStart, rowEnd, inner, cols);
+                return;
+            }
+
+            int middle = (rowStart + rowEnd) >>> 1;
+            invokeAll(new RowBlockTask(left, right, result, rowStart, middle, inner, cols, transposed),
+                      new RowBlockTask(left, right, result, middle, rowEnd, inner, cols, transposed));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package linalg;
+
+/**
+ * Sequential, allocation-free scan over the rows of a Matrix. A cursor starts before the first row and each call to
+ * next() moves it to the following one. The current row can be read either as a raw double[] window or as a Vector;
+ * both objects are created once and overwritten on every step, so they must be copied if they need to outlive it.
+ *
+ * Typical usage:
+ *
+ * <pre>
+ *     RowCursor cursor = matrix.rowCursor();
+ *     while (cursor.next())
+ *         process(cursor.getIndex(), cursor.getValues());
+ * </pre>
+ *
+ * @see Matrix#rowCursor()
+ * @see Matrix#forEachRow(Matrix.RowConsumer)
+ */
+public class RowCursor {
+    private final Matrix matrix;
+    private final double[] values;
+    private Vector row;
+    private int index;
+    private boolean rowUpToDate;
+
+    RowCursor(Matrix matrix) {
+        this.matrix = matrix;
+        this.values = new double[matrix.getNumCols()];
+        this.index = -1;
+    }
+
+    /**
+     * Moves the cursor to the next row, if there is any
+     * @return whether the cursor now points to a valid row
+     */
+    public boolean next(){
+        if(index + 1 >= matrix.getNumRows()) {
+            index = matrix.getNumRows();
+            return false;
+        }
+
+        index++;
+        matrix.copyRow(index, values);
+        rowUpToDate = false;
+        return true;
+    }
+
+    /**
+     * @return position of the current row
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the current row's elements. This array is reused by the cursor, and it must not be modified.
+     * @throws IllegalStateException if the cursor is not pointing to a row
+     */
+    public double[] getValues(){
+        checkIndex();
+        return values;
+    }
+
+    /**
+     * @return the current row as a Vector. The same Vector object is returned for every row, and it is only created
+     * (from the current thread's context) the first time this method is called.
+     * @throws IllegalStateException if the cursor is not pointing to a row
+     */
+    public Vector getRow(){
+        checkIndex();
+
+        if(row == null)
+            row = Vector.FACTORY.makeZero(values.length);
+
+        if(!rowUpToDate) {
+            for (int i = 0; i < values.length; i++)
+                row.set(i, values[i]);
+            rowUpToDate = true;
+        }
+        return row;
+    }
+
+    private void checkIndex(){
+        if(index < 0 || index >= matrix.getNumRows())
+            throw new IllegalStateException("Cursor is not pointing to a row.");
+    }
+}
@@ -22,25 +22,38 @@ public abstract class Vector {
 
     /**
      * FACTORY, as the name implies, is a simple factory class providing a shortcut for Vector creation. It instantiates
-     * Vectors based on LinearAlgebraConfig configurations, so both APIs always give the same results. However,
-     * we are not able to directly set a new library from here, use LinearAlgebraConfig instead.
+     * Vectors through the LinearAlgebraContext bound to the current thread, or through LinearAlgebraConfig's configuration
+     * if none is bound, so both APIs always give the same results. However,
+     * we are not able to directly set a new library from here, use LinearAlgebraConfig or LinearAlgebraContext instead.
      *
      * @see LinearAlgebraConfig
+     * @see LinearAlgebraContext
      */
     public static class FACTORY {
         public static Vector make(double[] values){
-            return LinearAlgebraConfig.getVectorFactory().make(values);
+            return LinearAlgebraContext.current().getVectorFactory().make(values);
         }
 
         public static Vector makeFilled(int dim, double value){
-            return LinearAlgebraConfig.getVectorFactory().makeFilled(dim, value);
+            return LinearAlgebraContext.current().getVectorFactory().makeFilled(dim, value);
         }
 
         public static Vector makeZero(int dim){
-            return LinearAlgebraConfig.getVectorFactory().makeZero(dim);
+            return LinearAlgebraContext.current().getVectorFactory().makeZero(dim);
         }
     }
 
+    /**
+     * Starts a lazy element-wise expression over the given vector, evaluated in a single pass and without intermediate
+     * vectors. For example, Vector.expr(a).minus(b).div(c).sqNorm().
+     * @param vector: first operand
+     * @return expression whose result equals the given vector
+     * @see VectorExpression
+     */
+    public static VectorExpression expr(Vector vector){
+        return new VectorExpression.VectorLeaf(vector);
+    }
+
     /**
      * @return Vector's dimension.
      */
@@ -162,6 +175,230 @@ public abstract class Vector {
         return result;
     }
 
+    /**
+     * @return a deep copy of this vector, backed by the same library
+     */
+    public Vector copy(){
+        return FACTORY.make(asArray());
+    }
+
+    /*
+     * In-place and destination-passing variants of the arithmetic operations above. The "InPlace" methods overwrite this
+     * vector and return it, while the overloads receiving a 'result' vector write into it and return it instead. None of
+     * them allocate new vectors, so they are the right choice for hot loops (such as the steps of a random walk).
+     * It is safe to pass this vector itself as 'result'.
+     */
+
+    /**
+     * Adds a value to each component of this vector, in-place.
+     * @param value: value to add
+     * @return this vector
+     */
+    public Vector addInPlace(double value){
+        for(int i=0; i < getDim(); i++)
+            set(i, get(i) + value);
+        return this;
+    }
+
+    /**
+     * Element-wise addition of a vector to this one, in-place.
+     * @param vector: vector to add
+     * @return this vector
+     * @throws IncompatibleDimensionsException if vectors have different dimensions
+     */
+    public Vector addInPlace(Vector vector){
+        checkDim(vector);
+        for(int i=0; i < getDim(); i++)
+            set(i, get(i) + vector.get(i));
+        return this;
+    }
+
+    /**
+     * Subtracts a value from each component of this vector, in-place.
+     * @param value: value to subtract
+     * @return this vector
+     */
+    public Vector subtractInPlace(double value){
+        return addInPlace(-value);
+    }
+
+    /**
+     * Element-wise subtraction of a vector from this one, in-place.
+     * @param vector: vector to subtract
+     * @return this vector
+     * @throws IncompatibleDimensionsException if vectors have different dimensions
+     */
+    public Vector subtractInPlace(Vector vector){
+        return axpy(-1, vector);
+    }
+
+    /**
+     * Multiplies each component of this vector by a value, in-place.
+     * @param value: scaling factor
+     * @return this vector
+     */
+    public Vector scaleInPlace(double value){
+        for(int i=0; i < getDim(); i++)
+            set(i, get(i) * value);
+        return this;
+    }
+
+    /**
+     * Element-wise multiplication of this vector by another one, in-place.
+     * @param vector: vector to multiply
+     * @return this vector
+     * @throws IncompatibleDimensionsException if vectors have different dimensions
+     */
+    public Vector multiplyInPlace(Vector vector){
+        checkDim(vector);
+        for(int i=0; i < getDim(); i++)
+            set(i, get(i) * vector.get(i));
+        return this;
+    }
+
+    /**
+     * Divides each component of this vector by a value, in-place.
+     * @param value: value to divide by
+     * @return this vector
+     */
+    public Vector divideInPlace(double value){
+        for(int i=0; i < getDim(); i++)
+            set(i, get(i) / value);
+        return this;
+    }
+
+    /**
+     * Element-wise division of this vector by another one, in-place.
+     * @param vector: vector to divide by
+     * @return this vector
+     * @throws IncompatibleDimensionsException if vectors have different dimensions
+     */
+    public Vector divideInPlace(Vector vector){
+        checkDim(vector);
+        for(int i=0; i < getDim(); i++)
+            set(i, get(i) / vector.get(i));
+        return this;
+    }
+
+    /**
+     * Computes \( this = this + \alpha x \), in-place.
+     * @param alpha: scaling factor of x
+     * @param x: vector to add
+     * @return this vector
+     * @throws IncompatibleDimensionsException if vectors have different dimensions
+     */
+    public Vector axpy(double alpha, Vector x){
+        checkDim(x);
+        for(int i=0; i < getDim(); i++)
+            set(i, get(i) + alpha * x.get(i));
+        return this;
+    }
+
+    /**
+     * @param value: value to add to each component of vector
+     * @param result: vector to store the sum into
+     * @return result
+     * @throws IncompatibleDimensionsException if result has a different dimension
+     */
+    public Vector add(double value, Vector result){
+        checkDim(result);
+        for(int i=0; i < getDim(); i++)
+            result.set(i, get(i) + value);
+        return result;
+    }
+
+    /**
+     * @param vector: vector to perform element-wise addition.
+     * @param result: vector to store the sum into
+     * @return result
+     * @throws IncompatibleDimensionsException if vectors have different dimensions
+     */
+    public Vector add(Vector vector, Vector result){
+        checkDim(vector);
+        checkDim(result);
+        for(int i=0; i < getDim(); i++)
+            result.set(i, get(i) + vector.get(i));
+        return result;
+    }
+
+    /**
+     * @param value: value to subtract from each component of vector
+     * @param result: vector to store the subtraction into
+     * @return result
+     * @throws IncompatibleDimensionsException if result has a different dimension
+     */
+    public Vector subtract(double value, Vector result){
+        return add(-value, result);
+    }
+
+    /**
+     * @param vector: vector to perform element-wise subtraction.
+     * @param result: vector to store the subtraction into
+     * @return result
+     * @throws IncompatibleDimensionsException if vectors have different dimensions
+     */
+    public Vector subtract(Vector vector, Vector result){
+        checkDim(vector);
+        checkDim(result);
+        for(int i=0; i < getDim(); i++)
+            result.set(i, get(i) - vector.get(i));
+        return result;
+    }
+
+    /**
+     * @param value: value to multiply all components of vector with
+     * @param result: vector to store the multiplication into
+     * @return result
+     * @throws IncompatibleDimensionsException if result has a different dimension
+     */
+    public Vector multiply(double value, Vector result){
+        checkDim(result);
+        for(int i=0; i < getDim(); i++)
+            result.set(i, get(i) * value);
+        return result;
+    }
+
+    /**
+     * @param vector: vector to perform element-wise multiplication.
+     * @param result: vector to store the multiplication into
+     * @return result
+     * @throws IncompatibleDimensionsException if vectors have different dimensions
+     */
+    public Vector multiply(Vector vector, Vector result){
+        checkDim(vector);
+        checkDim(result);
+        for(int i=0; i < getDim(); i++)
+            result.set(i, get(i) * vector.get(i));
+        return result;
+    }
+
+    /**
+     * @param value: value to divide all components of vector with
+     * @param result: vector to store the division into
+     * @return result
+     * @throws IncompatibleDimensionsException if result has a different dimension
+     */
+    public Vector divide(double value, Vector result){
+        checkDim(result);
+        for(int i=0; i < getDim(); i++)
+            result.set(i, get(i) / value);
+        return result;
+    }
+
+    /**
+     * @param vector: vector to perform element-wise division.
+     * @param result: vector to store the division into
+     * @return result
+     * @throws IncompatibleDimensionsException if vectors have different dimensions
+     */
+    public Vector divide(Vector vector, Vector result){
+        checkDim(vector);
+        checkDim(result);
+        for(int i=0; i < getDim(); i++)
+            result.set(i, get(i) / vector.get(i));
+        return result;
+    }
+
     /**
      * @param vector to perform scalar product
      * @return Dot product between the two vectors.
@@ -170,7 +407,7 @@ public abstract class Vector {
     public double dot(Vector vector){
         checkDim(vector);
 
-        int sum = 0;
+        double sum = 0;
         for(int i=0; i < getDim(); i++)
             sum += get(i) * vector.get(i);
         return sum;
@@ -0,0 +1,304 @@
+package linalg;
+
+import exceptions.IncompatibleDimensionsException;
+
+/**
+ * <p>Lazy, element-wise arithmetic over Vectors. An expression such as</p>
+ *
+ * <pre>
+ *     Vector.expr(point).minus(center).div(halfAxisLengths).sqNorm()
+ * </pre>
+ *
+ * <p>computes the same value as point.subtract(center).divide(halfAxisLengths).sqNorm(), but in a single pass over the
+ * operands and without allocating any intermediate Vector. Building an expression only records the operations; they are
+ * evaluated when a terminal method (get, sqNorm, norm, dot, gram, evaluate) is called, so the operands should not be modified
+ * in the meantime.</p>
+ *
+ * <p>Expressions are cheap to evaluate element by element through get(i), which is useful when only a few components of
+ * the result are needed, or when they are consumed by a loop right away.</p>
+ *
+ * @see Vector#expr(Vector)
+ */
+public abstract class VectorExpression {
+    private final int dim;
+
+    VectorExpression(int dim) {
+        this.dim = dim;
+    }
+
+    /**
+     * @return dimension of the resulting vector
+     */
+    public int getDim() {
+        return dim;
+    }
+
+    /**
+     * Evaluates a single component of the expression.
+     * @param index: component to evaluate
+     * @return value of the expression at the given component
+     */
+    public abstract double get(int index);
+
+    private void checkDim(int otherDim){
+        if(dim != otherDim)
+            throw new IncompatibleDimensionsException(dim, otherDim);
+    }
+
+    /**
+     * @return element-wise sum of this expression and vector
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public VectorExpression plus(Vector vector){
+        return plus(Vector.expr(vector));
+    }
+
+    /**
+     * @return element-wise sum of both expressions
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public VectorExpression plus(VectorExpression expression){
+        checkDim(expression.getDim());
+        return new Plus(this, expression);
+    }
+
+    /**
+     * @return this expression with value added to each component
+     */
+    public VectorExpression plus(double value){
+        return new Plus(this, new ConstantExpression(dim, value));
+    }
+
+    /**
+     * @return element-wise subtraction of vector from this expression
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public VectorExpression minus(Vector vector){
+        return minus(Vector.expr(vector));
+    }
+
+    /**
+     * @return element-wise subtraction of both expressions
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public VectorExpression minus(VectorExpression expression){
+        checkDim(expression.getDim());
+        return new Minus(this, expression);
+    }
+
+    /**
+     * @return this expression with value subtracted from each component
+     */
+    public VectorExpression minus(double value){
+        return plus(-value);
+    }
+
+    /**
+     * @return element-wise multiplication of this expression and vector
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public VectorExpression times(Vector vector){
+        return times(Vector.expr(vector));
+    }
+
+    /**
+     * @return element-wise multiplication of both expressions
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public VectorExpression times(VectorExpression expression){
+        checkDim(expression.getDim());
+        return new Times(this, expression);
+    }
+
+    /**
+     * @return this expression with each component multiplied by value
+     */
+    public VectorExpression times(double value){
+        return new Times(this, new ConstantExpression(dim, value));
+    }
+
+    /**
+     * @return element-wise division of this expression by vector
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public VectorExpression div(Vector vector){
+        return div(Vector.expr(vector));
+    }
+
+    /**
+     * @return element-wise division of both expressions
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public VectorExpression div(VectorExpression expression){
+        checkDim(expression.getDim());
+        return new Div(this, expression);
+    }
+
+    /**
+     * @return this expression with each component divided by value
+     */
+    public VectorExpression div(double value){
+        return new Div(this, new ConstantExpression(dim, value));
+    }
+
+    /**
+     * @return squared norm of the resulting vector
+     */
+    public double sqNorm(){
+        double sum = 0;
+        for(int i=0; i < dim; i++) {
+            double value = get(i);
+            sum += value * value;
+        }
+        return sum;
+    }
+
+    /**
+     * @return norm of the resulting vector
+     */
+    public double norm(){
+        return Math.sqrt(sqNorm());
+    }
+
+    /**
+     * @return dot product between the resulting vector and the given one
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public double dot(Vector vector){
+        return dot(Vector.expr(vector));
+    }
+
+    /**
+     * @return dot product between the resulting vectors of both expressions
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public double dot(VectorExpression expression){
+        checkDim(expression.getDim());
+        double sum = 0;
+        for(int i=0; i < dim; i++)
+            sum += get(i) * expression.get(i);
+        return sum;
+    }
+
+    /**
+     * Computes this.sqNorm(), this.dot(expression) and expression.sqNorm() in a single pass, evaluating each component of
+     * both expressions only once. This is the cheapest way of obtaining all three, as needed for instance by quadratic
+     * equations along a line.
+     * @return array {this.sqNorm(), this.dot(expression), expression.sqNorm()}
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public double[] gram(VectorExpression expression){
+        checkDim(expression.getDim());
+        double xx = 0, xy = 0, yy = 0;
+        for(int i=0; i < dim; i++) {
+            double x = get(i), y = expression.get(i);
+            xx += x * x;
+            xy += x * y;
+            yy += y * y;
+        }
+        return new double[] {xx, xy, yy};
+    }
+
+    /**
+     * @return new Vector holding the result, created through Vector.FACTORY
+     */
+    public Vector evaluate(){
+        return evaluate(Vector.FACTORY.makeZero(dim));
+    }
+
+    /**
+     * Writes the result into the given vector. The vector may be one of the operands, since each component is written only
+     * after being evaluated.
+     * @param result: vector to store the result into
+     * @return result
+     * @throws IncompatibleDimensionsException if dimensions are different
+     */
+    public Vector evaluate(Vector result){
+        checkDim(result.getDim());
+        for(int i=0; i < dim; i++)
+            result.set(i, get(i));
+        return result;
+    }
+
+    static class VectorLeaf extends VectorExpression {
+        private final Vector vector;
+
+        VectorLeaf(Vector vector) {
+            super(vector.getDim());
+            this.vector = vector;
+        }
+
+        @Override
+        public double get(int index) {
+            return vector.get(index);
+        }
+    }
+
+    private static class ConstantExpression extends VectorExpression {
+        private final double value;
+
+        ConstantExpression(int dim, double value) {
+            super(dim);
+            this.value = value;
+        }
+
+        @Override
+        public double get(int index) {
+            return value;
+        }
+    }
+
+    private abstract static class BinaryExpression extends VectorExpression {
+        final VectorExpression left, right;
+
+        BinaryExpression(VectorExpression left, VectorExpression right) {
+            super(left.getDim());
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private static class Plus extends BinaryExpression {
+        Plus(VectorExpression left, VectorExpression right) {
+            super(left, right);
+        }
+
+        @Override
+        public double get(int index) {
+            return left.get(index) + right.get(index);
+        }
+    }
+
+    private static class Minus extends BinaryExpression {
+        Minus(VectorExpression left, VectorExpression right) {
+            super(left, right);
+        }
+
+        @Override
+        public double get(int index) {
+            return left.get(index) - right.get(index);
+        }
+    }
+
+    private static class Times extends BinaryExpression {
+        Times(VectorExpression left, VectorExpression right) {
+            super(left, right);
+        }
+
+        @Override
+        public double get(int index) {
+            return left.get(index) * right.get(index);
+        }
+    }
+
+    private static class Div extends BinaryExpression {
+        Div(VectorExpression left, VectorExpression right) {
+            super(left, right);
+        }
+
+        @Override
+        public double get(int index) {
+            return left.get(index) / right.get(index);
+        }
+    }
+}
@@ -5,6 +5,9 @@ import exceptions.IncompatibleDimensionsException;
 import exceptions.linalg.IncompatibleLinearAlgebraBackendException;
 import linalg.Matrix;
 import linalg.Vector;
+import linalg.libraries.sparse.SparseVector;
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.RealVector;
 
@@ -56,7 +59,7 @@ public class ApacheMatrix extends Matrix {
 
     @Override
     public Matrix sliceColumns(int start, int end) {
-        if(start < 0 || end >= getNumCols())
+        if(start < 0 || end > getNumCols())
             throw new ArrayIndexOutOfBoundsException();
         if(start >= end)
             throw new IncompatibleBoundsException();
@@ -109,6 +112,33 @@ public class ApacheMatrix extends Matrix {
         return new ApacheMatrix(storage.multiply(getStorage(matrix)));
     }
 
+    @Override
+    public Matrix multiplyTransposed(Matrix matrix) {
+        if (storage.getColumnDimension() != matrix.getNumCols())
+            throw new IncompatibleDimensionsException(storage.getColumnDimension(), matrix.getNumCols());
+
+        double[][] left = getRows(storage), right = getRows(getStorage(matrix));
+        double[][] result = new double[left.length][right.length];
+        for(int i=0; i < left.length; i++) {
+            for (int j = 0; j < right.length; j++) {
+                double sum = 0;
+                for (int k = 0; k < left[i].length; k++)
+                    sum += left[i][k] * right[j][k];
+                result[i][j] = sum;
+            }
+        }
+        return new ApacheMatrix(new Array2DRowRealMatrix(result, false));
+    }
+
+    /**
+     * @return rows of the given matrix, without copying them for dense, array-backed matrices
+     */
+    private static double[][] getRows(RealMatrix matrix){
+        if(matrix instanceof Array2DRowRealMatrix)
+            return ((Array2DRowRealMatrix) matrix).getDataRef();
+        return matrix.getData();
+    }
+
     @Override
     public Matrix transpose() {
         return new ApacheMatrix(storage.transpose());
@@ -128,6 +158,9 @@ public class ApacheMatrix extends Matrix {
     }
 
     private RealVector getStorage(Vector vector){
+        if(vector instanceof SparseVector)
+            return new ArrayRealVector(vector.asArray(), false);
+
         try {
             return ((ApacheVector) vector).getStorage();
         } catch (ClassCastException ex){
@@ -2,6 +2,7 @@ package linalg.libraries.apache;
 
 import exceptions.linalg.IncompatibleLinearAlgebraBackendException;
 import linalg.Vector;
+import linalg.libraries.sparse.SparseVector;
 import org.apache.commons.math3.linear.RealVector;
 
 /**
@@ -80,9 +81,133 @@ public class ApacheVector extends Vector {
         return new ApacheVector(storage.ebeDivide(getStorage(vector)));
     }
 
+    @Override
+    public Vector copy() {
+        return new ApacheVector(storage.copy());
+    }
+
+    @Override
+    public Vector addInPlace(double value) {
+        storage.mapAddToSelf(value);
+        return this;
+    }
+
+    @Override
+    public Vector addInPlace(Vector vector) {
+        return axpy(1, vector);
+    }
+
+    @Override
+    public Vector subtractInPlace(double value) {
+        storage.mapSubtractToSelf(value);
+        return this;
+    }
+
+    @Override
+    public Vector subtractInPlace(Vector vector) {
+        return axpy(-1, vector);
+    }
+
+    @Override
+    public Vector scaleInPlace(double value) {
+        storage.mapMultiplyToSelf(value);
+        return this;
+    }
+
+    @Override
+    public Vector divideInPlace(double value) {
+        storage.mapDivideToSelf(value);
+        return this;
+    }
+
+    @Override
+    public Vector axpy(double alpha, Vector x) {
+        checkDim(x);
+        storage.combineToSelf(1, alpha, getStorage(x));
+        return this;
+    }
+
+    @Override
+    public Vector multiplyInPlace(Vector vector) {
+        return multiply(vector, this);
+    }
+
+    @Override
+    public Vector divideInPlace(Vector vector) {
+        return divide(vector, this);
+    }
+
+    @Override
+    public Vector add(double value, Vector result) {
+        return copyInto(result).addInPlace(value);
+    }
+
+    @Override
+    public Vector subtract(double value, Vector result) {
+        return copyInto(result).subtractInPlace(value);
+    }
+
+    @Override
+    public Vector multiply(double value, Vector result) {
+        return copyInto(result).scaleInPlace(value);
+    }
+
+    @Override
+    public Vector divide(double value, Vector result) {
+        return copyInto(result).divideInPlace(value);
+    }
+
+    private Vector copyInto(Vector result){
+        checkDim(result);
+        getStorage(result).setSubVector(0, storage);
+        return result;
+    }
+
+    @Override
+    public Vector add(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        RealVector other = getStorage(vector), res = getStorage(result);
+        for(int i=0; i < storage.getDimension(); i++)
+            res.setEntry(i, storage.getEntry(i) + other.getEntry(i));
+        return result;
+    }
+
+    @Override
+    public Vector subtract(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        RealVector other = getStorage(vector), res = getStorage(result);
+        for(int i=0; i < storage.getDimension(); i++)
+            res.setEntry(i, storage.getEntry(i) - other.getEntry(i));
+        return result;
+    }
+
+    @Override
+    public Vector multiply(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        RealVector other = getStorage(vector), res = getStorage(result);
+        for(int i=0; i < storage.getDimension(); i++)
+            res.setEntry(i, storage.getEntry(i) * other.getEntry(i));
+        return result;
+    }
+
+    @Override
+    public Vector divide(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        RealVector other = getStorage(vector), res = getStorage(result);
+        for(int i=0; i < storage.getDimension(); i++)
+            res.setEntry(i, storage.getEntry(i) / other.getEntry(i));
+        return result;
+    }
+
     @Override
     public double dot(Vector vector) {
         checkDim(vector);
+        if(vector instanceof SparseVector)
+            return vector.dot(this);
         return storage.dotProduct(getStorage(vector));
     }
 
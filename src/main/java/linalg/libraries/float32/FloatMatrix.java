@@ -0,0 +1,221 @@
+package linalg.libraries.float32;
+
+import exceptions.IncompatibleBoundsException;
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.IncompatibleLinearAlgebraBackendException;
+import linalg.Matrix;
+import linalg.Vector;
+import linalg.libraries.sparse.SparseVector;
+
+import java.util.Arrays;
+
+/**
+ * Matrix object backed by a single float[] array, storing its elements in row-major order: element (i, j) lives at
+ * position i * numCols + j. Storing elements in single precision halves the memory needed for large point sets, such as
+ * the pools scored by LinearMajorityVote.predict(Matrix).
+ *
+ * As in FloatVector, values are rounded to float when stored, but products are accumulated in double precision.
+ *
+ * @see Matrix
+ */
+public class FloatMatrix extends Matrix {
+    /**
+     * Side of the square tiles used when transposing
+     */
+    private static final int TRANSPOSE_BLOCK_SIZE = 32;
+
+    private final float[] storage;
+    private final int rows, cols;
+
+    FloatMatrix(float[] storage, int rows, int cols) {
+        this.storage = storage;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    @Override
+    public int getNumRows() {
+        return rows;
+    }
+
+    @Override
+    public int getNumCols() {
+        return cols;
+    }
+
+    private void checkBounds(int row, int col){
+        if(row < 0 || row >= rows || col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+    }
+
+    @Override
+    public double get(int row, int col) {
+        checkBounds(row, col);
+        return storage[row * cols + col];
+    }
+
+    @Override
+    public void set(int row, int col, double value) {
+        checkBounds(row, col);
+        storage[row * cols + col] = (float) value;
+    }
+
+    @Override
+    public void copyRow(int row, double[] destination) {
+        if(row < 0 || row >= rows)
+            throw new ArrayIndexOutOfBoundsException();
+
+        for(int j=0, pos=row * cols; j < cols; j++, pos++)
+            destination[j] = storage[pos];
+    }
+
+    @Override
+    public Vector getRow(int row) {
+        if(row < 0 || row >= rows)
+            throw new ArrayIndexOutOfBoundsException();
+
+        float[] result = new float[cols];
+        System.arraycopy(storage, row * cols, result, 0, cols);
+        return new FloatVector(result);
+    }
+
+    @Override
+    public Vector getColumn(int col) {
+        if(col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+
+        float[] result = new float[rows];
+        for(int i=0, pos=col; i < rows; i++, pos += cols)
+            result[i] = storage[pos];
+        return new FloatVector(result);
+    }
+
+    @Override
+    public Matrix sliceColumns(int start, int end) {
+        if(start < 0 || end > cols)
+            throw new ArrayIndexOutOfBoundsException();
+        if(start >= end)
+            throw new IncompatibleBoundsException();
+
+        int width = end - start;
+        float[] result = new float[rows * width];
+        for(int i=0; i < rows; i++)
+            System.arraycopy(storage, i * cols + start, result, i * width, width);
+        return new FloatMatrix(result, rows, width);
+    }
+
+    @Override
+    public Vector multiply(Vector vector) {
+        if(cols != vector.getDim())
+            throw new IncompatibleDimensionsException(cols, vector.getDim());
+
+        float[] x = getStorage(vector);
+        float[] result = new float[rows];
+        for(int i=0, pos=0; i < rows; i++) {
+            double sum = 0;
+            for (int j = 0; j < cols; j++, pos++)
+                sum += (double) storage[pos] * x[j];
+            result[i] = (float) sum;
+        }
+        return new FloatVector(result);
+    }
+
+    /**
+     * Matrix-Matrix multiplication in i-k-j order. Each row of the result is accumulated in a double[] buffer, as a linear
+     * combination of the rows of the right-hand side, and only rounded to float once complete.
+     */
+    @Override
+    public Matrix multiply(Matrix matrix) {
+        if(cols != matrix.getNumRows())
+            throw new IncompatibleDimensionsException(cols, matrix.getNumRows());
+
+        float[] right = getStorage(matrix);
+        int width = matrix.getNumCols();
+        float[] result = new float[rows * width];
+        double[] accumulator = new double[width];
+
+        for(int i=0; i < rows; i++) {
+            Arrays.fill(accumulator, 0);
+            for (int k = 0; k < cols; k++) {
+                double value = storage[i * cols + k];
+                int rightRow = k * width;
+                for (int j = 0; j < width; j++)
+                    accumulator[j] += value * right[rightRow + j];
+            }
+            for (int j = 0; j < width; j++)
+                result[i * width + j] = (float) accumulator[j];
+        }
+        return new FloatMatrix(result, rows, width);
+    }
+
+    @Override
+    public Matrix multiplyTransposed(Matrix matrix) {
+        if(cols != matrix.getNumCols())
+            throw new IncompatibleDimensionsException(cols, matrix.getNumCols());
+
+        float[] right = getStorage(matrix);
+        int height = matrix.getNumRows();
+        float[] result = new float[rows * height];
+
+        for(int i=0; i < rows; i++) {
+            for (int j = 0; j < height; j++) {
+                double sum = 0;
+                for (int k = 0, left = i * cols, other = j * cols; k < cols; k++)
+                    sum += (double) storage[left + k] * right[other + k];
+                result[i * height + j] = (float) sum;
+            }
+        }
+        return new FloatMatrix(result, rows, height);
+    }
+
+    /**
+     * Transposition is done in square tiles, so both the reads and the writes stay within a few cache lines at a time.
+     */
+    @Override
+    public Matrix transpose() {
+        float[] result = new float[rows * cols];
+        for(int ii=0; ii < rows; ii += TRANSPOSE_BLOCK_SIZE) {
+            int iMax = Math.min(ii + TRANSPOSE_BLOCK_SIZE, rows);
+            for (int jj = 0; jj < cols; jj += TRANSPOSE_BLOCK_SIZE) {
+                int jMax = Math.min(jj + TRANSPOSE_BLOCK_SIZE, cols);
+                for (int i = ii; i < iMax; i++)
+                    for (int j = jj; j < jMax; j++)
+                        result[j * rows + i] = storage[i * cols + j];
+            }
+        }
+        return new FloatMatrix(result, cols, rows);
+    }
+
+    @Override
+    public double[][] asArray() {
+        double[][] result = new double[rows][cols];
+        for(int i=0, pos=0; i < rows; i++)
+            for(int j=0; j < cols; j++, pos++)
+                result[i][j] = storage[pos];
+        return result;
+    }
+
+    private float[] getStorage(Matrix matrix){
+        try {
+            return ((FloatMatrix) matrix).storage;
+        } catch (ClassCastException ex){
+            throw new IncompatibleLinearAlgebraBackendException();
+        }
+    }
+
+    private float[] getStorage(Vector vector){
+        if(vector instanceof SparseVector) {
+            float[] result = new float[vector.getDim()];
+            SparseVector sparse = (SparseVector) vector;
+            for(int i=0; i < sparse.getNumNonZeros(); i++)
+                result[sparse.getIndexAt(i)] = (float) sparse.getValueAt(i);
+            return result;
+        }
+
+        try {
+            return ((FloatVector) vector).getStorage();
+        } catch (ClassCastException ex){
+            throw new IncompatibleLinearAlgebraBackendException();
+        }
+    }
+}
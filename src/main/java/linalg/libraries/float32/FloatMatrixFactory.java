@@ -0,0 +1,74 @@
+package linalg.libraries.float32;
+
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.NegativeDimensionException;
+import linalg.Matrix;
+import linalg.MatrixFactory;
+
+import java.util.Arrays;
+
+/**
+ * Matrix factory using our single-precision FloatMatrix as backend. Values are rounded to the nearest float.
+ *
+ * @see MatrixFactory
+ */
+public class FloatMatrixFactory implements MatrixFactory {
+    /**
+     * Copies the values into a contiguous, row-major array.
+     * @throws IncompatibleDimensionsException if rows have different lengths
+     */
+    @Override
+    public Matrix make(double[][] values) {
+        if(values.length == 0)
+            throw new NegativeDimensionException(0);
+
+        int rows = values.length, cols = values[0].length;
+        float[] storage = new float[rows * cols];
+        for(int i=0; i < rows; i++) {
+            if(values[i].length != cols)
+                throw new IncompatibleDimensionsException(cols, values[i].length);
+            for (int j = 0; j < cols; j++)
+                storage[i * cols + j] = (float) values[i][j];
+        }
+        return new FloatMatrix(storage, rows, cols);
+    }
+
+    @Override
+    public Matrix make(double[] values, int rows, int cols) {
+        MatrixFactory.checkRowMajor(values, rows, cols);
+
+        float[] storage = new float[values.length];
+        for(int i=0; i < values.length; i++)
+            storage[i] = (float) values[i];
+        return new FloatMatrix(storage, rows, cols);
+    }
+
+    @Override
+    public Matrix makeFilled(int rows, int cols, double value) {
+        checkDimensions(rows, cols);
+        float[] storage = new float[rows * cols];
+        Arrays.fill(storage, (float) value);
+        return new FloatMatrix(storage, rows, cols);
+    }
+
+    @Override
+    public Matrix makeZero(int rows, int cols) {
+        checkDimensions(rows, cols);
+        return new FloatMatrix(new float[rows * cols], rows, cols);
+    }
+
+    @Override
+    public Matrix makeEye(int dim) {
+        Matrix eye = makeZero(dim, dim);
+        for(int i=0; i < dim; i++)
+            eye.set(i, i,1.0);
+        return eye;
+    }
+
+    private static void checkDimensions(int rows, int cols){
+        if(rows <= 0)
+            throw new NegativeDimensionException(rows);
+        if(cols <= 0)
+            throw new NegativeDimensionException(cols);
+    }
+}
@@ -0,0 +1,232 @@
+package linalg.libraries.float32;
+
+import exceptions.linalg.IncompatibleLinearAlgebraBackendException;
+import linalg.Vector;
+import linalg.libraries.sparse.SparseVector;
+
+import java.util.Arrays;
+
+/**
+ * Vector object backed by a float[] array. Components are stored in single precision, halving memory usage and memory
+ * traffic compared to the double-backed libraries. Values are rounded to float when stored, but reductions (dot products
+ * and norms) accumulate in double precision, so their error does not grow with the vector's dimension.
+ *
+ * @see Vector
+ */
+public class FloatVector extends Vector {
+    private final float[] storage;
+
+    FloatVector(float[] storage) {
+        this.storage = storage;
+    }
+
+    private FloatVector makeZero(){
+        return new FloatVector(new float[storage.length]);
+    }
+
+    @Override
+    public int getDim() {
+        return storage.length;
+    }
+
+    @Override
+    public double get(int index) {
+        return storage[index];
+    }
+
+    @Override
+    public void set(int index, double newValue) {
+        storage[index] = (float) newValue;
+    }
+
+    @Override
+    public Vector copy() {
+        return new FloatVector(Arrays.copyOf(storage, storage.length));
+    }
+
+    @Override
+    public Vector add(double value) {
+        return add(value, makeZero());
+    }
+
+    @Override
+    public Vector add(Vector vector) {
+        return add(vector, makeZero());
+    }
+
+    @Override
+    public Vector subtract(double value) {
+        return subtract(value, makeZero());
+    }
+
+    @Override
+    public Vector subtract(Vector vector) {
+        return subtract(vector, makeZero());
+    }
+
+    @Override
+    public Vector multiply(double value) {
+        return multiply(value, makeZero());
+    }
+
+    @Override
+    public Vector multiply(Vector vector) {
+        return multiply(vector, makeZero());
+    }
+
+    @Override
+    public Vector divide(double value) {
+        return divide(value, makeZero());
+    }
+
+    @Override
+    public Vector divide(Vector vector) {
+        return divide(vector, makeZero());
+    }
+
+    @Override
+    public Vector addInPlace(double value) {
+        return add(value, this);
+    }
+
+    @Override
+    public Vector addInPlace(Vector vector) {
+        return add(vector, this);
+    }
+
+    @Override
+    public Vector subtractInPlace(Vector vector) {
+        return subtract(vector, this);
+    }
+
+    @Override
+    public Vector scaleInPlace(double value) {
+        return multiply(value, this);
+    }
+
+    @Override
+    public Vector multiplyInPlace(Vector vector) {
+        return multiply(vector, this);
+    }
+
+    @Override
+    public Vector divideInPlace(double value) {
+        return divide(value, this);
+    }
+
+    @Override
+    public Vector divideInPlace(Vector vector) {
+        return divide(vector, this);
+    }
+
+    @Override
+    public Vector axpy(double alpha, Vector x) {
+        checkDim(x);
+        float[] other = getStorage(x);
+        for(int i=0; i < storage.length; i++)
+            storage[i] += (float) (alpha * other[i]);
+        return this;
+    }
+
+    @Override
+    public Vector add(double value, Vector result) {
+        checkDim(result);
+        float[] res = getStorage(result);
+        for(int i=0; i < storage.length; i++)
+            res[i] = (float) (storage[i] + value);
+        return result;
+    }
+
+    @Override
+    public Vector add(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        float[] other = getStorage(vector), res = getStorage(result);
+        for(int i=0; i < storage.length; i++)
+            res[i] = storage[i] + other[i];
+        return result;
+    }
+
+    @Override
+    public Vector subtract(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        float[] other = getStorage(vector), res = getStorage(result);
+        for(int i=0; i < storage.length; i++)
+            res[i] = storage[i] - other[i];
+        return result;
+    }
+
+    @Override
+    public Vector multiply(double value, Vector result) {
+        checkDim(result);
+        float[] res = getStorage(result);
+        for(int i=0; i < storage.length; i++)
+            res[i] = (float) (storage[i] * value);
+        return result;
+    }
+
+    @Override
+    public Vector multiply(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        float[] other = getStorage(vector), res = getStorage(result);
+        for(int i=0; i < storage.length; i++)
+            res[i] = storage[i] * other[i];
+        return result;
+    }
+
+    @Override
+    public Vector divide(double value, Vector result) {
+        checkDim(result);
+        float[] res = getStorage(result);
+        for(int i=0; i < storage.length; i++)
+            res[i] = (float) (storage[i] / value);
+        return result;
+    }
+
+    @Override
+    public Vector divide(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        float[] other = getStorage(vector), res = getStorage(result);
+        for(int i=0; i < storage.length; i++)
+            res[i] = storage[i] / other[i];
+        return result;
+    }
+
+    /**
+     * Products are accumulated in double precision.
+     */
+    @Override
+    public double dot(Vector vector) {
+        checkDim(vector);
+        if(vector instanceof SparseVector)
+            return vector.dot(this);
+        float[] other = getStorage(vector);
+        double sum = 0;
+        for(int i=0; i < storage.length; i++)
+            sum += (double) storage[i] * other[i];
+        return sum;
+    }
+
+    @Override
+    public double[] asArray() {
+        double[] result = new double[storage.length];
+        for(int i=0; i < storage.length; i++)
+            result[i] = storage[i];
+        return result;
+    }
+
+    float[] getStorage() {
+        return storage;
+    }
+
+    private float[] getStorage(Vector vector){
+        try {
+            return ((FloatVector) vector).storage;
+        } catch (ClassCastException ex){
+            throw new IncompatibleLinearAlgebraBackendException();
+        }
+    }
+}
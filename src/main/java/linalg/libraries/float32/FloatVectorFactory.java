@@ -0,0 +1,38 @@
+package linalg.libraries.float32;
+
+import exceptions.linalg.NegativeDimensionException;
+import linalg.Vector;
+import linalg.VectorFactory;
+
+import java.util.Arrays;
+
+/**
+ * Vector factory using our single-precision FloatVector as backend. Values are rounded to the nearest float.
+ *
+ * @see VectorFactory
+ */
+public class FloatVectorFactory implements VectorFactory {
+    @Override
+    public Vector make(double[] values) {
+        float[] storage = new float[values.length];
+        for(int i=0; i < values.length; i++)
+            storage[i] = (float) values[i];
+        return new FloatVector(storage);
+    }
+
+    @Override
+    public Vector makeFilled(int dim, double fill) {
+        if(dim <= 0)
+            throw new NegativeDimensionException(dim);
+        float[] result = new float[dim];
+        Arrays.fill(result, (float) fill);
+        return new FloatVector(result);
+    }
+
+    @Override
+    public Vector makeZero(int dim) {
+        if(dim <= 0)
+            throw new NegativeDimensionException(dim);
+        return new FloatVector(new float[dim]);
+    }
+}
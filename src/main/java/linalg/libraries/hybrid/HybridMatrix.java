@@ -0,0 +1,214 @@
+package linalg.libraries.hybrid;
+
+import exceptions.IncompatibleDimensionsException;
+import linalg.Matrix;
+import linalg.Vector;
+import linalg.libraries.ojalgo.OjalgoMatrix;
+import linalg.libraries.ojalgo.OjalgoMatrixFactory;
+import linalg.libraries.simple.SimpleMatrix;
+import linalg.libraries.simple.SimpleMatrixFactory;
+import linalg.libraries.simple.SimpleVector;
+import linalg.libraries.simple.SimpleVectorFactory;
+import linalg.libraries.sparse.SparseVector;
+
+/**
+ * Matrix object picking, for each operation, the cheapest of the SIMPLE and OJALGO backends. Most operations are either
+ * element-wise or matrix-vector products, for which SIMPLE's plain arrays have the lowest overhead at every size, so they
+ * run on a SimpleMatrix. Matrix-matrix products with at least MULTIPLY_THRESHOLD multiply-adds run on OjAlgo's blocked
+ * kernels instead.
+ *
+ * A HybridMatrix keeps up to two representations of the same values, both created lazily: a SimpleMatrix and an
+ * OjalgoMatrix. Once converted, a representation is reused until the matrix is modified, so a large matrix multiplied
+ * repeatedly (such as the weights of a LinearMajorityVote) is only converted once. Operands from either backend, or from
+ * any other one, are converted as needed, so mixing them never throws IncompatibleLinearAlgebraBackendException. All
+ * vectors are returned as SimpleVector objects.
+ *
+ * @see Matrix
+ */
+public class HybridMatrix extends Matrix {
+    /**
+     * Minimum number of multiply-adds (rows * inner * cols) for a product to run on OjAlgo. The default value was calibrated by timing
+     * square products on both backends: OjAlgo catches up with SIMPLE at size 32 to 40, that is, 2^15 to 2^16
+     * multiply-adds. It can be overridden through the "linalg.hybrid.multiplyThreshold" system property.
+     */
+    static final long MULTIPLY_THRESHOLD = Long.getLong("linalg.hybrid.multiplyThreshold", 1L << 16);
+
+    private static final SimpleMatrixFactory SIMPLE_MATRICES = new SimpleMatrixFactory();
+    private static final OjalgoMatrixFactory OJALGO_MATRICES = new OjalgoMatrixFactory();
+    private static final SimpleVectorFactory SIMPLE_VECTORS = new SimpleVectorFactory();
+
+    /**
+     * at least one of them is not null; when both are set, they hold the same values
+     */
+    private Matrix simple, ojalgo;
+
+    HybridMatrix(Matrix simple, Matrix ojalgo) {
+        this.simple = simple;
+        this.ojalgo = ojalgo;
+    }
+
+    private Matrix simple(){
+        if(simple == null)
+            simple = SIMPLE_MATRICES.make(ojalgo.asArray());
+        return simple;
+    }
+
+    private Matrix ojalgo(){
+        if(ojalgo == null)
+            ojalgo = OJALGO_MATRICES.make(simple.asArray());
+        return ojalgo;
+    }
+
+    private Matrix any(){
+        return simple != null ? simple : ojalgo;
+    }
+
+    private static Matrix simple(Matrix matrix){
+        if(matrix instanceof HybridMatrix)
+            return ((HybridMatrix) matrix).simple();
+        if(matrix instanceof SimpleMatrix)
+            return matrix;
+        return SIMPLE_MATRICES.make(matrix.asArray());
+    }
+
+    private static Matrix ojalgo(Matrix matrix){
+        if(matrix instanceof HybridMatrix)
+            return ((HybridMatrix) matrix).ojalgo();
+        if(matrix instanceof OjalgoMatrix)
+            return matrix;
+        return OJALGO_MATRICES.make(matrix.asArray());
+    }
+
+    private static Vector simple(Vector vector){
+        if(vector instanceof SimpleVector || vector instanceof SparseVector)
+            return vector;
+        return SIMPLE_VECTORS.make(vector.asArray());
+    }
+
+    private static Matrix wrapSimple(Matrix matrix){
+        return new HybridMatrix(matrix, null);
+    }
+
+    @Override
+    public int getNumRows() {
+        return any().getNumRows();
+    }
+
+    @Override
+    public int getNumCols() {
+        return any().getNumCols();
+    }
+
+    @Override
+    public double get(int row, int col) {
+        return any().get(row, col);
+    }
+
+    @Override
+    public void set(int row, int col, double value) {
+        simple().set(row, col, value);
+        ojalgo = null;
+    }
+
+    @Override
+    public Vector getRow(int row) {
+        return simple().getRow(row);
+    }
+
+    @Override
+    public Vector getColumn(int col) {
+        return simple().getColumn(col);
+    }
+
+    @Override
+    public void copyRow(int row, double[] destination) {
+        simple().copyRow(row, destination);
+    }
+
+    @Override
+    public Matrix sliceColumns(int start, int end) {
+        return wrapSimple(simple().sliceColumns(start, end));
+    }
+
+    @Override
+    public Matrix add(double val) {
+        return wrapSimple(simple().add(val));
+    }
+
+    @Override
+    public Matrix add(Matrix matrix) {
+        return wrapSimple(simple().add(simple(matrix)));
+    }
+
+    @Override
+    public Matrix subtract(double val) {
+        return wrapSimple(simple().subtract(val));
+    }
+
+    @Override
+    public Matrix subtract(Matrix matrix) {
+        return wrapSimple(simple().subtract(simple(matrix)));
+    }
+
+    @Override
+    public Matrix multiply(double val) {
+        return wrapSimple(simple().multiply(val));
+    }
+
+    @Override
+    public Vector multiply(Vector vector) {
+        return simple().multiply(simple(vector));
+    }
+
+    /**
+     * Products of at least MULTIPLY_THRESHOLD multiply-adds run on OjAlgo, and smaller ones on SIMPLE. The result keeps the
+     * representation it was computed in.
+     */
+    @Override
+    public Matrix multiply(Matrix matrix) {
+        if(getNumCols() != matrix.getNumRows())
+            throw new IncompatibleDimensionsException(getNumCols(), matrix.getNumRows());
+
+        if((long) getNumRows() * getNumCols() * matrix.getNumCols() >= MULTIPLY_THRESHOLD)
+            return new HybridMatrix(null, ojalgo().multiply(ojalgo(matrix)));
+        return wrapSimple(simple().multiply(simple(matrix)));
+    }
+
+    /**
+     * Same choice of backend as multiply(Matrix).
+     */
+    @Override
+    public Matrix multiplyTransposed(Matrix matrix) {
+        if(getNumCols() != matrix.getNumCols())
+            throw new IncompatibleDimensionsException(getNumCols(), matrix.getNumCols());
+
+        if((long) getNumRows() * getNumCols() * matrix.getNumRows() >= MULTIPLY_THRESHOLD)
+            return new HybridMatrix(null, ojalgo().multiplyTransposed(ojalgo(matrix)));
+        return wrapSimple(simple().multiplyTransposed(simple(matrix)));
+    }
+
+    @Override
+    public Matrix multiplyElement(Matrix matrix) {
+        return wrapSimple(simple().multiplyElement(simple(matrix)));
+    }
+
+    @Override
+    public Matrix divide(double val) {
+        return wrapSimple(simple().divide(val));
+    }
+
+    @Override
+    public Matrix divide(Matrix matrix) {
+        return wrapSimple(simple().divide(simple(matrix)));
+    }
+
+    @Override
+    public Matrix transpose() {
+        return wrapSimple(simple().transpose());
+    }
+
+    @Override
+    public double[][] asArray() {
+        return any().asArray();
+    }
+}
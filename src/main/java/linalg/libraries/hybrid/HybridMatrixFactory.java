@@ -0,0 +1,46 @@
+package linalg.libraries.hybrid;
+
+import linalg.Matrix;
+import linalg.MatrixFactory;
+import linalg.libraries.simple.SimpleMatrixFactory;
+
+/**
+ * Matrix factory for the HYBRID backend. New matrices always start as a SimpleMatrix; the OjAlgo representation is only
+ * created when a large product requires it.
+ *
+ * @see HybridMatrix
+ * @see MatrixFactory
+ */
+public class HybridMatrixFactory implements MatrixFactory {
+    private final SimpleMatrixFactory factory = new SimpleMatrixFactory();
+
+    @Override
+    public Matrix make(double[][] values) {
+        return new HybridMatrix(factory.make(values), null);
+    }
+
+    @Override
+    public Matrix make(double[] values, int rows, int cols) {
+        return new HybridMatrix(factory.make(values, rows, cols), null);
+    }
+
+    @Override
+    public Matrix makeView(double[] values, int rows, int cols) {
+        return new HybridMatrix(factory.makeView(values, rows, cols), null);
+    }
+
+    @Override
+    public Matrix makeFilled(int rows, int cols, double value) {
+        return new HybridMatrix(factory.makeFilled(rows, cols, value), null);
+    }
+
+    @Override
+    public Matrix makeZero(int rows, int cols) {
+        return new HybridMatrix(factory.makeZero(rows, cols), null);
+    }
+
+    @Override
+    public Matrix makeEye(int dim) {
+        return new HybridMatrix(factory.makeEye(dim), null);
+    }
+}
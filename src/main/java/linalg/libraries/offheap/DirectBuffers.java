@@ -0,0 +1,52 @@
+package linalg.libraries.offheap;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases the native memory behind direct (and memory-mapped) buffers as soon as they are no longer needed, instead of
+ * waiting for the garbage collector to find them. This relies on sun.misc.Unsafe.invokeCleaner, available from Java 9
+ * onwards; on older JVMs free() is a no-op and memory is reclaimed by the garbage collector as usual.
+ *
+ * Since any later access to a freed buffer crashes the JVM, this is only used for buffers which never escaped, such as
+ * the chunks allocated so far when building an OffHeapMatrix fails.
+ */
+final class DirectBuffers {
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (Exception ex) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Frees the buffer's memory. The buffer must not be accessed afterwards, nor any view or duplicate of it.
+     * @param buffer: direct buffer to free
+     */
+    static void free(ByteBuffer buffer){
+        if(INVOKE_CLEANER == null || !buffer.isDirect())
+            return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (Exception ex) {
+            // freeing is best-effort: the garbage collector will eventually reclaim the memory
+        }
+    }
+}
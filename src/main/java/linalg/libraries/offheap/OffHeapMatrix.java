@@ -0,0 +1,222 @@
+package linalg.libraries.offheap;
+
+import exceptions.IncompatibleDimensionsException;
+import linalg.Matrix;
+import linalg.Vector;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+/**
+ * Matrix object whose elements live outside the Java heap, so very large point sets (tens of millions of rows) neither
+ * count towards the heap size nor get scanned or copied by the garbage collector.
+ *
+ * Elements are stored in row-major order over a sequence of direct buffers ("chunks"), since a single buffer cannot
+ * exceed 2GB. Each chunk holds a whole number of rows, so rows never straddle two chunks, and each row is read from a
+ * single buffer through absolute gets (Java 8 has no absolute bulk get, and a relative one would need a buffer view per
+ * call).
+ *
+ * close() releases the buffers, after which any access throws IllegalStateException. The native memory itself is then
+ * reclaimed by the garbage collector, once the buffers become unreachable: freeing it eagerly would turn any access still
+ * in flight (from another thread, for instance) into a JVM crash instead of an exception. Operations returning new
+ * matrices or vectors create them on the heap, through the library set in LinearAlgebraConfig.
+ *
+ * @see OffHeapMatrixFactory
+ */
+public class OffHeapMatrix extends Matrix implements AutoCloseable {
+    private final int rows, cols;
+    private final int rowsPerChunk;
+    private final boolean readOnly;
+    private volatile DoubleBuffer[] chunks;
+
+    OffHeapMatrix(ByteBuffer[] buffers, int rows, int cols, int rowsPerChunk, boolean readOnly) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowsPerChunk = rowsPerChunk;
+        this.readOnly = readOnly;
+        this.chunks = new DoubleBuffer[buffers.length];
+        for(int i=0; i < buffers.length; i++)
+            chunks[i] = buffers[i].asDoubleBuffer();
+    }
+
+    @Override
+    public int getNumRows() {
+        return rows;
+    }
+
+    @Override
+    public int getNumCols() {
+        return cols;
+    }
+
+    /**
+     * @return whether elements can be modified through set()
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @return whether close() has been called
+     */
+    public boolean isClosed() {
+        return chunks == null;
+    }
+
+    private DoubleBuffer chunkOf(int row){
+        DoubleBuffer[] chunks = this.chunks;
+        if(chunks == null)
+            throw new IllegalStateException("Matrix has been closed.");
+        if(row < 0 || row >= rows)
+            throw new ArrayIndexOutOfBoundsException();
+        return chunks[row / rowsPerChunk];
+    }
+
+    private int offsetOf(int row){
+        return (row % rowsPerChunk) * cols;
+    }
+
+    @Override
+    public double get(int row, int col) {
+        DoubleBuffer chunk = chunkOf(row);
+        if(col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+        return chunk.get(offsetOf(row) + col);
+    }
+
+    /**
+     * @throws UnsupportedOperationException if the matrix is read-only
+     */
+    @Override
+    public void set(int row, int col, double value) {
+        DoubleBuffer chunk = chunkOf(row);
+        if(col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+        if(readOnly)
+            throw new UnsupportedOperationException("Matrix is read-only.");
+        chunk.put(offsetOf(row) + col, value);
+    }
+
+    @Override
+    public void copyRow(int row, double[] destination){
+        DoubleBuffer chunk = chunkOf(row);
+        for(int j=0, pos=offsetOf(row); j < cols; j++, pos++)  // absolute gets, so no buffer view is allocated
+            destination[j] = chunk.get(pos);
+    }
+
+    @Override
+    public Vector getRow(int row) {
+        double[] result = new double[cols];
+        copyRow(row, result);
+        return Vector.FACTORY.make(result);
+    }
+
+    @Override
+    public Vector getColumn(int col) {
+        if(col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+
+        double[] result = new double[rows];
+        for(int i=0; i < rows; i++)
+            result[i] = chunkOf(i).get(offsetOf(i) + col);
+        return Vector.FACTORY.make(result);
+    }
+
+    /**
+     * Matrix-Vector product, streaming over the off-heap rows once.
+     * @return on-heap vector from the library set in LinearAlgebraConfig
+     */
+    @Override
+    public Vector multiply(Vector vector) {
+        if(cols != vector.getDim())
+            throw new IncompatibleDimensionsException(cols, vector.getDim());
+
+        double[] x = vector.asArray();
+        double[] result = new double[rows];
+        for(int i=0; i < rows; i++) {
+            DoubleBuffer chunk = chunkOf(i);
+            int offset = offsetOf(i);
+            double sum = 0;
+            for (int j = 0; j < cols; j++)
+                sum += chunk.get(offset + j) * x[j];
+            result[i] = sum;
+        }
+        return Vector.FACTORY.make(result);
+    }
+
+    /**
+     * Matrix-Matrix product, streaming over the off-heap rows once. Meant for right-hand sides with few columns, such as
+     * the weights of a LinearMajorityVote, since the result is created on the heap.
+     * @return on-heap matrix from the library set in LinearAlgebraConfig
+     */
+    @Override
+    public Matrix multiply(Matrix matrix) {
+        if(cols != matrix.getNumRows())
+            throw new IncompatibleDimensionsException(cols, matrix.getNumRows());
+
+        double[][] right = matrix.asArray();
+        int width = matrix.getNumCols();
+        double[][] result = new double[rows][width];
+        double[] row = new double[cols];
+        for(int i=0; i < rows; i++) {
+            copyRow(i, row);
+            for (int k = 0; k < cols; k++) {
+                double value = row[k];
+                double[] rightRow = right[k];
+                for (int j = 0; j < width; j++)
+                    result[i][j] += value * rightRow[j];
+            }
+        }
+        return Matrix.FACTORY.make(result);
+    }
+
+    /**
+     * Rows of this matrix are streamed one at a time, while B is copied on-heap once, in row-major order. This is the
+     * operation behind LinearMajorityVote.predict(Matrix) over a memory-mapped dataset.
+     */
+    @Override
+    public Matrix multiplyTransposed(Matrix matrix) {
+        if(cols != matrix.getNumCols())
+            throw new IncompatibleDimensionsException(cols, matrix.getNumCols());
+
+        int height = matrix.getNumRows();
+        double[] right = new double[height * cols];
+        double[] row = new double[cols];
+        for(int j=0; j < height; j++) {
+            matrix.copyRow(j, row);
+            System.arraycopy(row, 0, right, j * cols, cols);
+        }
+
+        double[] result = new double[rows * height];
+        for(int i=0; i < rows; i++) {
+            copyRow(i, row);
+            for (int j = 0; j < height; j++) {
+                double sum = 0;
+                for (int k = 0, other = j * cols; k < cols; k++)
+                    sum += row[k] * right[other + k];
+                result[i * height + j] = sum;
+            }
+        }
+        return Matrix.FACTORY.make(result, rows, height);
+    }
+
+    /**
+     * @return on-heap copy of all elements. Beware this defeats the purpose of an off-heap matrix for large point sets.
+     */
+    @Override
+    public double[][] asArray() {
+        double[][] result = new double[rows][cols];
+        for(int i=0; i < rows; i++)
+            copyRow(i, result[i]);
+        return result;
+    }
+
+    /**
+     * Releases the buffers backing this matrix, whose off-heap memory is reclaimed by the garbage collector once no
+     * access is in flight anymore. Calling close() more than once has no effect.
+     */
+    @Override
+    public void close() {
+        chunks = null;
+    }
+}
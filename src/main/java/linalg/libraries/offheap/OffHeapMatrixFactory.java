@@ -0,0 +1,159 @@
+package linalg.libraries.offheap;
+
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.NegativeDimensionException;
+import linalg.Matrix;
+import linalg.MatrixFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Matrix factory allocating OffHeapMatrix objects. Like the sparse types, off-heap matrices are created explicitly for
+ * the large point sets which need them, instead of being selected through LinearAlgebraConfig.
+ *
+ * @see OffHeapMatrix
+ * @see MatrixFactory
+ */
+public class OffHeapMatrixFactory implements MatrixFactory {
+    /**
+     * Default upper bound on the size of each direct buffer: 1GB
+     */
+    static final int DEFAULT_CHUNK_BYTES = 1 << 30;
+
+    private final int chunkBytes;
+
+    public OffHeapMatrixFactory() {
+        this(DEFAULT_CHUNK_BYTES);
+    }
+
+    OffHeapMatrixFactory(int chunkBytes) {
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * @param cols: number of columns
+     * @param chunkBytes: upper bound on the size of each chunk
+     * @return number of rows fitting in a single chunk (at least one)
+     * @throws IllegalArgumentException if a single row does not fit in a direct buffer
+     */
+    static int rowsPerChunk(int cols, int chunkBytes){
+        long rowBytes = (long) cols * Double.BYTES;
+        if(rowBytes > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Rows of " + cols + " columns do not fit in a direct buffer.");
+        return (int) Math.max(1, chunkBytes / rowBytes);
+    }
+
+    /**
+     * Allocates a zero-filled off-heap matrix.
+     * @param rows: number of rows
+     * @param cols: number of columns
+     * @return new off-heap matrix, to be closed by the caller
+     * @throws NegativeDimensionException if rows or cols are not positive
+     */
+    public OffHeapMatrix allocate(int rows, int cols){
+        if(rows <= 0)
+            throw new NegativeDimensionException(rows);
+        if(cols <= 0)
+            throw new NegativeDimensionException(cols);
+
+        int rowsPerChunk = rowsPerChunk(cols, chunkBytes);
+        int numChunks = (rows + rowsPerChunk - 1) / rowsPerChunk;
+        ByteBuffer[] buffers = new ByteBuffer[numChunks];
+        try {
+            for (int i = 0; i < numChunks; i++) {
+                int chunkRows = Math.min(rowsPerChunk, rows - i * rowsPerChunk);
+                buffers[i] = ByteBuffer.allocateDirect(chunkRows * cols * Double.BYTES).order(ByteOrder.nativeOrder());
+            }
+        } catch (OutOfMemoryError error) {
+            for (ByteBuffer buffer : buffers)
+                if (buffer != null)
+                    DirectBuffers.free(buffer);
+            throw error;
+        }
+        return new OffHeapMatrix(buffers, rows, cols, rowsPerChunk, false);
+    }
+
+    /**
+     * Memory-maps a row-major block of doubles from a file as a read-only matrix, without copying it. Each chunk is
+     * mapped separately, so files larger than 2GB are supported. The mapping stays valid after the channel is closed,
+     * until the matrix itself is closed.
+     * @param channel: channel opened for reading
+     * @param position: file offset of element (0, 0)
+     * @param rows: number of rows
+     * @param cols: number of columns
+     * @param order: byte order of the stored doubles
+     * @return read-only off-heap matrix, to be closed by the caller
+     * @throws IOException if mapping fails
+     * @throws NegativeDimensionException if rows or cols are not positive
+     */
+    public OffHeapMatrix map(FileChannel channel, long position, int rows, int cols, ByteOrder order) throws IOException {
+        if(rows <= 0)
+            throw new NegativeDimensionException(rows);
+        if(cols <= 0)
+            throw new NegativeDimensionException(cols);
+
+        int rowsPerChunk = rowsPerChunk(cols, chunkBytes);
+        int numChunks = (rows + rowsPerChunk - 1) / rowsPerChunk;
+        long rowBytes = (long) cols * Double.BYTES;
+        ByteBuffer[] buffers = new ByteBuffer[numChunks];
+        try {
+            for (int i = 0; i < numChunks; i++) {
+                int chunkRows = Math.min(rowsPerChunk, rows - i * rowsPerChunk);
+                long start = position + (long) i * rowsPerChunk * rowBytes;
+                buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, chunkRows * rowBytes).order(order);
+            }
+        } catch (IOException | RuntimeException ex) {
+            for (ByteBuffer buffer : buffers)
+                if (buffer != null)
+                    DirectBuffers.free(buffer);
+            throw ex;
+        }
+        return new OffHeapMatrix(buffers, rows, cols, rowsPerChunk, true);
+    }
+
+    /**
+     * @throws IncompatibleDimensionsException if rows have different lengths
+     */
+    @Override
+    public Matrix make(double[][] values) {
+        if(values.length == 0)
+            throw new NegativeDimensionException(0);
+
+        OffHeapMatrix matrix = allocate(values.length, values[0].length);
+        for(int i=0; i < values.length; i++) {
+            if (values[i].length != values[0].length) {
+                matrix.close();
+                throw new IncompatibleDimensionsException(values[0].length, values[i].length);
+            }
+            for (int j = 0; j < values[i].length; j++)
+                matrix.set(i, j, values[i][j]);
+        }
+        return matrix;
+    }
+
+    @Override
+    public Matrix makeFilled(int rows, int cols, double fill) {
+        OffHeapMatrix matrix = allocate(rows, cols);
+        if(fill != 0)
+            for(int i=0; i < rows; i++)
+                for(int j=0; j < cols; j++)
+                    matrix.set(i, j, fill);
+        return matrix;
+    }
+
+    @Override
+    public Matrix makeZero(int rows, int cols) {
+        return allocate(rows, cols);
+    }
+
+    @Override
+    public Matrix makeEye(int dim) {
+        OffHeapMatrix matrix = allocate(dim, dim);
+        for(int i=0; i < dim; i++)
+            matrix.set(i, i, 1.0);
+        return matrix;
+    }
+}
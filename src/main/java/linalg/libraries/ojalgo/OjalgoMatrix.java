@@ -5,6 +5,7 @@ import exceptions.IncompatibleDimensionsException;
 import exceptions.linalg.IncompatibleLinearAlgebraBackendException;
 import linalg.Matrix;
 import linalg.Vector;
+import linalg.libraries.sparse.SparseVector;
 import org.ojalgo.function.BinaryFunction;
 import org.ojalgo.matrix.store.PrimitiveDenseStore;
 
@@ -65,7 +66,7 @@ public class OjalgoMatrix extends Matrix {
 
     @Override
     public Matrix sliceColumns(int start, int end) {
-        if(start < 0 || end >= getNumCols())
+        if(start < 0 || end > getNumCols())
             throw new ArrayIndexOutOfBoundsException();
 
         if(start >= end)
@@ -146,6 +147,16 @@ public class OjalgoMatrix extends Matrix {
         return new OjalgoMatrix((PrimitiveDenseStore) storage.multiply(getStorage(matrix)));
     }
 
+    /**
+     * OjAlgo's transpose() is a lazy view, so the product reads B in place.
+     */
+    @Override
+    public Matrix multiplyTransposed(Matrix matrix) {
+        if (storage.countColumns() != matrix.getNumCols())
+            throw new IncompatibleDimensionsException((int) storage.countColumns(), matrix.getNumCols());
+        return new OjalgoMatrix((PrimitiveDenseStore) storage.multiply(getStorage(matrix).transpose()));
+    }
+
     @Override
     public double[][] asArray() {
         return storage.toRawCopy2D();
@@ -160,6 +171,9 @@ public class OjalgoMatrix extends Matrix {
     }
 
     private PrimitiveDenseStore getStorage(Vector vector){
+        if(vector instanceof SparseVector)
+            return PrimitiveDenseStore.FACTORY.columns(vector.asArray());
+
         try {
             return ((OjalgoVector) vector).getStorage();
         } catch (ClassCastException ex){
@@ -3,6 +3,7 @@ package linalg.libraries.ojalgo;
 import exceptions.IncompatibleDimensionsException;
 import exceptions.linalg.IncompatibleLinearAlgebraBackendException;
 import linalg.Vector;
+import linalg.libraries.sparse.SparseVector;
 import org.ojalgo.function.BinaryFunction;
 import org.ojalgo.matrix.store.PrimitiveDenseStore;
 
@@ -99,9 +100,128 @@ public class OjalgoVector extends Vector {
         return result;
     }
 
+    @Override
+    public Vector copy() {
+        return new OjalgoVector(storage.copy());
+    }
+
+    @Override
+    public Vector addInPlace(double value) {
+        storage.modifyAll(ADD.second(value));
+        return this;
+    }
+
+    @Override
+    public Vector addInPlace(Vector vector) {
+        return performInPlaceOperation(ADD, vector);
+    }
+
+    @Override
+    public Vector subtractInPlace(double value) {
+        storage.modifyAll(SUBTRACT.second(value));
+        return this;
+    }
+
+    @Override
+    public Vector subtractInPlace(Vector vector) {
+        return performInPlaceOperation(SUBTRACT, vector);
+    }
+
+    @Override
+    public Vector scaleInPlace(double value) {
+        storage.modifyAll(MULTIPLY.second(value));
+        return this;
+    }
+
+    @Override
+    public Vector multiplyInPlace(Vector vector) {
+        return performInPlaceOperation(MULTIPLY, vector);
+    }
+
+    @Override
+    public Vector divideInPlace(double value) {
+        storage.modifyAll(DIVIDE.second(value));
+        return this;
+    }
+
+    @Override
+    public Vector divideInPlace(Vector vector) {
+        return performInPlaceOperation(DIVIDE, vector);
+    }
+
+    private Vector performInPlaceOperation(BinaryFunction<Double> function, Vector vector){
+        checkDim(vector);
+        storage.modifyMatching(function, getStorage(vector));
+        return this;
+    }
+
+    @Override
+    public Vector axpy(double alpha, Vector x) {
+        checkDim(x);
+        double[] data = storage.data, other = getStorage(x).data;
+        for(int i=0; i < data.length; i++)
+            data[i] += alpha * other[i];
+        return this;
+    }
+
+    @Override
+    public Vector add(double value, Vector result) {
+        return performUnaryOperation(ADD, value, result);
+    }
+
+    @Override
+    public Vector subtract(double value, Vector result) {
+        return performUnaryOperation(SUBTRACT, value, result);
+    }
+
+    @Override
+    public Vector multiply(double value, Vector result) {
+        return performUnaryOperation(MULTIPLY, value, result);
+    }
+
+    @Override
+    public Vector divide(double value, Vector result) {
+        return performUnaryOperation(DIVIDE, value, result);
+    }
+
+    private Vector performUnaryOperation(BinaryFunction<Double> function, double value, Vector result){
+        checkDim(result);
+        getStorage(result).fillMatching(storage, function, value);
+        return result;
+    }
+
+    @Override
+    public Vector add(Vector vector, Vector result) {
+        return performBinaryOperation(ADD, vector, result);
+    }
+
+    @Override
+    public Vector subtract(Vector vector, Vector result) {
+        return performBinaryOperation(SUBTRACT, vector, result);
+    }
+
+    @Override
+    public Vector multiply(Vector vector, Vector result) {
+        return performBinaryOperation(MULTIPLY, vector, result);
+    }
+
+    @Override
+    public Vector divide(Vector vector, Vector result) {
+        return performBinaryOperation(DIVIDE, vector, result);
+    }
+
+    private Vector performBinaryOperation(BinaryFunction<Double> function, Vector vector, Vector result){
+        checkDim(vector);
+        checkDim(result);
+        getStorage(result).fillMatching(storage, function, getStorage(vector));
+        return result;
+    }
+
     @Override
     public double dot(Vector vector) {
         checkDim(vector);
+        if(vector instanceof SparseVector)
+            return vector.dot(this);
         return storage.dot(getStorage(vector));
     }
 
@@ -0,0 +1,70 @@
+package linalg.libraries.simd;
+
+/**
+ * Fallback implementation of SimdKernels using plain loops. It is what the SIMD backend runs on when the Vector API is
+ * not available.
+ *
+ * @author lucianodp
+ */
+class ScalarKernels implements SimdKernels {
+    @Override
+    public boolean isAccelerated() {
+        return false;
+    }
+
+    @Override
+    public double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        double sum = 0;
+        for(int i=0; i < length; i++)
+            sum += a[aOffset + i] * b[bOffset + i];
+        return sum;
+    }
+
+    @Override
+    public void add(double[] a, double[] b, double[] out) {
+        for(int i=0; i < a.length; i++)
+            out[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void subtract(double[] a, double[] b, double[] out) {
+        for(int i=0; i < a.length; i++)
+            out[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void multiply(double[] a, double[] b, double[] out) {
+        for(int i=0; i < a.length; i++)
+            out[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void divide(double[] a, double[] b, double[] out) {
+        for(int i=0; i < a.length; i++)
+            out[i] = a[i] / b[i];
+    }
+
+    @Override
+    public void add(double[] a, double value, double[] out) {
+        for(int i=0; i < a.length; i++)
+            out[i] = a[i] + value;
+    }
+
+    @Override
+    public void multiply(double[] a, double value, double[] out) {
+        for(int i=0; i < a.length; i++)
+            out[i] = a[i] * value;
+    }
+
+    @Override
+    public void divide(double[] a, double value, double[] out) {
+        for(int i=0; i < a.length; i++)
+            out[i] = a[i] / value;
+    }
+
+    @Override
+    public void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+        for(int i=0; i < length; i++)
+            y[yOffset + i] += alpha * x[xOffset + i];
+    }
+}
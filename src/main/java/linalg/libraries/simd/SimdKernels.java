@@ -0,0 +1,74 @@
+package linalg.libraries.simd;
+
+/**
+ * Numerical kernels behind the SIMD backend. There are two implementations:
+ *
+ * <ul>
+ *     <li>VectorApiKernels: uses the jdk.incubator.vector API, so each loop iteration processes as many doubles as the
+ *     widest vector register of the machine (4 on AVX2, 8 on AVX-512). It is compiled only when building on JDK 17+, and
+ *     requires the JVM flag "--add-modules jdk.incubator.vector" at runtime.</li>
+ *     <li>ScalarKernels: plain Java loops, used whenever the above is not available.</li>
+ * </ul>
+ *
+ * Unless stated otherwise, element-wise kernels process a.length elements, and 'out' is allowed to be the same array as
+ * any of the inputs.
+ *
+ * @author lucianodp
+ */
+interface SimdKernels {
+    /**
+     * Name of the system property which, when set to "true", forces the scalar kernels to be used
+     */
+    String DISABLE_PROPERTY = "linalg.simd.disable";
+
+    /**
+     * Kernels used by all SIMD objects, selected once at class-loading time.
+     */
+    SimdKernels INSTANCE = load();
+
+    static SimdKernels load(){
+        if(Boolean.getBoolean(DISABLE_PROPERTY))
+            return new ScalarKernels();
+
+        try {
+            return (SimdKernels) Class.forName("linalg.libraries.simd.VectorApiKernels").getDeclaredConstructor().newInstance();
+        } catch (Exception | LinkageError ex) {
+            // class not compiled, incubator module not resolved, or running on a JVM older than the class file
+            return new ScalarKernels();
+        }
+    }
+
+    /**
+     * @return whether these kernels use SIMD instructions
+     */
+    boolean isAccelerated();
+
+    double dot(double[] a, int aOffset, double[] b, int bOffset, int length);
+
+    void add(double[] a, double[] b, double[] out);
+
+    void subtract(double[] a, double[] b, double[] out);
+
+    void multiply(double[] a, double[] b, double[] out);
+
+    void divide(double[] a, double[] b, double[] out);
+
+    void add(double[] a, double value, double[] out);
+
+    void multiply(double[] a, double value, double[] out);
+
+    void divide(double[] a, double value, double[] out);
+
+    /**
+     * Computes y[yOffset + i] += alpha * x[xOffset + i], for i = 0, ..., length-1
+     */
+    void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length);
+
+    /**
+     * Computes out = M x, where M is a rows x cols matrix stored in row-major order
+     */
+    default void multiply(double[] matrix, int rows, int cols, double[] x, double[] out){
+        for(int i=0; i < rows; i++)
+            out[i] = dot(matrix, i * cols, x, 0, cols);
+    }
+}
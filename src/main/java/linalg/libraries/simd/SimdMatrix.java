@@ -0,0 +1,171 @@
+package linalg.libraries.simd;
+
+import exceptions.IncompatibleBoundsException;
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.IncompatibleLinearAlgebraBackendException;
+import linalg.Matrix;
+import linalg.Vector;
+import linalg.libraries.sparse.SparseVector;
+
+/**
+ * Matrix object backed by a single double[] array in row-major order, whose products run on SIMD kernels.
+ *
+ * @see SimdKernels
+ * @see Matrix
+ */
+public class SimdMatrix extends Matrix {
+    private static final SimdKernels KERNELS = SimdKernels.INSTANCE;
+
+    private final double[] storage;
+    private final int rows, cols;
+
+    SimdMatrix(double[] storage, int rows, int cols) {
+        this.storage = storage;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    @Override
+    public int getNumRows() {
+        return rows;
+    }
+
+    @Override
+    public int getNumCols() {
+        return cols;
+    }
+
+    private void checkBounds(int row, int col){
+        if(row < 0 || row >= rows || col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+    }
+
+    @Override
+    public double get(int row, int col) {
+        checkBounds(row, col);
+        return storage[row * cols + col];
+    }
+
+    @Override
+    public void set(int row, int col, double value) {
+        checkBounds(row, col);
+        storage[row * cols + col] = value;
+    }
+
+    @Override
+    public Vector getRow(int row) {
+        if(row < 0 || row >= rows)
+            throw new ArrayIndexOutOfBoundsException();
+
+        double[] result = new double[cols];
+        System.arraycopy(storage, row * cols, result, 0, cols);
+        return new SimdVector(result);
+    }
+
+    @Override
+    public Vector getColumn(int col) {
+        if(col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+
+        double[] result = new double[rows];
+        for(int i=0, pos=col; i < rows; i++, pos += cols)
+            result[i] = storage[pos];
+        return new SimdVector(result);
+    }
+
+    @Override
+    public Matrix sliceColumns(int start, int end) {
+        if(start < 0 || end > cols)
+            throw new ArrayIndexOutOfBoundsException();
+        if(start >= end)
+            throw new IncompatibleBoundsException();
+
+        int width = end - start;
+        double[] result = new double[rows * width];
+        for(int i=0; i < rows; i++)
+            System.arraycopy(storage, i * cols + start, result, i * width, width);
+        return new SimdMatrix(result, rows, width);
+    }
+
+    @Override
+    public Vector multiply(Vector vector) {
+        if(cols != vector.getDim())
+            throw new IncompatibleDimensionsException(cols, vector.getDim());
+
+        double[] result = new double[rows];
+        KERNELS.multiply(storage, rows, cols, getStorage(vector), result);
+        return new SimdVector(result);
+    }
+
+    /**
+     * Matrix-Matrix multiplication in i-k-j order, where each row of the result is accumulated through axpy kernels over
+     * the rows of the right-hand side.
+     */
+    @Override
+    public Matrix multiply(Matrix matrix) {
+        if(cols != matrix.getNumRows())
+            throw new IncompatibleDimensionsException(cols, matrix.getNumRows());
+
+        double[] right = getStorage(matrix);
+        int width = matrix.getNumCols();
+        double[] result = new double[rows * width];
+
+        for(int i=0; i < rows; i++)
+            for (int k = 0; k < cols; k++)
+                KERNELS.axpy(storage[i * cols + k], right, k * width, result, i * width, width);
+
+        return new SimdMatrix(result, rows, width);
+    }
+
+    @Override
+    public Matrix multiplyTransposed(Matrix matrix) {
+        if(cols != matrix.getNumCols())
+            throw new IncompatibleDimensionsException(cols, matrix.getNumCols());
+
+        double[] right = getStorage(matrix);
+        int height = matrix.getNumRows();
+        double[] result = new double[rows * height];
+
+        for(int i=0; i < rows; i++)
+            for (int j = 0; j < height; j++)
+                result[i * height + j] = KERNELS.dot(storage, i * cols, right, j * cols, cols);
+
+        return new SimdMatrix(result, rows, height);
+    }
+
+    @Override
+    public Matrix transpose() {
+        double[] result = new double[rows * cols];
+        for(int i=0; i < rows; i++)
+            for(int j=0; j < cols; j++)
+                result[j * rows + i] = storage[i * cols + j];
+        return new SimdMatrix(result, cols, rows);
+    }
+
+    @Override
+    public double[][] asArray() {
+        double[][] result = new double[rows][cols];
+        for(int i=0; i < rows; i++)
+            System.arraycopy(storage, i * cols, result[i], 0, cols);
+        return result;
+    }
+
+    private double[] getStorage(Matrix matrix){
+        try {
+            return ((SimdMatrix) matrix).storage;
+        } catch (ClassCastException ex){
+            throw new IncompatibleLinearAlgebraBackendException();
+        }
+    }
+
+    private double[] getStorage(Vector vector){
+        if(vector instanceof SparseVector)
+            return vector.asArray();
+
+        try {
+            return ((SimdVector) vector).getStorage();
+        } catch (ClassCastException ex){
+            throw new IncompatibleLinearAlgebraBackendException();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package linalg.libraries.simd;
+
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.NegativeDimensionException;
+import linalg.Matrix;
+import linalg.MatrixFactory;
+
+import java.util.Arrays;
+
+/**
+ * Matrix factory using SIMD kernels as backend.
+ *
+ * @see MatrixFactory
+ */
+public class SimdMatrixFactory implements MatrixFactory {
+    /**
+     * Copies the values into a contiguous, row-major array.
+     * @throws IncompatibleDimensionsException if rows have different lengths
+     */
+    @Override
+    public Matrix make(double[][] values) {
+        if(values.length == 0)
+            throw new NegativeDimensionException(0);
+
+        int rows = values.length, cols = values[0].length;
+        double[] storage = new double[rows * cols];
+        for(int i=0; i < rows; i++) {
+            if(values[i].length != cols)
+                throw new IncompatibleDimensionsException(cols, values[i].length);
+            System.arraycopy(values[i], 0, storage, i * cols, cols);
+        }
+        return new SimdMatrix(storage, rows, cols);
+    }
+
+    /**
+     * The array is adopted as this matrix's storage, without copying.
+     */
+    @Override
+    public Matrix make(double[] values, int rows, int cols) {
+        MatrixFactory.checkRowMajor(values, rows, cols);
+        return new SimdMatrix(values, rows, cols);
+    }
+
+    @Override
+    public Matrix makeFilled(int rows, int cols, double value) {
+        checkDimensions(rows, cols);
+        double[] storage = new double[rows * cols];
+        Arrays.fill(storage, value);
+        return new SimdMatrix(storage, rows, cols);
+    }
+
+    @Override
+    public Matrix makeZero(int rows, int cols) {
+        checkDimensions(rows, cols);
+        return new SimdMatrix(new double[rows * cols], rows, cols);
+    }
+
+    @Override
+    public Matrix makeEye(int dim) {
+        Matrix eye = makeZero(dim, dim);
+        for(int i=0; i < dim; i++)
+            eye.set(i, i,1.0);
+        return eye;
+    }
+
+    private static void checkDimensions(int rows, int cols){
+        if(rows <= 0)
+            throw new NegativeDimensionException(rows);
+        if(cols <= 0)
+            throw new NegativeDimensionException(cols);
+    }
+}
@@ -0,0 +1,207 @@
+package linalg.libraries.simd;
+
+import exceptions.linalg.IncompatibleLinearAlgebraBackendException;
+import linalg.Vector;
+import linalg.libraries.sparse.SparseVector;
+
+import java.util.Arrays;
+
+/**
+ * Vector object backed by a double[] array, whose dot product and element-wise operations run on SIMD kernels.
+ *
+ * @see SimdKernels
+ * @see Vector
+ */
+public class SimdVector extends Vector {
+    private static final SimdKernels KERNELS = SimdKernels.INSTANCE;
+
+    private final double[] storage;
+
+    SimdVector(double[] storage) {
+        this.storage = storage;
+    }
+
+    private SimdVector makeZero(){
+        return new SimdVector(new double[storage.length]);
+    }
+
+    @Override
+    public int getDim() {
+        return storage.length;
+    }
+
+    @Override
+    public double get(int index) {
+        return storage[index];
+    }
+
+    @Override
+    public void set(int index, double newValue) {
+        storage[index] = newValue;
+    }
+
+    @Override
+    public Vector copy() {
+        return new SimdVector(asArray());
+    }
+
+    @Override
+    public Vector add(double value) {
+        return add(value, makeZero());
+    }
+
+    @Override
+    public Vector add(Vector vector) {
+        return add(vector, makeZero());
+    }
+
+    @Override
+    public Vector subtract(double value) {
+        return subtract(value, makeZero());
+    }
+
+    @Override
+    public Vector subtract(Vector vector) {
+        return subtract(vector, makeZero());
+    }
+
+    @Override
+    public Vector multiply(double value) {
+        return multiply(value, makeZero());
+    }
+
+    @Override
+    public Vector multiply(Vector vector) {
+        return multiply(vector, makeZero());
+    }
+
+    @Override
+    public Vector divide(double value) {
+        return divide(value, makeZero());
+    }
+
+    @Override
+    public Vector divide(Vector vector) {
+        return divide(vector, makeZero());
+    }
+
+    @Override
+    public Vector addInPlace(double value) {
+        return add(value, this);
+    }
+
+    @Override
+    public Vector addInPlace(Vector vector) {
+        return add(vector, this);
+    }
+
+    @Override
+    public Vector subtractInPlace(Vector vector) {
+        return subtract(vector, this);
+    }
+
+    @Override
+    public Vector scaleInPlace(double value) {
+        return multiply(value, this);
+    }
+
+    @Override
+    public Vector multiplyInPlace(Vector vector) {
+        return multiply(vector, this);
+    }
+
+    @Override
+    public Vector divideInPlace(double value) {
+        return divide(value, this);
+    }
+
+    @Override
+    public Vector divideInPlace(Vector vector) {
+        return divide(vector, this);
+    }
+
+    @Override
+    public Vector axpy(double alpha, Vector x) {
+        checkDim(x);
+        KERNELS.axpy(alpha, getStorage(x), 0, storage, 0, storage.length);
+        return this;
+    }
+
+    @Override
+    public Vector add(double value, Vector result) {
+        checkDim(result);
+        KERNELS.add(storage, value, getStorage(result));
+        return result;
+    }
+
+    @Override
+    public Vector add(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        KERNELS.add(storage, getStorage(vector), getStorage(result));
+        return result;
+    }
+
+    @Override
+    public Vector subtract(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        KERNELS.subtract(storage, getStorage(vector), getStorage(result));
+        return result;
+    }
+
+    @Override
+    public Vector multiply(double value, Vector result) {
+        checkDim(result);
+        KERNELS.multiply(storage, value, getStorage(result));
+        return result;
+    }
+
+    @Override
+    public Vector multiply(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        KERNELS.multiply(storage, getStorage(vector), getStorage(result));
+        return result;
+    }
+
+    @Override
+    public Vector divide(double value, Vector result) {
+        checkDim(result);
+        KERNELS.divide(storage, value, getStorage(result));
+        return result;
+    }
+
+    @Override
+    public Vector divide(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        KERNELS.divide(storage, getStorage(vector), getStorage(result));
+        return result;
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        checkDim(vector);
+        if(vector instanceof SparseVector)
+            return vector.dot(this);
+        return KERNELS.dot(storage, 0, getStorage(vector), 0, storage.length);
+    }
+
+    @Override
+    public double[] asArray() {
+        return Arrays.copyOf(storage, storage.length);
+    }
+
+    double[] getStorage() {
+        return storage;
+    }
+
+    private double[] getStorage(Vector vector){
+        try {
+            return ((SimdVector) vector).storage;
+        } catch (ClassCastException ex){
+            throw new IncompatibleLinearAlgebraBackendException();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package linalg.libraries.simd;
+
+import exceptions.linalg.NegativeDimensionException;
+import linalg.Vector;
+import linalg.VectorFactory;
+
+import java.util.Arrays;
+
+/**
+ * Vector factory using SIMD kernels as backend.
+ *
+ * @see VectorFactory
+ */
+public class SimdVectorFactory implements VectorFactory {
+    /**
+     * @return whether the SIMD backend is running on the JDK Vector API (true) or on its scalar fallback (false)
+     */
+    public static boolean isAccelerated(){
+        return SimdKernels.INSTANCE.isAccelerated();
+    }
+
+    @Override
+    public Vector make(double[] values) {
+        return new SimdVector(values);
+    }
+
+    @Override
+    public Vector makeFilled(int dim, double fill) {
+        if(dim <= 0)
+            throw new NegativeDimensionException(dim);
+        double[] result = new double[dim];
+        Arrays.fill(result, fill);
+        return make(result);
+    }
+
+    @Override
+    public Vector makeZero(int dim) {
+        if(dim <= 0)
+            throw new NegativeDimensionException(dim);
+        return make(new double[dim]);
+    }
+}
@@ -1,42 +1,262 @@
 package linalg.libraries.simple;
 
+import exceptions.IncompatibleBoundsException;
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.IncompatibleLinearAlgebraBackendException;
 import linalg.Matrix;
+import linalg.MatrixMultiplication;
+import linalg.Vector;
+import linalg.libraries.sparse.SparseVector;
 
-import java.util.Arrays;
-
+/**
+ * Matrix object backed by a single double[] array. Matrices created by the factory store their elements in row-major
+ * order: element (i, j) lives at position i * numCols + j. Compared to a double[][] array, this layout keeps all rows
+ * contiguous in memory, so the kernels below always traverse the storage sequentially.
+ *
+ * More generally, element (i, j) lives at offset + i * rowStride + j * colStride, which lets getRow, getColumn,
+ * sliceColumns and transpose return views sharing this matrix's array instead of copies. Views are copy-on-write on both
+ * sides: a view is flagged as shared, and copies its own data before its first write, while the parent remembers that its
+ * array has been viewed, and moves to a private copy before its next write. Either way, views behave as snapshots taken
+ * when they were created, and the copy only happens if someone writes. The viewed flag is volatile and only ever set by
+ * getters, so concurrent readers may take views without synchronization.
+ *
+ * @see Matrix
+ */
 public class SimpleMatrix extends Matrix {
-    private double[][] storage;
+    private double[] storage;
+    private int offset, rowStride, colStride;
+    private final int rows, cols;
+    private boolean shared;
+
+    /**
+     * whether views over the current storage may exist, in which case it must be copied before being written
+     */
+    private volatile boolean viewed;
+
+    SimpleMatrix(double[] storage, int rows, int cols) {
+        this(storage, 0, cols, 1, rows, cols, false);
+    }
 
-    SimpleMatrix(double[][] storage) {
+    private SimpleMatrix(double[] storage, int offset, int rowStride, int colStride, int rows, int cols, boolean shared) {
         this.storage = storage;
+        this.offset = offset;
+        this.rowStride = rowStride;
+        this.colStride = colStride;
+        this.rows = rows;
+        this.cols = cols;
+        this.shared = shared;
+    }
+
+    /**
+     * @return copy-on-write view over the first rows * cols elements of the given row-major array
+     */
+    static SimpleMatrix view(double[] storage, int rows, int cols) {
+        return new SimpleMatrix(storage, 0, cols, 1, rows, cols, true);
     }
 
     @Override
     public int getNumRows() {
-        return storage.length;
+        return rows;
     }
 
     @Override
     public int getNumCols() {
-        return storage[0].length;
+        return cols;
+    }
+
+    /**
+     * Copies the data into a private, row-major array if this matrix is a view over another object's array, or if views
+     * over its own array have been taken.
+     */
+    private void ensureWritable(){
+        if(shared || viewed) {
+            storage = toRowMajor();
+            offset = 0;
+            rowStride = cols;
+            colStride = 1;
+            shared = false;
+            viewed = false;
+        }
+    }
+
+    /**
+     * @return this matrix's storage, after recording that a view over it is about to be created
+     */
+    private double[] share(){
+        if(!viewed)
+            viewed = true;
+        return storage;
+    }
+
+    private boolean isRowMajor(){
+        return offset == 0 && rowStride == cols && colStride == 1 && storage.length == rows * cols;
+    }
+
+    /**
+     * @return the elements in row-major order, which is this matrix's own storage whenever possible. It must not be
+     * modified.
+     */
+    private double[] getRowMajor(){
+        return isRowMajor() ? storage : toRowMajor();
+    }
+
+    private double[] toRowMajor(){
+        double[] result = new double[rows * cols];
+        for(int i=0, pos=0; i < rows; i++) {
+            if (colStride == 1) {
+                System.arraycopy(storage, offset + i * rowStride, result, pos, cols);
+                pos += cols;
+            }
+            else {
+                for (int j = 0, p = offset + i * rowStride; j < cols; j++, p += colStride)
+                    result[pos++] = storage[p];
+            }
+        }
+        return result;
+    }
+
+    private void checkBounds(int row, int col){
+        if(row < 0 || row >= rows || col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
     }
 
     @Override
     public double get(int row, int col) {
-        return storage[row][col];
+        checkBounds(row, col);
+        return storage[offset + row * rowStride + col * colStride];
     }
 
     @Override
     public void set(int row, int col, double value) {
-        storage[row][col] = value;
+        checkBounds(row, col);
+        ensureWritable();
+        storage[offset + row * rowStride + col * colStride] = value;
+    }
+
+    @Override
+    public void copyRow(int row, double[] destination) {
+        if(row < 0 || row >= rows)
+            throw new ArrayIndexOutOfBoundsException();
+
+        int start = offset + row * rowStride;
+        if(colStride == 1)
+            System.arraycopy(storage, start, destination, 0, cols);
+        else
+            for(int j=0, pos=start; j < cols; j++, pos += colStride)
+                destination[j] = storage[pos];
+    }
+
+    /**
+     * @return copy-on-write view of the row
+     */
+    @Override
+    public Vector getRow(int row) {
+        if(row < 0 || row >= rows)
+            throw new ArrayIndexOutOfBoundsException();
+
+        return new SimpleVector(share(), offset + row * rowStride, colStride, cols, true);
+    }
+
+    /**
+     * @return copy-on-write view of the column
+     */
+    @Override
+    public Vector getColumn(int col) {
+        if(col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+
+        return new SimpleVector(share(), offset + col * colStride, rowStride, rows, true);
+    }
+
+    /**
+     * @return copy-on-write view of the columns in [start, end)
+     */
+    @Override
+    public Matrix sliceColumns(int start, int end) {
+        if(start < 0 || end > cols)
+            throw new ArrayIndexOutOfBoundsException();
+        if(start >= end)
+            throw new IncompatibleBoundsException();
+
+        return new SimpleMatrix(share(), offset + start * colStride, rowStride, colStride, rows, end - start, true);
+    }
+
+    @Override
+    public Vector multiply(Vector vector) {
+        if(cols != vector.getDim())
+            throw new IncompatibleDimensionsException(cols, vector.getDim());
+
+        double[] x = getStorage(vector);
+        double[] result = new double[rows];
+        for(int i=0; i < rows; i++) {
+            double sum = 0;
+            for (int j = 0, pos = offset + i * rowStride; j < cols; j++, pos += colStride)
+                sum += storage[pos] * x[j];
+            result[i] = sum;
+        }
+        return new SimpleVector(result);
+    }
+
+    /**
+     * Matrix-Matrix multiplication through the cache-blocked kernel in MatrixMultiplication, which runs over our row-major
+     * storage directly and splits large products over LinearAlgebraConfig.getParallelism() threads. Views are compacted
+     * into row-major order first.
+     */
+    @Override
+    public Matrix multiply(Matrix matrix) {
+        if(cols != matrix.getNumRows())
+            throw new IncompatibleDimensionsException(cols, matrix.getNumRows());
+
+        int width = matrix.getNumCols();
+        double[] result = new double[rows * width];
+        MatrixMultiplication.multiply(getRowMajor(), getStorage(matrix), result, rows, cols, width);
+        return new SimpleMatrix(result, rows, width);
+    }
+
+    @Override
+    public Matrix multiplyTransposed(Matrix matrix) {
+        if(cols != matrix.getNumCols())
+            throw new IncompatibleDimensionsException(cols, matrix.getNumCols());
+
+        int height = matrix.getNumRows();
+        double[] result = new double[rows * height];
+        MatrixMultiplication.multiplyTransposed(getRowMajor(), getStorage(matrix), result, rows, cols, height);
+        return new SimpleMatrix(result, rows, height);
+    }
+
+    /**
+     * @return copy-on-write view of the transpose, obtained by swapping the row and column strides
+     */
+    @Override
+    public Matrix transpose() {
+        return new SimpleMatrix(share(), offset, colStride, rowStride, cols, rows, true);
     }
 
     @Override
     public double[][] asArray() {
-        double[][] result = new double[getNumRows()][getNumCols()];
-        for(int i=0; i < getNumRows(); i++)
-            result[i] = Arrays.copyOf(storage[i], getNumCols());
+        double[][] result = new double[rows][cols];
+        for(int i=0; i < rows; i++)
+            for (int j = 0, pos = offset + i * rowStride; j < cols; j++, pos += colStride)
+                result[i][j] = storage[pos];
         return result;
     }
 
+    private double[] getStorage(Matrix matrix){
+        try {
+            return ((SimpleMatrix) matrix).getRowMajor();
+        } catch (ClassCastException ex){
+            throw new IncompatibleLinearAlgebraBackendException();
+        }
+    }
+
+    private double[] getStorage(Vector vector){
+        if(vector instanceof SparseVector)
+            return vector.asArray();
+
+        try {
+            return ((SimpleVector) vector).getStorage();
+        } catch (ClassCastException ex){
+            throw new IncompatibleLinearAlgebraBackendException();
+        }
+    }
 }
@@ -1,32 +1,67 @@
 package linalg.libraries.simple;
 
+import exceptions.IncompatibleDimensionsException;
 import exceptions.linalg.NegativeDimensionException;
 import linalg.Matrix;
 import linalg.MatrixFactory;
 
+import java.util.Arrays;
+
 /**
- * Matrix factory using OjAlgo library as backend.
+ * Matrix factory using our own SimpleMatrix as backend.
  *
  * @see MatrixFactory
  */
 public class SimpleMatrixFactory implements MatrixFactory {
+    /**
+     * Copies the values into a contiguous, row-major array.
+     * @throws IncompatibleDimensionsException if rows have different lengths
+     */
     @Override
     public Matrix make(double[][] values) {
-        return new SimpleMatrix(values);
+        if(values.length == 0)
+            throw new NegativeDimensionException(0);
+
+        int rows = values.length, cols = values[0].length;
+        double[] storage = new double[rows * cols];
+        for(int i=0; i < rows; i++) {
+            if(values[i].length != cols)
+                throw new IncompatibleDimensionsException(cols, values[i].length);
+            System.arraycopy(values[i], 0, storage, i * cols, cols);
+        }
+        return new SimpleMatrix(storage, rows, cols);
+    }
+
+    /**
+     * The array is adopted as this matrix's storage, without copying.
+     */
+    @Override
+    public Matrix make(double[] values, int rows, int cols) {
+        MatrixFactory.checkRowMajor(values, rows, cols);
+        return new SimpleMatrix(values, rows, cols);
+    }
+
+    /**
+     * The array is shared as a copy-on-write view, without copying.
+     */
+    @Override
+    public Matrix makeView(double[] values, int rows, int cols) {
+        MatrixFactory.checkView(values, rows, cols);
+        return SimpleMatrix.view(values, rows, cols);
     }
 
     @Override
     public Matrix makeFilled(int rows, int cols, double value) {
-        return makeZero(rows, cols).add(value);
+        checkDimensions(rows, cols);
+        double[] storage = new double[rows * cols];
+        Arrays.fill(storage, value);
+        return new SimpleMatrix(storage, rows, cols);
     }
 
     @Override
     public Matrix makeZero(int rows, int cols) {
-        if(rows <= 0)
-            throw new NegativeDimensionException(rows);
-        if(cols <= 0)
-            throw new NegativeDimensionException(cols);
-        return new SimpleMatrix(new double[rows][cols]);
+        checkDimensions(rows, cols);
+        return new SimpleMatrix(new double[rows * cols], rows, cols);
     }
 
     @Override
@@ -36,4 +71,11 @@ public class SimpleMatrixFactory implements MatrixFactory {
             eye.set(i, i,1.0);
         return eye;
     }
+
+    private static void checkDimensions(int rows, int cols){
+        if(rows <= 0)
+            throw new NegativeDimensionException(rows);
+        if(cols <= 0)
+            throw new NegativeDimensionException(cols);
+    }
 }
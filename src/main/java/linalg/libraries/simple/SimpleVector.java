@@ -1,44 +1,327 @@
 package linalg.libraries.simple;
 
+import exceptions.linalg.IncompatibleLinearAlgebraBackendException;
 import linalg.Vector;
-
-import java.util.Arrays;
+import linalg.libraries.sparse.SparseVector;
 
 
 /**
- * Vector object using the OjAlgo library. The implementation of these operations are based on their AbstractMatrix class,
- * found <a href="https://github.com/optimatika/ojAlgo/blob/master/src/org/ojalgo/matrix/AbstractMatrix.java">here</a>.
+ * Vector object backed by a plain double[] array. All arithmetic is implemented as simple loops over the underlying
+ * arrays, without going through the Vector.FACTORY.
+ *
+ * A SimpleVector may also be a strided view over another object's array (for instance, a row or column of a SimpleMatrix):
+ * component i then lives at position offset + i * stride. Views are flagged as shared, and copy their own data before
+ * their first write, while their parent copies its array before its own next write. This way, a view behaves as a
+ * snapshot, and the copy only happens if someone writes.
  *
  * @see Vector
  */
 public class SimpleVector extends Vector {
     private double[] storage;
+    private int offset, stride;
+    private final int dim;
+    private boolean shared;
 
     SimpleVector(double[] storage) {
+        this(storage, 0, 1, storage.length, false);
+    }
+
+    SimpleVector(double[] storage, int offset, int stride, int dim, boolean shared) {
         this.storage = storage;
+        this.offset = offset;
+        this.stride = stride;
+        this.dim = dim;
+        this.shared = shared;
+    }
+
+    private SimpleVector makeZero(){
+        return new SimpleVector(new double[dim]);
+    }
+
+    /**
+     * Copies the data into a private, contiguous array if this vector is a view over another object's array.
+     */
+    private void ensureWritable(){
+        if(shared) {
+            storage = asArray();
+            offset = 0;
+            stride = 1;
+            shared = false;
+        }
+    }
+
+    private boolean isContiguous(){
+        return offset == 0 && stride == 1 && storage.length == dim;
+    }
+
+    /**
+     * @return whether the unrolled SmallVectorKernels apply to this vector and the given operand
+     */
+    private boolean isSmall(SimpleVector other){
+        return SmallVectorKernels.accepts(dim) && isContiguous() && other.isContiguous();
     }
 
     @Override
     public int getDim() {
-        return storage.length;
+        return dim;
     }
 
     @Override
     public double get(int index) {
-        return storage[index];
+        if(index < 0 || index >= dim)
+            throw new ArrayIndexOutOfBoundsException();
+        return storage[offset + index * stride];
     }
 
     @Override
     public void set(int index, double newValue) {
-        storage[index] = newValue;
+        if(index < 0 || index >= dim)
+            throw new ArrayIndexOutOfBoundsException();
+        ensureWritable();
+        storage[offset + index * stride] = newValue;
+    }
+
+    @Override
+    public Vector copy() {
+        return new SimpleVector(asArray());
+    }
+
+    @Override
+    public Vector add(double value) {
+        return add(value, makeZero());
+    }
+
+    @Override
+    public Vector add(Vector vector) {
+        return add(vector, makeZero());
+    }
+
+    @Override
+    public Vector subtract(double value) {
+        return subtract(value, makeZero());
+    }
+
+    @Override
+    public Vector subtract(Vector vector) {
+        return subtract(vector, makeZero());
+    }
+
+    @Override
+    public Vector multiply(double value) {
+        return multiply(value, makeZero());
+    }
+
+    @Override
+    public Vector multiply(Vector vector) {
+        return multiply(vector, makeZero());
+    }
+
+    @Override
+    public Vector divide(double value) {
+        return divide(value, makeZero());
+    }
+
+    @Override
+    public Vector divide(Vector vector) {
+        return divide(vector, makeZero());
+    }
+
+    @Override
+    public Vector addInPlace(double value) {
+        return add(value, this);
+    }
+
+    @Override
+    public Vector addInPlace(Vector vector) {
+        return add(vector, this);
+    }
+
+    @Override
+    public Vector subtractInPlace(Vector vector) {
+        return subtract(vector, this);
+    }
+
+    @Override
+    public Vector scaleInPlace(double value) {
+        return multiply(value, this);
+    }
+
+    @Override
+    public Vector multiplyInPlace(Vector vector) {
+        return multiply(vector, this);
+    }
+
+    @Override
+    public Vector divideInPlace(double value) {
+        return divide(value, this);
+    }
+
+    @Override
+    public Vector divideInPlace(Vector vector) {
+        return divide(vector, this);
+    }
+
+    /*
+     * In the kernels below, the destination is always made writable before reading any field of the operands: it may be
+     * one of the operands itself, whose storage could be replaced by a private copy.
+     */
+
+    @Override
+    public Vector axpy(double alpha, Vector x) {
+        checkDim(x);
+        ensureWritable();
+        SimpleVector other = getVector(x);
+        double[] a = storage, b = other.storage;
+        if(isSmall(other)) {
+            SmallVectorKernels.axpy(a, alpha, b, dim);
+            return this;
+        }
+        for(int i=0, p=offset, q=other.offset; i < dim; i++, p += stride, q += other.stride)
+            a[p] += alpha * b[q];
+        return this;
+    }
+
+    @Override
+    public Vector add(double value, Vector result) {
+        checkDim(result);
+        SimpleVector res = getWritableVector(result);
+        double[] a = storage, c = res.storage;
+        for(int i=0, p=offset, r=res.offset; i < dim; i++, p += stride, r += res.stride)
+            c[r] = a[p] + value;
+        return result;
+    }
+
+    @Override
+    public Vector add(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        SimpleVector res = getWritableVector(result), other = getVector(vector);
+        double[] a = storage, b = other.storage, c = res.storage;
+        if(isSmall(other) && res.isContiguous()) {
+            SmallVectorKernels.add(a, b, c, dim);
+            return result;
+        }
+        for(int i=0, p=offset, q=other.offset, r=res.offset; i < dim; i++, p += stride, q += other.stride, r += res.stride)
+            c[r] = a[p] + b[q];
+        return result;
+    }
+
+    @Override
+    public Vector subtract(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        SimpleVector res = getWritableVector(result), other = getVector(vector);
+        double[] a = storage, b = other.storage, c = res.storage;
+        if(isSmall(other) && res.isContiguous()) {
+            SmallVectorKernels.subtract(a, b, c, dim);
+            return result;
+        }
+        for(int i=0, p=offset, q=other.offset, r=res.offset; i < dim; i++, p += stride, q += other.stride, r += res.stride)
+            c[r] = a[p] - b[q];
+        return result;
+    }
+
+    @Override
+    public Vector multiply(double value, Vector result) {
+        checkDim(result);
+        SimpleVector res = getWritableVector(result);
+        double[] a = storage, c = res.storage;
+        if(isSmall(res)) {
+            SmallVectorKernels.multiply(a, value, c, dim);
+            return result;
+        }
+        for(int i=0, p=offset, r=res.offset; i < dim; i++, p += stride, r += res.stride)
+            c[r] = a[p] * value;
+        return result;
+    }
+
+    @Override
+    public Vector multiply(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        SimpleVector res = getWritableVector(result), other = getVector(vector);
+        double[] a = storage, b = other.storage, c = res.storage;
+        for(int i=0, p=offset, q=other.offset, r=res.offset; i < dim; i++, p += stride, q += other.stride, r += res.stride)
+            c[r] = a[p] * b[q];
+        return result;
+    }
+
+    @Override
+    public Vector divide(double value, Vector result) {
+        checkDim(result);
+        SimpleVector res = getWritableVector(result);
+        double[] a = storage, c = res.storage;
+        for(int i=0, p=offset, r=res.offset; i < dim; i++, p += stride, r += res.stride)
+            c[r] = a[p] / value;
+        return result;
+    }
+
+    @Override
+    public Vector divide(Vector vector, Vector result) {
+        checkDim(vector);
+        checkDim(result);
+        SimpleVector res = getWritableVector(result), other = getVector(vector);
+        double[] a = storage, b = other.storage, c = res.storage;
+        for(int i=0, p=offset, q=other.offset, r=res.offset; i < dim; i++, p += stride, q += other.stride, r += res.stride)
+            c[r] = a[p] / b[q];
+        return result;
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        checkDim(vector);
+        if(vector instanceof SparseVector)
+            return vector.dot(this);
+        SimpleVector other = getVector(vector);
+        double[] a = storage, b = other.storage;
+        if(isSmall(other))
+            return SmallVectorKernels.dot(a, b, dim);
+        double sum = 0;
+        for(int i=0, p=offset, q=other.offset; i < dim; i++, p += stride, q += other.stride)
+            sum += a[p] * b[q];
+        return sum;
+    }
+
+    @Override
+    public boolean equals(double value) {
+        if(SmallVectorKernels.accepts(dim) && isContiguous())
+            return SmallVectorKernels.allClose(storage, value, 1e-10, dim);
+        for(int i=0, p=offset; i < dim; i++, p += stride)
+            if(Math.abs(storage[p] - value) > 1e-10)
+                return false;
+        return true;
     }
 
     @Override
     public double[] asArray() {
-        return Arrays.copyOf(storage, storage.length);
+        double[] result = new double[dim];
+        if(stride == 1)
+            System.arraycopy(storage, offset, result, 0, dim);
+        else
+            for(int i=0, p=offset; i < dim; i++, p += stride)
+                result[i] = storage[p];
+        return result;
     }
 
+    /**
+     * @return the components in a contiguous array, which is this vector's own storage whenever possible. It must not be
+     * modified.
+     */
     double[] getStorage() {
-        return storage;
+        return isContiguous() ? storage : asArray();
+    }
+
+    private SimpleVector getVector(Vector vector){
+        try {
+            return (SimpleVector) vector;
+        } catch (ClassCastException ex){
+            throw new IncompatibleLinearAlgebraBackendException();
+        }
+    }
+
+    private SimpleVector getWritableVector(Vector vector){
+        SimpleVector result = getVector(vector);
+        result.ensureWritable();
+        return result;
     }
 }
@@ -0,0 +1,113 @@
+package linalg.libraries.simple;
+
+/**
+ * Fully unrolled kernels for contiguous vectors of dimension up to MAX_DIM. In low dimensions, the loop control in the
+ * generic SimpleVector kernels (strides, offsets and bounds checks on every iteration) costs about as much as the
+ * arithmetic itself; here each kernel is a single switch whose cases fall through, so a vector of dimension n jumps
+ * straight to case n and runs n straight-line statements.
+ *
+ * All arrays must hold exactly dim components, starting at position 0.
+ */
+final class SmallVectorKernels {
+    /**
+     * Largest dimension handled by these kernels
+     */
+    static final int MAX_DIM = 8;
+
+    private SmallVectorKernels() {
+    }
+
+    static boolean accepts(int dim){
+        return dim <= MAX_DIM;
+    }
+
+    static void add(double[] a, double[] b, double[] c, int dim){
+        switch (dim){
+            case 8: c[7] = a[7] + b[7];
+            case 7: c[6] = a[6] + b[6];
+            case 6: c[5] = a[5] + b[5];
+            case 5: c[4] = a[4] + b[4];
+            case 4: c[3] = a[3] + b[3];
+            case 3: c[2] = a[2] + b[2];
+            case 2: c[1] = a[1] + b[1];
+            case 1: c[0] = a[0] + b[0];
+        }
+    }
+
+    static void subtract(double[] a, double[] b, double[] c, int dim){
+        switch (dim){
+            case 8: c[7] = a[7] - b[7];
+            case 7: c[6] = a[6] - b[6];
+            case 6: c[5] = a[5] - b[5];
+            case 5: c[4] = a[4] - b[4];
+            case 4: c[3] = a[3] - b[3];
+            case 3: c[2] = a[2] - b[2];
+            case 2: c[1] = a[1] - b[1];
+            case 1: c[0] = a[0] - b[0];
+        }
+    }
+
+    static void multiply(double[] a, double value, double[] c, int dim){
+        switch (dim){
+            case 8: c[7] = a[7] * value;
+            case 7: c[6] = a[6] * value;
+            case 6: c[5] = a[5] * value;
+            case 5: c[4] = a[4] * value;
+            case 4: c[3] = a[3] * value;
+            case 3: c[2] = a[2] * value;
+            case 2: c[1] = a[1] * value;
+            case 1: c[0] = a[0] * value;
+        }
+    }
+
+    /**
+     * Computes a += alpha * b
+     */
+    static void axpy(double[] a, double alpha, double[] b, int dim){
+        switch (dim){
+            case 8: a[7] += alpha * b[7];
+            case 7: a[6] += alpha * b[6];
+            case 6: a[5] += alpha * b[5];
+            case 5: a[4] += alpha * b[4];
+            case 4: a[3] += alpha * b[3];
+            case 3: a[2] += alpha * b[2];
+            case 2: a[1] += alpha * b[1];
+            case 1: a[0] += alpha * b[0];
+        }
+    }
+
+    /**
+     * Components are accumulated in increasing index order, so the result is bitwise identical to the generic loop.
+     */
+    static double dot(double[] a, double[] b, int dim){
+        double sum = 0;
+        switch (dim){
+            case 8: return sum + a[0] * b[0] + a[1] * b[1] + a[2] * b[2] + a[3] * b[3] + a[4] * b[4] + a[5] * b[5] + a[6] * b[6] + a[7] * b[7];
+            case 7: return sum + a[0] * b[0] + a[1] * b[1] + a[2] * b[2] + a[3] * b[3] + a[4] * b[4] + a[5] * b[5] + a[6] * b[6];
+            case 6: return sum + a[0] * b[0] + a[1] * b[1] + a[2] * b[2] + a[3] * b[3] + a[4] * b[4] + a[5] * b[5];
+            case 5: return sum + a[0] * b[0] + a[1] * b[1] + a[2] * b[2] + a[3] * b[3] + a[4] * b[4];
+            case 4: return sum + a[0] * b[0] + a[1] * b[1] + a[2] * b[2] + a[3] * b[3];
+            case 3: return sum + a[0] * b[0] + a[1] * b[1] + a[2] * b[2];
+            case 2: return sum + a[0] * b[0] + a[1] * b[1];
+            case 1: return sum + a[0] * b[0];
+            default: return sum;
+        }
+    }
+
+    /**
+     * @return whether all components lie within tol of value
+     */
+    static boolean allClose(double[] a, double value, double tol, int dim){
+        switch (dim){
+            case 8: if (Math.abs(a[7] - value) > tol) return false;
+            case 7: if (Math.abs(a[6] - value) > tol) return false;
+            case 6: if (Math.abs(a[5] - value) > tol) return false;
+            case 5: if (Math.abs(a[4] - value) > tol) return false;
+            case 4: if (Math.abs(a[3] - value) > tol) return false;
+            case 3: if (Math.abs(a[2] - value) > tol) return false;
+            case 2: if (Math.abs(a[1] - value) > tol) return false;
+            case 1: if (Math.abs(a[0] - value) > tol) return false;
+        }
+        return true;
+    }
+}
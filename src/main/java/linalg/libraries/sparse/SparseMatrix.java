@@ -0,0 +1,328 @@
+package linalg.libraries.sparse;
+
+import exceptions.IncompatibleBoundsException;
+import exceptions.IncompatibleDimensionsException;
+import linalg.Matrix;
+import linalg.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Sparse Matrix in Compressed Sparse Row (CSR) format. Non-zero elements are stored row after row in two parallel arrays
+ * (column indexes and values), and rowPointers[i] marks the position where row i starts (rowPointers[rows] being the
+ * total number of non-zeros). Column indexes are strictly increasing within each row.
+ *
+ * This layout makes row access and Matrix-Vector products cost \( \mathcal{O}(nnz) \), which is what the version space
+ * and classifiers need when working over high-dimensional, sparse datasets. Operations producing a dense result, such as
+ * Matrix-Vector products, return dense objects from the library set in LinearAlgebraConfig.
+ *
+ * Snapshots of a SparseMatrixBuilder share its arrays, which may be longer than needed. They are flagged as shared, and
+ * copy their own data before their first write.
+ *
+ * @see SparseMatrixFactory
+ * @see SparseVector
+ * @author lucianodp
+ */
+public class SparseMatrix extends Matrix {
+    private final int rows, cols;
+    private int[] rowPointers;
+    private int[] columnIndexes;
+    private double[] values;
+    private boolean shared;
+
+    SparseMatrix(int rows, int cols, int[] rowPointers, int[] columnIndexes, double[] values) {
+        this(rows, cols, rowPointers, columnIndexes, values, false);
+    }
+
+    SparseMatrix(int rows, int cols, int[] rowPointers, int[] columnIndexes, double[] values, boolean shared) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowPointers = rowPointers;
+        this.columnIndexes = columnIndexes;
+        this.values = values;
+        this.shared = shared;
+    }
+
+    @Override
+    public int getNumRows() {
+        return rows;
+    }
+
+    @Override
+    public int getNumCols() {
+        return cols;
+    }
+
+    /**
+     * @return number of stored elements
+     */
+    public int getNumNonZeros() {
+        return rowPointers[rows];
+    }
+
+    private int find(int row, int col){
+        if(row < 0 || row >= rows || col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+        return Arrays.binarySearch(columnIndexes, rowPointers[row], rowPointers[row + 1], col);
+    }
+
+    @Override
+    public double get(int row, int col) {
+        int position = find(row, col);
+        return position >= 0 ? values[position] : 0;
+    }
+
+    /**
+     * Sets an element. Setting an element which was not stored before costs \( \mathcal{O}(nnz) \), so prefer building
+     * sparse matrices through SparseMatrixFactory whenever possible.
+     */
+    @Override
+    public void set(int row, int col, double value) {
+        int position = find(row, col);
+        if(position < 0 && value == 0)
+            return;
+
+        ensureWritable();
+        if(position >= 0) {
+            values[position] = value;
+            return;
+        }
+
+        position = -position - 1;
+        int size = rowPointers[rows];
+        if(size == columnIndexes.length) {
+            int capacity = Math.max(4, 2 * size);
+            columnIndexes = Arrays.copyOf(columnIndexes, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(columnIndexes, position, columnIndexes, position + 1, size - position);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        columnIndexes[position] = col;
+        values[position] = value;
+
+        for(int i=row+1; i <= rows; i++)
+            rowPointers[i]++;
+    }
+
+    /**
+     * Copies the arrays if they are shared with a SparseMatrixBuilder
+     */
+    private void ensureWritable(){
+        if(shared) {
+            int size = rowPointers[rows];
+            rowPointers = Arrays.copyOf(rowPointers, rows + 1);
+            columnIndexes = Arrays.copyOf(columnIndexes, size);
+            values = Arrays.copyOf(values, size);
+            shared = false;
+        }
+    }
+
+    /**
+     * @return sparse copy of the given row
+     */
+    @Override
+    public Vector getRow(int row) {
+        if(row < 0 || row >= rows)
+            throw new ArrayIndexOutOfBoundsException();
+
+        int start = rowPointers[row], end = rowPointers[row + 1];
+        return new SparseVector(cols, Arrays.copyOfRange(columnIndexes, start, end),
+                Arrays.copyOfRange(values, start, end), end - start);
+    }
+
+    @Override
+    public void copyRow(int row, double[] destination) {
+        if(row < 0 || row >= rows)
+            throw new ArrayIndexOutOfBoundsException();
+
+        Arrays.fill(destination, 0, cols, 0);
+        for(int k=rowPointers[row]; k < rowPointers[row + 1]; k++)
+            destination[columnIndexes[k]] = values[k];
+    }
+
+    /**
+     * @return sparse copy of the given column
+     */
+    @Override
+    public Vector getColumn(int col) {
+        if(col < 0 || col >= cols)
+            throw new ArrayIndexOutOfBoundsException();
+
+        int[] resultIndexes = new int[rows];
+        double[] resultValues = new double[rows];
+        int size = 0;
+        for(int i=0; i < rows; i++) {
+            int position = Arrays.binarySearch(columnIndexes, rowPointers[i], rowPointers[i + 1], col);
+            if(position >= 0) {
+                resultIndexes[size] = i;
+                resultValues[size++] = values[position];
+            }
+        }
+        return new SparseVector(rows, resultIndexes, resultValues, size);
+    }
+
+    @Override
+    public Matrix sliceColumns(int start, int end) {
+        if(start < 0 || end > cols)
+            throw new ArrayIndexOutOfBoundsException();
+        if(start >= end)
+            throw new IncompatibleBoundsException();
+
+        int[] resultPointers = new int[rows + 1];
+        int[] resultIndexes = new int[rowPointers[rows]];
+        double[] resultValues = new double[rowPointers[rows]];
+        int size = 0;
+        for(int i=0; i < rows; i++) {
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++) {
+                int col = columnIndexes[k];
+                if (col >= start && col < end) {
+                    resultIndexes[size] = col - start;
+                    resultValues[size++] = values[k];
+                }
+            }
+            resultPointers[i + 1] = size;
+        }
+        return new SparseMatrix(rows, end - start, resultPointers, resultIndexes, resultValues);
+    }
+
+    @Override
+    public Matrix multiply(double val) {
+        double[] result = new double[rowPointers[rows]];
+        for(int k=0; k < result.length; k++)
+            result[k] = values[k] * val;
+        return new SparseMatrix(rows, cols, Arrays.copyOf(rowPointers, rows + 1), Arrays.copyOf(columnIndexes, result.length), result);
+    }
+
+    @Override
+    public Matrix divide(double val) {
+        return multiply(1.0 / val);
+    }
+
+    /**
+     * Matrix-Vector product over the non-zero elements only. The vector is read once into a dense array, so the inner
+     * loop costs a single array access per non-zero.
+     * @return dense vector from the library set in LinearAlgebraConfig
+     */
+    @Override
+    public Vector multiply(Vector vector) {
+        if(cols != vector.getDim())
+            throw new IncompatibleDimensionsException(cols, vector.getDim());
+
+        double[] x = vector.asArray();
+        double[] result = new double[rows];
+        for(int i=0; i < rows; i++) {
+            double sum = 0;
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++)
+                sum += values[k] * x[columnIndexes[k]];
+            result[i] = sum;
+        }
+        return Vector.FACTORY.make(result);
+    }
+
+    /**
+     * Sparse-Dense Matrix product: each row of the result is a linear combination of the rows of the right-hand side,
+     * weighted by the non-zeros of the corresponding row of this matrix.
+     * @return dense matrix from the library set in LinearAlgebraConfig
+     */
+    @Override
+    public Matrix multiply(Matrix matrix) {
+        if(cols != matrix.getNumRows())
+            throw new IncompatibleDimensionsException(cols, matrix.getNumRows());
+
+        double[][] right = matrix.asArray();
+        int width = matrix.getNumCols();
+        double[][] result = new double[rows][width];
+        for(int i=0; i < rows; i++) {
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++) {
+                double value = values[k];
+                double[] rightRow = right[columnIndexes[k]];
+                for (int j = 0; j < width; j++)
+                    result[i][j] += value * rightRow[j];
+            }
+        }
+        return Matrix.FACTORY.make(result);
+    }
+
+    /**
+     * Each element is the dot product of a sparse row of this matrix against a row of B: a merge of both index lists if B
+     * is also sparse, or a loop over the non-zeros of this row otherwise.
+     */
+    @Override
+    public Matrix multiplyTransposed(Matrix matrix) {
+        if(cols != matrix.getNumCols())
+            throw new IncompatibleDimensionsException(cols, matrix.getNumCols());
+
+        int height = matrix.getNumRows();
+        double[] result = new double[rows * height];
+
+        if(matrix instanceof SparseMatrix) {
+            SparseMatrix other = (SparseMatrix) matrix;
+            for (int i = 0; i < rows; i++)
+                for (int j = 0; j < height; j++)
+                    result[i * height + j] = dotRows(i, other, j);
+        }
+        else {
+            double[] right = new double[cols];
+            for (int j = 0; j < height; j++) {
+                matrix.copyRow(j, right);
+                for (int i = 0; i < rows; i++) {
+                    double sum = 0;
+                    for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++)
+                        sum += values[k] * right[columnIndexes[k]];
+                    result[i * height + j] = sum;
+                }
+            }
+        }
+        return Matrix.FACTORY.make(result, rows, height);
+    }
+
+    private double dotRows(int row, SparseMatrix other, int otherRow){
+        int k = rowPointers[row], end = rowPointers[row + 1];
+        int l = other.rowPointers[otherRow], otherEnd = other.rowPointers[otherRow + 1];
+
+        double sum = 0;
+        while(k < end && l < otherEnd){
+            if(columnIndexes[k] < other.columnIndexes[l])
+                k++;
+            else if(columnIndexes[k] > other.columnIndexes[l])
+                l++;
+            else
+                sum += values[k++] * other.values[l++];
+        }
+        return sum;
+    }
+
+    /**
+     * Transposition by counting sort over the column indexes, in \( \mathcal{O}(nnz + cols) \).
+     */
+    @Override
+    public Matrix transpose() {
+        int size = rowPointers[rows];
+        int[] resultPointers = new int[cols + 1];
+        for(int k=0; k < size; k++)
+            resultPointers[columnIndexes[k] + 1]++;
+        for(int j=0; j < cols; j++)
+            resultPointers[j + 1] += resultPointers[j];
+
+        int[] next = Arrays.copyOf(resultPointers, cols);
+        int[] resultIndexes = new int[size];
+        double[] resultValues = new double[size];
+        for(int i=0; i < rows; i++) {
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++) {
+                int position = next[columnIndexes[k]]++;
+                resultIndexes[position] = i;
+                resultValues[position] = values[k];
+            }
+        }
+        return new SparseMatrix(cols, rows, resultPointers, resultIndexes, resultValues);
+    }
+
+    @Override
+    public double[][] asArray() {
+        double[][] result = new double[rows][cols];
+        for(int i=0; i < rows; i++)
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++)
+                result[i][columnIndexes[k]] = values[k];
+        return result;
+    }
+}
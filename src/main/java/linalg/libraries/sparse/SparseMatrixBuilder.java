@@ -0,0 +1,132 @@
+package linalg.libraries.sparse;
+
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.NegativeDimensionException;
+import linalg.Matrix;
+import linalg.MatrixBuilder;
+import linalg.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Append-only, growable collection of rows which can be turned into a SparseMatrix: the CSR counterpart of MatrixBuilder.
+ * Row pointers, column indexes and values are kept in arrays whose capacity is doubled whenever they run out of space,
+ * so appending a SparseVector costs amortized O(nnz) of that vector.
+ *
+ * snapshot() creates a SparseMatrix over the rows appended so far, sharing the builder's arrays: later rows are only
+ * ever written past the snapshot's last non-zero, and the snapshot copies the arrays before its first write. Alternating
+ * appends and snapshots thus costs amortized O(nnz) per row.
+ *
+ * @see MatrixBuilder
+ * @see SparseMatrix
+ */
+public class SparseMatrixBuilder {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int cols;
+    private int[] rowPointers;
+    private int[] columnIndexes;
+    private double[] values;
+    private int rows;
+
+    /**
+     * @param cols: number of columns of every row
+     * @throws NegativeDimensionException if cols is not positive
+     */
+    public SparseMatrixBuilder(int cols) {
+        if(cols <= 0)
+            throw new NegativeDimensionException(cols);
+
+        this.cols = cols;
+        this.rowPointers = new int[DEFAULT_CAPACITY + 1];
+        this.columnIndexes = new int[DEFAULT_CAPACITY];
+        this.values = new double[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * @return number of rows appended so far
+     */
+    public int getNumRows() {
+        return rows;
+    }
+
+    /**
+     * @return number of columns of every row
+     */
+    public int getNumCols() {
+        return cols;
+    }
+
+    /**
+     * @return number of non-zeros appended so far
+     */
+    public int getNumNonZeros() {
+        return rowPointers[rows];
+    }
+
+    /**
+     * Appends a copy of the given vector as the last row. Sparse vectors cost O(nnz); any other vector is scanned for
+     * its non-zero components.
+     * @param row: row values
+     * @return this builder
+     * @throws IncompatibleDimensionsException if row's dimension is different from getNumCols()
+     */
+    public SparseMatrixBuilder appendRow(Vector row){
+        if(row.getDim() != cols)
+            throw new IncompatibleDimensionsException(cols, row.getDim());
+
+        if(row instanceof SparseVector) {
+            SparseVector sparse = (SparseVector) row;
+            int size = reserve(sparse.getNumNonZeros());
+            for (int p = 0; p < sparse.getNumNonZeros(); p++) {
+                if (sparse.getValueAt(p) != 0) {
+                    columnIndexes[size] = sparse.getIndexAt(p);
+                    values[size++] = sparse.getValueAt(p);
+                }
+            }
+            rowPointers[++rows] = size;
+        }
+        else {
+            double[] dense = row.asArray();
+            int size = reserve(cols);
+            for (int j = 0; j < cols; j++) {
+                if (dense[j] != 0) {
+                    columnIndexes[size] = j;
+                    values[size++] = dense[j];
+                }
+            }
+            rowPointers[++rows] = size;
+        }
+        return this;
+    }
+
+    /**
+     * Makes sure there is room for one more row of up to 'nonZeros' elements, doubling the capacity if needed
+     * @return number of non-zeros stored so far
+     */
+    private int reserve(int nonZeros){
+        if(rows + 2 > rowPointers.length)
+            rowPointers = Arrays.copyOf(rowPointers, 2 * rowPointers.length);
+
+        int size = rowPointers[rows];
+        if(size + nonZeros > values.length) {
+            int capacity = Math.max(size + nonZeros, 2 * values.length);
+            columnIndexes = Arrays.copyOf(columnIndexes, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        return size;
+    }
+
+    /**
+     * Creates a SparseMatrix containing all rows appended so far, without emptying this builder. Rows appended afterwards
+     * do not show up in the snapshot.
+     * @return SparseMatrix of size getNumRows() x getNumCols()
+     * @throws NegativeDimensionException if no rows have been appended
+     */
+    public Matrix snapshot(){
+        if(rows == 0)
+            throw new NegativeDimensionException(0);
+
+        return new SparseMatrix(rows, cols, rowPointers, columnIndexes, values, true);
+    }
+}
@@ -0,0 +1,126 @@
+package linalg.libraries.sparse;
+
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.NegativeDimensionException;
+import linalg.Matrix;
+import linalg.MatrixFactory;
+
+import java.util.Arrays;
+
+/**
+ * Matrix factory creating SparseMatrix objects in CSR format. As with SparseVectorFactory, sparse matrices are created
+ * explicitly instead of through LinearAlgebraConfig.
+ *
+ * @see SparseMatrix
+ * @see MatrixFactory
+ */
+public class SparseMatrixFactory implements MatrixFactory {
+    /**
+     * Keeps only the non-zero values of the array.
+     * @throws IncompatibleDimensionsException if rows have different lengths
+     */
+    @Override
+    public Matrix make(double[][] values) {
+        if(values.length == 0)
+            throw new NegativeDimensionException(0);
+
+        int rows = values.length, cols = values[0].length;
+        int[] rowPointers = new int[rows + 1];
+        for(int i=0; i < rows; i++) {
+            if(values[i].length != cols)
+                throw new IncompatibleDimensionsException(cols, values[i].length);
+            int count = 0;
+            for (double value : values[i])
+                if (value != 0)
+                    count++;
+            rowPointers[i + 1] = rowPointers[i] + count;
+        }
+
+        int[] columnIndexes = new int[rowPointers[rows]];
+        double[] nonZeros = new double[rowPointers[rows]];
+        for(int i=0, k=0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (values[i][j] != 0) {
+                    columnIndexes[k] = j;
+                    nonZeros[k++] = values[i][j];
+                }
+            }
+        }
+        return new SparseMatrix(rows, cols, rowPointers, columnIndexes, nonZeros);
+    }
+
+    /**
+     * Stacks sparse vectors as the rows of a matrix, without going through a dense representation.
+     * @param rowVectors: rows of the matrix, all of the same dimension
+     * @return sparse matrix
+     * @throws IncompatibleDimensionsException if rows have different dimensions
+     */
+    public Matrix make(SparseVector[] rowVectors) {
+        if(rowVectors.length == 0)
+            throw new NegativeDimensionException(0);
+
+        int rows = rowVectors.length, cols = rowVectors[0].getDim();
+        int[] rowPointers = new int[rows + 1];
+        for(int i=0; i < rows; i++) {
+            if(rowVectors[i].getDim() != cols)
+                throw new IncompatibleDimensionsException(cols, rowVectors[i].getDim());
+            rowPointers[i + 1] = rowPointers[i] + rowVectors[i].getNumNonZeros();
+        }
+
+        int[] columnIndexes = new int[rowPointers[rows]];
+        double[] values = new double[rowPointers[rows]];
+        for(int i=0, k=0; i < rows; i++) {
+            for (int p = 0; p < rowVectors[i].getNumNonZeros(); p++, k++) {
+                columnIndexes[k] = rowVectors[i].getIndexAt(p);
+                values[k] = rowVectors[i].getValueAt(p);
+            }
+        }
+        return new SparseMatrix(rows, cols, rowPointers, columnIndexes, values);
+    }
+
+    @Override
+    public Matrix makeFilled(int rows, int cols, double fill) {
+        if(fill == 0)
+            return makeZero(rows, cols);
+        checkDimensions(rows, cols);
+
+        int[] rowPointers = new int[rows + 1];
+        int[] columnIndexes = new int[rows * cols];
+        double[] values = new double[rows * cols];
+        for(int i=0; i < rows; i++) {
+            rowPointers[i + 1] = (i + 1) * cols;
+            for (int j = 0; j < cols; j++)
+                columnIndexes[i * cols + j] = j;
+        }
+        Arrays.fill(values, fill);
+        return new SparseMatrix(rows, cols, rowPointers, columnIndexes, values);
+    }
+
+    @Override
+    public Matrix makeZero(int rows, int cols) {
+        checkDimensions(rows, cols);
+        return new SparseMatrix(rows, cols, new int[rows + 1], new int[0], new double[0]);
+    }
+
+    @Override
+    public Matrix makeEye(int dim) {
+        checkDimensions(dim, dim);
+
+        int[] rowPointers = new int[dim + 1];
+        int[] columnIndexes = new int[dim];
+        double[] values = new double[dim];
+        for(int i=0; i < dim; i++) {
+            rowPointers[i + 1] = i + 1;
+            columnIndexes[i] = i;
+            values[i] = 1.0;
+        }
+        return new SparseMatrix(dim, dim, rowPointers, columnIndexes, values);
+    }
+
+    private static void checkDimensions(int rows, int cols){
+        if(rows <= 0)
+            throw new NegativeDimensionException(rows);
+        if(cols <= 0)
+            throw new NegativeDimensionException(cols);
+    }
+}
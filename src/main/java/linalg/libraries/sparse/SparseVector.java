@@ -0,0 +1,286 @@
+package linalg.libraries.sparse;
+
+import exceptions.linalg.EmptyVectorException;
+import linalg.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Sparse Vector implementation. Only non-zero components are stored, as two parallel arrays: the (strictly increasing)
+ * indexes of the non-zero components, and their respective values.
+ *
+ * Operations whose result is also sparse (scaling, element-wise multiplication, dot products, additions of two sparse
+ * vectors, ...) cost \( \mathcal{O}(nnz) \) instead of \( \mathcal{O}(dim) \). Operations whose result is dense, such
+ * as adding a scalar or adding a dense vector, return a dense Vector: its library is the same as the dense operand, or
+ * the one set in LinearAlgebraConfig if there is no dense operand.
+ *
+ * Sparse vectors can be mixed with dense vectors of any library in dot products (in both directions), and can be
+ * multiplied by dense matrices of any library.
+ *
+ * @see SparseVectorFactory
+ * @see SparseMatrix
+ * @author lucianodp
+ */
+public class SparseVector extends Vector {
+    private final int dim;
+    private int[] indexes;
+    private double[] values;
+    private int size;
+
+    /**
+     * @param dim: vector dimension
+     * @param indexes: indexes of non-zero components, in strictly increasing order
+     * @param values: values of non-zero components
+     * @param size: number of non-zero components (only the first 'size' positions of each array are used)
+     */
+    SparseVector(int dim, int[] indexes, double[] values, int size) {
+        this.dim = dim;
+        this.indexes = indexes;
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public int getDim() {
+        return dim;
+    }
+
+    /**
+     * @return number of stored components
+     */
+    public int getNumNonZeros() {
+        return size;
+    }
+
+    /**
+     * @param position: position in [0, getNumNonZeros())
+     * @return index of the position-th non-zero component
+     */
+    public int getIndexAt(int position) {
+        return indexes[position];
+    }
+
+    /**
+     * @param position: position in [0, getNumNonZeros())
+     * @return value of the position-th non-zero component
+     */
+    public double getValueAt(int position) {
+        return values[position];
+    }
+
+    private int find(int index){
+        if(index < 0 || index >= dim)
+            throw new ArrayIndexOutOfBoundsException();
+        return Arrays.binarySearch(indexes, 0, size, index);
+    }
+
+    @Override
+    public double get(int index) {
+        int position = find(index);
+        return position >= 0 ? values[position] : 0;
+    }
+
+    /**
+     * Sets a component. Setting a component which was not stored before costs \( \mathcal{O}(nnz) \), so prefer building
+     * sparse vectors through SparseVectorFactory whenever possible.
+     */
+    @Override
+    public void set(int index, double newValue) {
+        int position = find(index);
+
+        if(position >= 0) {
+            values[position] = newValue;
+            return;
+        }
+
+        if(newValue == 0)
+            return;
+
+        position = -position - 1;
+        if(size == indexes.length) {
+            int capacity = Math.max(4, 2 * size);
+            indexes = Arrays.copyOf(indexes, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(indexes, position, indexes, position + 1, size - position);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        indexes[position] = index;
+        values[position] = newValue;
+        size++;
+    }
+
+    @Override
+    public Vector copy() {
+        return new SparseVector(dim, Arrays.copyOf(indexes, size), Arrays.copyOf(values, size), size);
+    }
+
+    @Override
+    public Vector add(double value) {
+        Vector result = FACTORY.makeFilled(dim, value);
+        for(int i=0; i < size; i++)
+            result.set(indexes[i], values[i] + value);
+        return result;
+    }
+
+    @Override
+    public Vector subtract(double value) {
+        return add(-value);
+    }
+
+    @Override
+    public Vector add(Vector vector) {
+        checkDim(vector);
+        if(vector instanceof SparseVector)
+            return merge((SparseVector) vector, 1);
+        return scatterInto(vector.copy(), 1);
+    }
+
+    @Override
+    public Vector subtract(Vector vector) {
+        checkDim(vector);
+        if(vector instanceof SparseVector)
+            return merge((SparseVector) vector, -1);
+        return scatterInto(vector.multiply(-1), 1);
+    }
+
+    /**
+     * @return this + alpha * vector, computed in a single pass over both index arrays
+     */
+    private SparseVector merge(SparseVector vector, double alpha){
+        int[] resultIndexes = new int[size + vector.size];
+        double[] resultValues = new double[size + vector.size];
+
+        int i = 0, j = 0, k = 0;
+        while(i < size || j < vector.size){
+            if(j == vector.size || (i < size && indexes[i] < vector.indexes[j])) {
+                resultIndexes[k] = indexes[i];
+                resultValues[k++] = values[i++];
+            }
+            else if(i == size || vector.indexes[j] < indexes[i]) {
+                resultIndexes[k] = vector.indexes[j];
+                resultValues[k++] = alpha * vector.values[j++];
+            }
+            else {
+                resultIndexes[k] = indexes[i];
+                resultValues[k++] = values[i++] + alpha * vector.values[j++];
+            }
+        }
+
+        return new SparseVector(dim, resultIndexes, resultValues, k);
+    }
+
+    /**
+     * @return dense + alpha * this, computed in-place on dense
+     */
+    private Vector scatterInto(Vector dense, double alpha){
+        for(int i=0; i < size; i++) {
+            int index = indexes[i];
+            dense.set(index, dense.get(index) + alpha * values[i]);
+        }
+        return dense;
+    }
+
+    @Override
+    public Vector multiply(double value) {
+        double[] result = new double[size];
+        for(int i=0; i < size; i++)
+            result[i] = values[i] * value;
+        return new SparseVector(dim, Arrays.copyOf(indexes, size), result, size);
+    }
+
+    @Override
+    public Vector divide(double value) {
+        return multiply(1.0 / value);
+    }
+
+    @Override
+    public Vector multiply(Vector vector) {
+        checkDim(vector);
+        double[] result = new double[size];
+        for(int i=0; i < size; i++)
+            result[i] = values[i] * vector.get(indexes[i]);
+        return new SparseVector(dim, Arrays.copyOf(indexes, size), result, size);
+    }
+
+    @Override
+    public Vector scaleInPlace(double value) {
+        for(int i=0; i < size; i++)
+            values[i] *= value;
+        return this;
+    }
+
+    @Override
+    public Vector divideInPlace(double value) {
+        return scaleInPlace(1.0 / value);
+    }
+
+    @Override
+    public double dot(Vector vector) {
+        checkDim(vector);
+
+        if(!(vector instanceof SparseVector)) {
+            double sum = 0;
+            for(int i=0; i < size; i++)
+                sum += values[i] * vector.get(indexes[i]);
+            return sum;
+        }
+
+        SparseVector other = (SparseVector) vector;
+        double sum = 0;
+        int i = 0, j = 0;
+        while(i < size && j < other.size){
+            if(indexes[i] < other.indexes[j])
+                i++;
+            else if(indexes[i] > other.indexes[j])
+                j++;
+            else
+                sum += values[i++] * other.values[j++];
+        }
+        return sum;
+    }
+
+    @Override
+    public double sqNorm() {
+        double sum = 0;
+        for(int i=0; i < size; i++)
+            sum += values[i] * values[i];
+        return sum;
+    }
+
+    @Override
+    public double[] asArray() {
+        double[] result = new double[dim];
+        for(int i=0; i < size; i++)
+            result[indexes[i]] = values[i];
+        return result;
+    }
+
+    @Override
+    public Vector appendLeft(double value) {
+        int offset = value == 0 ? 0 : 1;
+        int[] resultIndexes = new int[size + offset];
+        double[] resultValues = new double[size + offset];
+
+        if(offset == 1)
+            resultValues[0] = value;
+
+        for(int i=0; i < size; i++) {
+            resultIndexes[i + offset] = indexes[i] + 1;
+            resultValues[i + offset] = values[i];
+        }
+        return new SparseVector(dim + 1, resultIndexes, resultValues, size + offset);
+    }
+
+    @Override
+    public Vector dropLeft() {
+        if(dim == 1)
+            throw new EmptyVectorException();
+
+        int offset = size > 0 && indexes[0] == 0 ? 1 : 0;
+        int[] resultIndexes = new int[size - offset];
+        double[] resultValues = Arrays.copyOfRange(values, offset, size);
+        for(int i=offset; i < size; i++)
+            resultIndexes[i - offset] = indexes[i] - 1;
+        return new SparseVector(dim - 1, resultIndexes, resultValues, size - offset);
+    }
+}
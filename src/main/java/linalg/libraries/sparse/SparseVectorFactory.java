@@ -0,0 +1,103 @@
+package linalg.libraries.sparse;
+
+import exceptions.linalg.NegativeDimensionException;
+import linalg.Vector;
+import linalg.VectorFactory;
+
+import java.util.Arrays;
+
+/**
+ * Vector factory creating SparseVector objects. Contrary to the dense libraries, sparse vectors are not selected through
+ * LinearAlgebraConfig: they are meant to be created explicitly for sparse data, and then mixed freely with the dense
+ * vectors created by Vector.FACTORY.
+ *
+ * @see SparseVector
+ * @see VectorFactory
+ */
+public class SparseVectorFactory implements VectorFactory {
+    /**
+     * Keeps only the non-zero values of the array.
+     */
+    @Override
+    public Vector make(double[] values) {
+        int size = 0;
+        for (double value : values)
+            if (value != 0)
+                size++;
+
+        int[] resultIndexes = new int[size];
+        double[] resultValues = new double[size];
+        for(int i=0, k=0; i < values.length; i++){
+            if(values[i] != 0) {
+                resultIndexes[k] = i;
+                resultValues[k++] = values[i];
+            }
+        }
+        return new SparseVector(values.length, resultIndexes, resultValues, size);
+    }
+
+    /**
+     * Create a sparse vector from its non-zero components. Indexes do not need to be sorted.
+     * @param dim: vector dimension
+     * @param indexes: indexes of non-zero components
+     * @param values: values at each index
+     * @return sparse vector
+     * @throws NegativeDimensionException if dim is not positive
+     * @throws ArrayIndexOutOfBoundsException if any index is outside [0, dim)
+     * @throws IllegalArgumentException if arrays have different lengths or indexes are repeated
+     */
+    public Vector make(int dim, int[] indexes, double[] values) {
+        if(dim <= 0)
+            throw new NegativeDimensionException(dim);
+        if(indexes.length != values.length)
+            throw new IllegalArgumentException("Indexes and values must have the same length.");
+
+        int[] order = sortedOrder(indexes);
+        int[] resultIndexes = new int[indexes.length];
+        double[] resultValues = new double[values.length];
+        for(int k=0; k < order.length; k++) {
+            int index = indexes[order[k]];
+            if(index < 0 || index >= dim)
+                throw new ArrayIndexOutOfBoundsException(index);
+            if(k > 0 && index == resultIndexes[k - 1])
+                throw new IllegalArgumentException("Repeated index " + index);
+            resultIndexes[k] = index;
+            resultValues[k] = values[order[k]];
+        }
+        return new SparseVector(dim, resultIndexes, resultValues, indexes.length);
+    }
+
+    private static int[] sortedOrder(int[] indexes){
+        long[] keys = new long[indexes.length];
+        for(int k=0; k < indexes.length; k++)
+            keys[k] = ((long) indexes[k] << 32) | k;
+        Arrays.sort(keys);
+
+        int[] order = new int[indexes.length];
+        for(int k=0; k < indexes.length; k++)
+            order[k] = (int) keys[k];
+        return order;
+    }
+
+    @Override
+    public Vector makeFilled(int dim, double fill) {
+        if(fill == 0)
+            return makeZero(dim);
+        if(dim <= 0)
+            throw new NegativeDimensionException(dim);
+
+        int[] indexes = new int[dim];
+        double[] values = new double[dim];
+        for(int i=0; i < dim; i++)
+            indexes[i] = i;
+        Arrays.fill(values, fill);
+        return new SparseVector(dim, indexes, values, dim);
+    }
+
+    @Override
+    public Vector makeZero(int dim) {
+        if(dim <= 0)
+            throw new NegativeDimensionException(dim);
+        return new SparseVector(dim, new int[0], new double[0], 0);
+    }
+}
@@ -39,7 +39,7 @@ public class Configuration {
 
     /**
      * Reads the LinearAlgebraLibrary set in the config file.
-     * @return library of choice, should be one of "ojalgo", "apache" or "simple"
+     * @return library of choice, should be one of "ojalgo", "apache", "simple", "simd", "float32" or "hybrid"
      * @throws LinearAlgebraLibraryNotFound if library name does not match the above options
      */
     public static LinearAlgebraLibrary getLinearAlgebraLibrary() {
@@ -51,6 +51,12 @@ public class Configuration {
             return LinearAlgebraLibrary.OJALGO;
         else if (name.equalsIgnoreCase("simple"))
             return LinearAlgebraLibrary.SIMPLE;
+        else if (name.equalsIgnoreCase("simd"))
+            return LinearAlgebraLibrary.SIMD;
+        else if (name.equalsIgnoreCase("float32"))
+            return LinearAlgebraLibrary.FLOAT32;
+        else if (name.equalsIgnoreCase("hybrid"))
+            return LinearAlgebraLibrary.HYBRID;
         else
             throw new LinearAlgebraLibraryNotFound(name);
     }
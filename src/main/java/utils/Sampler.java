@@ -4,22 +4,184 @@ import exceptions.IncompatibleBoundsException;
 import exceptions.linalg.NegativeDimensionException;
 import linalg.Vector;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
- * This class is responsible for sampling from any necessary probability distributions for our software. It also allows
- * for setting a particular random seed, permitting reproducibility of results.
+ * This class is responsible for sampling from any necessary probability distributions for our software. Each Sampler
+ * owns its random stream, so results are reproducible from the seed it was created with.
+ *
+ * Samplers are not thread-safe, but they never contend with each other either: concurrent tasks should each use their own
+ * Sampler, obtained through split(). Splitting is deterministic, so a fixed seed results in the same samples no matter
+ * how tasks are scheduled.
+ *
+ * Code which is not given a Sampler explicitly splits its own from the default one through splitDefault(), whose seed can
+ * be set through setSeed(). Splitting the default sampler is synchronized, so independent components (such as the random
+ * walks of concurrent sessions) can be created from any thread.
  *
  * @author lucianodp
  */
 public class Sampler {
-    private static Random random = new Random();
+    private static volatile Sampler defaultSampler = new Sampler();
+
+    /*
+     * Tables of the Ziggurat method (Marsaglia and Tsang, 2000). The standard normal density is covered by LAYERS regions
+     * of equal area: layer 0 is the base, made of a rectangle up to TAIL_START plus the tail beyond it, and every other
+     * layer i is a rectangle whose right edge x_i grows with i, up to x_{LAYERS-1} = TAIL_START. W[i] converts the random
+     * integers drawn by nextGaussian() into x coordinates of layer i, F[i] is the density at x_i, and K[i] is the integer
+     * threshold below which a point of layer i certainly lies under the density (since it is left of x_{i-1}).
+     */
+    private static final int LAYERS = 128;
+    private static final double TAIL_START = 3.442619855899, LAYER_AREA = 9.91256303526217e-3;
+    private static final double SCALE = 0x1p52;
+    private static final long[] K = new long[LAYERS];
+    private static final double[] W = new double[LAYERS], F = new double[LAYERS];
+
+    static {
+        double x = TAIL_START, previous = TAIL_START;
+        double q = LAYER_AREA / Math.exp(-0.5 * x * x);
+
+        K[0] = (long) ((x / q) * SCALE);
+        K[1] = 0;
+        W[0] = q / SCALE;
+        W[LAYERS - 1] = x / SCALE;
+        F[0] = 1;
+        F[LAYERS - 1] = Math.exp(-0.5 * x * x);
+
+        for (int i = LAYERS - 2; i >= 1; i--) {
+            x = Math.sqrt(-2 * Math.log(LAYER_AREA / x + Math.exp(-0.5 * x * x)));
+            K[i + 1] = (long) ((x / previous) * SCALE);
+            previous = x;
+            F[i] = Math.exp(-0.5 * x * x);
+            W[i] = x / SCALE;
+        }
+    }
+
+    private final SplittableRandom random;
+
+    /**
+     * Creates a sampler with an arbitrary seed.
+     */
+    public Sampler() {
+        this(new SplittableRandom());
+    }
 
     /**
-     * Sets the random seed.
      * @param seed: random seed
      */
-    public static void setSeed(int seed) {random = new Random(seed); }
+    public Sampler(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private Sampler(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * @return the default sampler. It is not thread-safe, so concurrent code should call splitDefault() instead.
+     */
+    public static Sampler getDefault() {
+        return defaultSampler;
+    }
+
+    /**
+     * Creates a new sampler, split from the default one. Calls from concurrent threads are serialized, so each of them
+     * receives an independent stream.
+     * @return new sampler
+     */
+    public static Sampler splitDefault() {
+        synchronized (Sampler.class) {
+            return defaultSampler.split();
+        }
+    }
+
+    /**
+     * Replaces the default sampler by a new one with the given seed.
+     * @param seed: random seed
+     */
+    public static void setSeed(int seed) {
+        synchronized (Sampler.class) {
+            defaultSampler = new Sampler(seed);
+        }
+    }
+
+    /**
+     * Creates a new sampler, whose random stream is independent from this one's. This sampler's state advances, so
+     * consecutive calls return different samplers.
+     * @return new sampler
+     */
+    public Sampler split() {
+        return new Sampler(random.split());
+    }
+
+    /**
+     * Samples a standard gaussian r.v. through the Ziggurat method. About 99% of the calls cost a single random long, one
+     * comparison and one multiplication; only the remaining ones need to evaluate exp() or log().
+     * @return random sample
+     */
+    public double nextGaussian() {
+        long bits = random.nextLong();
+        int layer = (int) (bits & (LAYERS - 1));
+        long u = bits >> 11;  // signed, uniform in [-2^52, 2^52)
+        if (Math.abs(u) < K[layer])
+            return u * W[layer];
+        return nextGaussianSlowPath(u, layer);
+    }
+
+    /**
+     * Handles samples falling outside the rectangular part of their layer: either in the tail (layer 0), or in the wedge
+     * between the layer's rectangle and the density curve.
+     */
+    private double nextGaussianSlowPath(long u, int layer) {
+        while (true) {
+            double x = u * W[layer];
+
+            if (layer == 0) {
+                double tail, y;
+                do {
+                    tail = -Math.log(1 - random.nextDouble()) / TAIL_START;
+                    y = -Math.log(1 - random.nextDouble());
+                } while (y + y < tail * tail);
+                return u > 0 ? TAIL_START + tail : -TAIL_START - tail;
+            }
+
+            if (F[layer] + random.nextDouble() * (F[layer - 1] - F[layer]) < Math.exp(-0.5 * x * x))
+                return x;
+
+            long bits = random.nextLong();
+            layer = (int) (bits & (LAYERS - 1));
+            u = bits >> 11;
+            if (Math.abs(u) < K[layer])
+                return u * W[layer];
+        }
+    }
+
+    /**
+     * Fills the given array with iid standard gaussian r.v.
+     * @param values: array to fill
+     */
+    public void fillGaussian(double[] values) {
+        fillGaussian(values, 0, values.length);
+    }
+
+    /**
+     * Fills positions [from, to) of the given array with iid standard gaussian r.v.
+     * @param values: array to fill
+     * @param from: first position to fill
+     * @param to: position after the last one to fill
+     * @throws ArrayIndexOutOfBoundsException if the range is not within the array
+     */
+    public void fillGaussian(double[] values, int from, int to) {
+        if (from < 0 || to > values.length || from > to)
+            throw new ArrayIndexOutOfBoundsException();
+
+        SplittableRandom random = this.random;
+        for (int i = from; i < to; i++) {
+            long bits = random.nextLong();
+            int layer = (int) (bits & (LAYERS - 1));
+            long u = bits >> 11;
+            values[i] = Math.abs(u) < K[layer] ? u * W[layer] : nextGaussianSlowPath(u, layer);
+        }
+    }
 
     /**
      * Computes an iid sample of standard gaussian r.v. of given size.
@@ -27,17 +189,28 @@ public class Sampler {
      * @return Vector containing the sample
      * @throws NegativeDimensionException if size is non-positive
      */
-    public static Vector sampleGaussian(int size){
+    public Vector sampleGaussian(int size){
         if (size <= 0)
             throw new NegativeDimensionException(size);
 
         double[] direction = new double[size];
-        for(int i=0; i < size; i++)
-            direction[i] = random.nextGaussian();
+        fillGaussian(direction);
 
         return Vector.FACTORY.make(direction);
     }
 
+    /**
+     * Samples an index uniformly from {0, 1, ..., size - 1}.
+     * @param size: number of indexes
+     * @return sampled index
+     * @throws NegativeDimensionException if size is non-positive
+     */
+    public int sampleIndex(int size){
+        if (size <= 0)
+            throw new NegativeDimensionException(size);
+        return random.nextInt(size);
+    }
+
     /**
      * Samples a single uniform r.v. in the interval [low, high]
      * @param low: lower bound of interval
@@ -45,7 +218,7 @@ public class Sampler {
      * @return random sample
      * @throws IncompatibleBoundsException if low is not smaller than high
      */
-    public static double sampleUniform(double low, double high){
+    public double sampleUniform(double low, double high){
         if (high <= low)
             throw new IncompatibleBoundsException();
         return low + random.nextDouble() * (high - low);
@@ -1,27 +1,79 @@
 package version_space;
 
 import convex.objects.ConvexBody;
+import convex.objects.PolytopeCursor;
 import convex.sampling.Line;
 import convex.sampling.LineSegment;
+import convex.sampling.SamplingCursor;
 import exceptions.convex.EmptyIntersectionException;
 import linalg.Matrix;
+import linalg.MatrixBuilder;
+import linalg.RowCursor;
 import linalg.Vector;
+import linalg.libraries.sparse.SparseMatrix;
+import linalg.libraries.sparse.SparseMatrixBuilder;
+import linalg.libraries.sparse.SparseVector;
 
 import java.util.ArrayList;
 import java.util.List;
 
 
+/**
+ * Polyhedral cone \( \{x : Ax < 0\} \) to which new constrains (rows of A) can be added at any time. Constrains are
+ * appended to a MatrixBuilder, and checked through matrix-vector products over a snapshot of it, which is only taken when
+ * the cone is queried after new additions. Snapshots share the builder's array on backends storing their elements in
+ * row-major order (such as SIMPLE), so even alternating additions and queries cost amortized O(dim) per constrain; other
+ * backends copy all constrains once per query following an addition.
+ *
+ * Sparse constrains (such as those built by LinearVersionSpace.addConstrain over sparse data) are appended to a
+ * SparseMatrixBuilder instead, which the cone picks when its first constrain is a SparseVector (or when built from a
+ * SparseMatrix). This way, appending a constrain and multiplying the snapshot by a vector both cost O(nnz), however many
+ * columns the data has. Constrains of the other kind are still accepted afterwards, and stored in the builder's format.
+ *
+ * Since constrains only live in the builder, getConstrainList() returns copies of them, in a new list: changing it, or
+ * the vectors in it, never affects the cone. Use addConstrain() to add constrains instead.
+ *
+ * Additions and snapshots are synchronized on the cone, and queries only read immutable snapshots, so random walks may
+ * query the cone while constrains are being added from another thread.
+ *
+ * @see MatrixBuilder#snapshot()
+ * @see SparseMatrixBuilder#snapshot()
+ */
 public class IncrementalPolyhedralCone implements ConvexBody {
-    private List<Vector> constrainList;
+    /**
+     * Constrains added so far, in one of these builders (the other one being null), or null in both for empty cones.
+     * Guarded by this cone's lock.
+     */
+    private MatrixBuilder constrains;
+    private SparseMatrixBuilder sparseConstrains;
+
+    /**
+     * Snapshot of the constrains, or null if it is out of date. Guarded by this cone's lock.
+     */
+    private Matrix constrainMatrix;
+
+    /**
+     * Written under this cone's lock, but volatile so that the getters below need no locking
+     */
+    private volatile int dim, numConstrains;
 
     public IncrementalPolyhedralCone() {
-        constrainList = new ArrayList<>();
     }
 
     public IncrementalPolyhedralCone(Matrix A) {
-        constrainList = new ArrayList<>();
-        for(int i = 0; i < A.getNumRows(); i++)
-            constrainList.add(A.getRow(i));
+        if(A instanceof SparseMatrix) {
+            sparseConstrains = new SparseMatrixBuilder(A.getNumCols());
+            for (int i = 0; i < A.getNumRows(); i++)
+                sparseConstrains.appendRow(A.getRow(i));
+        }
+        else {
+            constrains = new MatrixBuilder(A.getNumCols(), A.getNumRows());
+            RowCursor cursor = A.rowCursor();
+            while (cursor.next())
+                constrains.appendRow(cursor.getValues());
+        }
+        dim = A.getNumCols();
+        numConstrains = A.getNumRows();
     }
 
     public IncrementalPolyhedralCone(double[][] A){
@@ -30,26 +82,55 @@ public class IncrementalPolyhedralCone implements ConvexBody {
 
     @Override
     public int getDim() {
-        if(isEmpty())
-            return 0;
-        return constrainList.get(0).getDim();
+        return dim;
+    }
+
+    /**
+     * An empty cone is the whole space, whatever its dimension, so any point is accepted until a constrain is added.
+     */
+    @Override
+    public void checkDim(Vector point) {
+        if(!isEmpty())
+            ConvexBody.super.checkDim(point);
     }
 
+    /**
+     * @return new list holding copies of the constrains added so far, in the order they were added. Changing the list or
+     * its vectors does not affect this cone.
+     */
     public List<Vector> getConstrainList() {
+        List<Vector> constrainList = new ArrayList<>();
+        if(!isEmpty()) {
+            Matrix matrix = getConstrainMatrix();
+            for (int i = 0; i < matrix.getNumRows(); i++)
+                constrainList.add(matrix.getRow(i));
+        }
         return constrainList;
     }
 
     public int getNumConstrains(){
-        return constrainList.size();
+        return numConstrains;
+    }
+
+    /**
+     * Synchronized since concurrent random walks may query the cone before a snapshot of the new constrains is taken,
+     * while constrains are being added.
+     */
+    private synchronized Matrix getConstrainMatrix(){
+        if(constrainMatrix == null)
+            constrainMatrix = sparseConstrains != null ? sparseConstrains.snapshot() : constrains.snapshot();
+        return constrainMatrix;
     }
 
     @Override
     public boolean isInside(Vector point) {
-        if(!isEmpty())
-            checkDim(point);
+        if(isEmpty())
+            return true;
 
-        for(Vector vector: constrainList){
-            if(vector.dot(point) >= 0)
+        checkDim(point);
+        Vector products = getConstrainMatrix().multiply(point);
+        for(int i=0; i < products.getDim(); i++){
+            if(products.get(i) >= 0)
                 return false;
         }
         return true;
@@ -57,24 +138,29 @@ public class IncrementalPolyhedralCone implements ConvexBody {
 
     @Override
     public LineSegment intersect(Line line) {
-        if(!isEmpty())
-            checkDim(line);
-
         double lowerBound = Double.NEGATIVE_INFINITY;
         double upperBound = Double.POSITIVE_INFINITY;
 
-        for(Vector vector : constrainList){
-            double numerator = -vector.dot(line.getCenter());
-            double denominator = vector.dot(line.getDirection());
+        if(!isEmpty()) {
+            checkDim(line);
+
+            Matrix matrix = getConstrainMatrix();
+            Vector numerators = matrix.multiply(line.getCenter());
+            Vector denominators = matrix.multiply(line.getDirection());
 
-            if(denominator > 0)
-                upperBound = Math.min(upperBound, numerator/denominator);
+            for (int i = 0; i < numerators.getDim(); i++) {
+                double numerator = -numerators.get(i);
+                double denominator = denominators.get(i);
 
-            else if(denominator < 0)
-                lowerBound = Math.max(lowerBound, numerator/denominator);
+                if (denominator > 0)
+                    upperBound = Math.min(upperBound, numerator / denominator);
 
-            else if(numerator <= 0)
-                throw new EmptyIntersectionException();
+                else if (denominator < 0)
+                    lowerBound = Math.max(lowerBound, numerator / denominator);
+
+                else if (numerator <= 0)
+                    throw new EmptyIntersectionException();
+            }
         }
 
         if(lowerBound >= upperBound)
@@ -83,13 +169,40 @@ public class IncrementalPolyhedralCone implements ConvexBody {
         return new LineSegment(line, lowerBound, upperBound);
     }
 
-    public void addConstrain(Vector vector){
-        if(!isEmpty())
+    /**
+     * The returned cursor caches the slacks \( -A x \) of its current point, as a PolytopeCursor with \( b = 0 \). No
+     * constrains should be added while it is in use.
+     * @see PolytopeCursor
+     */
+    @Override
+    public SamplingCursor cursor(Vector point) {
+        if(isEmpty())
+            return new SamplingCursor(this, point);
+
+        Matrix matrix = getConstrainMatrix();
+        return new PolytopeCursor(this, matrix, Vector.FACTORY.makeZero(matrix.getNumRows()), point);
+    }
+
+    public synchronized void addConstrain(Vector vector){
+        if(isEmpty()) {
+            if (vector instanceof SparseVector)
+                sparseConstrains = new SparseMatrixBuilder(vector.getDim());
+            else
+                constrains = new MatrixBuilder(vector.getDim());
+        }
+        else
             checkDim(vector);
-        constrainList.add(vector);
+
+        if(sparseConstrains != null)
+            sparseConstrains.appendRow(vector);
+        else
+            constrains.appendRow(vector);
+        constrainMatrix = null;
+        dim = vector.getDim();
+        numConstrains++;
     }
 
     public boolean isEmpty(){
-        return constrainList.isEmpty();
+        return numConstrains == 0;
     }
 }
@@ -8,31 +8,88 @@ import convex.objects.Ellipsoid;
 import convex.sampling.HitAndRun;
 import convex.sampling.Line;
 import convex.sampling.LineSegment;
+import convex.sampling.RandomWalk;
+import convex.sampling.SamplingCursor;
 import exceptions.linear_programming.LinearProgramOptimizationFailed;
 import exceptions.linalg.NegativeDimensionException;
+import linalg.LinearAlgebraContext;
 import linalg.Matrix;
+import linalg.MatrixBuilder;
 import linalg.Vector;
 import linear_programming.LinearProgramSolver;
 import utils.Configuration;
-
-
+import utils.Sampler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * Version space of linear classifiers (bias and weight vector), bounded by the unit ball. Every operation runs under the
+ * LinearAlgebraContext current at construction (or the one explicitly given), so several version spaces using different
+ * Linear Algebra libraries can be explored concurrently.
+ *
+ * Chains are warm-started: the first call to sample() runs full-length chains from an interior point found by linear
+ * programming, and every later call continues the chains from the points they stopped at. Since constrains are only ever
+ * added, the version space can only shrink between two calls, and the previous points lying inside the new version space
+ * are still uniformly distributed over it. Points which violate a new constrain are replaced by copies of random surviving
+ * ones, and all chains then run for a short re-mixing phase of getWarmStartLength() steps, so the cost of each call is
+ * proportional to the change in the version space rather than to a full burn-in.
+ */
 public class LinearVersionSpace implements VersionSpace, ConvexBody {
+    private final LinearAlgebraContext context;
     private final int dim;
-    private final HitAndRun sampler;
+    private final RandomWalk sampler;
     private final IncrementalPolyhedralCone constrains;
     private final Ellipsoid ball;
     private final LinearProgramSolver solver;
+    private Matrix chainStates;
+    private int warmStartLength;
 
     public LinearVersionSpace(int dim, int chainLength, int sampleSize) {
+        this(dim, chainLength, sampleSize, LinearAlgebraContext.current());
+    }
+
+    /**
+     * Creates a version space sampled by HitAndRun, whose chains run concurrently on the common ForkJoinPool.
+     */
+    public LinearVersionSpace(int dim, int chainLength, int sampleSize, LinearAlgebraContext context) {
+        this(dim, parallelHitAndRun(chainLength, sampleSize, context));
+    }
+
+    private static RandomWalk parallelHitAndRun(int chainLength, int sampleSize, LinearAlgebraContext context){
+        RandomWalk sampler = new HitAndRun(chainLength, sampleSize, context);
+        sampler.setForkJoinPool(ForkJoinPool.commonPool());
+        return sampler;
+    }
+
+    /**
+     * Creates a version space sampled by the given random walk (for instance, a CoordinateHitAndRun instead of the default
+     * HitAndRun). All operations run under the random walk's LinearAlgebraContext.
+     * @param dim: dimension of the feature space
+     * @param sampler: random walk used for sampling classifiers
+     * @throws NegativeDimensionException if dim is non-positive
+     */
+    public LinearVersionSpace(int dim, RandomWalk sampler) {
         if(dim <= 0)
             throw new NegativeDimensionException(dim);
+        this.context = sampler.getContext();
         this.dim = dim+1;  // bias + weight vector
-        this.sampler = new HitAndRun(chainLength, sampleSize);
+        this.sampler = sampler;
+        this.warmStartLength = Math.max(1, sampler.getChainLength() / 10);
         this.constrains = new IncrementalPolyhedralCone();
-        this.ball = new Ellipsoid(this.dim);
+        this.ball = new Ellipsoid(this.dim, context);
         this.solver = LinearProgramSolver.getSolver(Configuration.getLinearProgrammingLibrary(), this.dim+1);  // add dummy variable
-        setSolverObjectiveFunction();
-        setSolverBounds();
+
+        try (LinearAlgebraContext.Scope scope = context.bind()) {
+            setSolverObjectiveFunction();
+            setSolverBounds();
+        }
+    }
+
+    public LinearAlgebraContext getContext() {
+        return context;
     }
 
     @Override
@@ -40,18 +97,75 @@ public class LinearVersionSpace implements VersionSpace, ConvexBody {
         return dim;
     }
 
+    /**
+     * @return number of steps run by each warm-started chain
+     */
+    public int getWarmStartLength() {
+        return warmStartLength;
+    }
+
+    /**
+     * @param warmStartLength: number of steps run by each warm-started chain. Use the random walk's chain length for
+     *                       re-mixing chains as thoroughly as a cold start does.
+     * @throws IllegalArgumentException if warmStartLength is not positive
+     */
+    public void setWarmStartLength(int warmStartLength) {
+        if (warmStartLength <= 0)
+            throw new IllegalArgumentException("Warm start length must be a positive integer");
+        this.warmStartLength = warmStartLength;
+    }
+
+    /**
+     * Forgets the current chain states, so the next call to sample() starts all chains from scratch.
+     */
+    public void resetChains() {
+        chainStates = null;
+    }
+
     @Override
     public Classifier sample() {
-        Matrix samples = sampler.uniform(this, findInteriorPoint());
-        return new LinearMajorityVote(samples.getColumn(0), samples.sliceColumns(1,samples.getNumCols()));
+        try (LinearAlgebraContext.Scope scope = context.bind()) {
+            Matrix samples = chainStates == null ? null : warmStart();
+            if (samples == null)
+                samples = sampler.uniform(this, findInteriorPoint());
+            chainStates = samples;
+            return new LinearMajorityVote(samples.getColumn(0), samples.sliceColumns(1, samples.getNumCols()));
+        }
+    }
+
+    /**
+     * Continues the chains from their previous states, after replacing the states outside the version space by copies of
+     * random states inside it.
+     * @return new chain states, or null if no previous state lies inside the version space
+     */
+    private Matrix warmStart() {
+        List<Vector> survivors = new ArrayList<>();
+        boolean[] inside = new boolean[chainStates.getNumRows()];
+        chainStates.forEachRow((i, row) -> {
+            inside[i] = isInside(row);
+            if (inside[i])
+                survivors.add(row.copy());
+        });
+
+        if (survivors.isEmpty())
+            return null;
+
+        Sampler random = sampler.getSampler();
+        MatrixBuilder initialPoints = new MatrixBuilder(dim, inside.length);
+        for (int i = 0; i < inside.length; i++)
+            initialPoints.appendRow(inside[i] ? chainStates.getRow(i) : survivors.get(random.sampleIndex(survivors.size())));
+
+        return sampler.advance(this, initialPoints.build(), warmStartLength);
     }
 
     @Override
     public void addConstrain(Vector point, Label label) {
-        Vector constrain = point.appendLeft(1).multiply(-label.getValue());  // -y_i (1, x_i) * (b, w) <= 0
-        checkDim(constrain);
-        constrains.addConstrain(constrain);
-        solver.addLinearConstrain(constrain.appendLeft(-1), 0);
+        try (LinearAlgebraContext.Scope scope = context.bind()) {
+            Vector constrain = point.appendLeft(1).multiply(-label.getValue());  // -y_i (1, x_i) * (b, w) <= 0
+            checkDim(constrain);
+            constrains.addConstrain(constrain);
+            solver.addLinearConstrain(constrain.appendLeft(-1), 0);
+        }
     }
 
     @Override
@@ -63,8 +177,10 @@ public class LinearVersionSpace implements VersionSpace, ConvexBody {
     @Override
     public LineSegment intersect(Line line) {
         checkDim(line);
+        return intersectBall(line, constrains.intersect(line));
+    }
 
-        LineSegment constrainsSegment = constrains.intersect(line);
+    private LineSegment intersectBall(Line line, LineSegment constrainsSegment){
         LineSegment ballSegment = ball.intersect(line);
 
         double lower = Math.max(constrainsSegment.getLower(), ballSegment.getLower());
@@ -72,16 +188,50 @@ public class LinearVersionSpace implements VersionSpace, ConvexBody {
         return new LineSegment(line, lower, upper);
     }
 
+    /**
+     * The returned cursor moves a cursor over the constrains alongside its own, so slacks are cached across steps.
+     */
+    @Override
+    public SamplingCursor cursor(Vector point) {
+        return new Cursor(point);
+    }
+
+    private class Cursor extends SamplingCursor {
+        private final SamplingCursor constrainsCursor;
+
+        Cursor(Vector point) {
+            super(LinearVersionSpace.this, point);
+            this.constrainsCursor = constrains.cursor(point);
+        }
+
+        @Override
+        protected LineSegment intersect(Line line) {
+            return intersectBall(line, constrainsCursor.intersect(line.getDirection()));
+        }
+
+        @Override
+        protected LineSegment intersectAxis(Line line, int axis) {
+            return intersectBall(line, constrainsCursor.intersectAxis(axis));
+        }
+
+        @Override
+        protected void moved(Line line, double position) {
+            constrainsCursor.moveTo(position);
+        }
+    }
+
     public Vector findInteriorPoint() {
-        if(constrains.isEmpty())
-            return Vector.FACTORY.makeZero(dim);
+        try (LinearAlgebraContext.Scope scope = context.bind()) {
+            if (constrains.isEmpty())
+                return Vector.FACTORY.makeZero(dim);
 
-        Vector solution = solver.findMinimizer();
+            Vector solution = solver.findMinimizer();
 
-        if(solution.get(0) >= 0)
-            throw new LinearProgramOptimizationFailed();
+            if (solution.get(0) >= 0)
+                throw new LinearProgramOptimizationFailed();
 
-        return solution.dropLeft().normalize().multiply(0.8);
+            return solution.dropLeft().normalize().multiply(0.8);
+        }
     }
 
     private void setSolverObjectiveFunction(){
@@ -17,7 +17,6 @@ public interface VersionSpace {
         if(points.getNumRows() != labels.size())
             throw new IncompatibleDimensionsException(points.getNumRows(), labels.size());
 
-        for(int i=0; i < labels.size(); i++)
-            addConstrain(points.getRow(i), labels.get(i));
+        points.forEachRow((i, row) -> addConstrain(row, labels.get(i)));
     }
 }
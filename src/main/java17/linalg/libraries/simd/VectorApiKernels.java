@@ -0,0 +1,128 @@
+package linalg.libraries.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of SimdKernels on top of the JDK Vector API. Every loop processes SPECIES.length() doubles per iteration
+ * up to SPECIES.loopBound(), and the remaining elements are handled by a scalar tail. Masked loads and stores are
+ * avoided, since they are much slower than plain ones on hardware without native masking.
+ *
+ * This class lives in a separate source folder because it needs JDK 17+ to compile; it is instantiated through reflection
+ * by SimdKernels.load(), so the rest of the code base does not depend on it.
+ *
+ * @author lucianodp
+ */
+class VectorApiKernels implements SimdKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean isAccelerated() {
+        return true;
+    }
+
+    @Override
+    public double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector left = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector right = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            sum = left.fma(right, sum);
+        }
+
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++)
+            result += a[aOffset + i] * b[bOffset + i];
+        return result;
+    }
+
+    @Override
+    public void add(double[] a, double[] b, double[] out) {
+        int i = lanewise(VectorOperators.ADD, a, b, out);
+        for (; i < a.length; i++)
+            out[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void subtract(double[] a, double[] b, double[] out) {
+        int i = lanewise(VectorOperators.SUB, a, b, out);
+        for (; i < a.length; i++)
+            out[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void multiply(double[] a, double[] b, double[] out) {
+        int i = lanewise(VectorOperators.MUL, a, b, out);
+        for (; i < a.length; i++)
+            out[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void divide(double[] a, double[] b, double[] out) {
+        int i = lanewise(VectorOperators.DIV, a, b, out);
+        for (; i < a.length; i++)
+            out[i] = a[i] / b[i];
+    }
+
+    /**
+     * Applies the operator over whole vectors of elements, leaving the tail to the caller.
+     * @return index of the first element which was not processed
+     */
+    private static int lanewise(VectorOperators.Binary operator, double[] a, double[] b, double[] out) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(a.length); i < bound; i += SPECIES.length()) {
+            DoubleVector left = DoubleVector.fromArray(SPECIES, a, i);
+            DoubleVector right = DoubleVector.fromArray(SPECIES, b, i);
+            left.lanewise(operator, right).intoArray(out, i);
+        }
+        return i;
+    }
+
+    @Override
+    public void add(double[] a, double value, double[] out) {
+        int i = lanewise(VectorOperators.ADD, a, value, out);
+        for (; i < a.length; i++)
+            out[i] = a[i] + value;
+    }
+
+    @Override
+    public void multiply(double[] a, double value, double[] out) {
+        int i = lanewise(VectorOperators.MUL, a, value, out);
+        for (; i < a.length; i++)
+            out[i] = a[i] * value;
+    }
+
+    @Override
+    public void divide(double[] a, double value, double[] out) {
+        int i = lanewise(VectorOperators.DIV, a, value, out);
+        for (; i < a.length; i++)
+            out[i] = a[i] / value;
+    }
+
+    /**
+     * Same as above, for a scalar right-hand side.
+     * @return index of the first element which was not processed
+     */
+    private static int lanewise(VectorOperators.Binary operator, double[] a, double value, double[] out) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(a.length); i < bound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, a, i).lanewise(operator, value).intoArray(out, i);
+        return i;
+    }
+
+    @Override
+    public void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+        DoubleVector scale = DoubleVector.broadcast(SPECIES, alpha);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector left = DoubleVector.fromArray(SPECIES, x, xOffset + i);
+            DoubleVector right = DoubleVector.fromArray(SPECIES, y, yOffset + i);
+            left.fma(scale, right).intoArray(y, yOffset + i);
+        }
+
+        for (; i < length; i++)
+            y[yOffset + i] += alpha * x[xOffset + i];
+    }
+}
@@ -0,0 +1,124 @@
+package convex.objects;
+
+import convex.sampling.Line;
+import convex.sampling.LineSegment;
+import convex.sampling.SamplingCursor;
+import exceptions.IncompatibleDimensionsException;
+import exceptions.convex.EmptyIntersectionException;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Vector;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import utils.Sampler;
+
+import static org.junit.Assert.*;
+
+public class PolytopeCursorTest {
+    private Polytope pol;
+    private PolytopeCursor cursor;
+
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.OJALGO);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        pol = new Polytope(new double[][] {{-1,0}, {0,-1}, {1,1}, {1,-2}}, new double[] {1,1,1.5,2});
+        cursor = (PolytopeCursor) pol.cursor(Vector.FACTORY.make(new double[] {0.1,0.2}));
+    }
+
+    private void assertSlackIsExact(){
+        Vector expected = pol.getVector().subtract(pol.getMatrix().multiply(cursor.getPoint()));
+        assertArrayEquals(expected.asArray(), cursor.getSlack().asArray(), 1e-10);
+    }
+
+    @Test
+    public void testCursorType() throws Exception {
+        assertSame(pol, cursor.getConvexBody());
+        assertFalse(new Box(2).cursor(Vector.FACTORY.makeZero(2)) instanceof PolytopeCursor);
+    }
+
+    @Test
+    public void testInitialSlack() throws Exception {
+        assertSlackIsExact();
+    }
+
+    @Test
+    public void testIntersectMatchesPolytope() throws Exception {
+        Vector direction = Vector.FACTORY.make(new double[] {1,-0.5});
+        LineSegment expected = pol.intersect(new Line(cursor.getPoint(), direction));
+        LineSegment actual = cursor.intersect(direction);
+        assertEquals(expected.getLower(), actual.getLower(), 1e-10);
+        assertEquals(expected.getUpper(), actual.getUpper(), 1e-10);
+    }
+
+    @Test
+    public void testIntersectAxisMatchesPolytope() throws Exception {
+        for(int axis=0; axis < 2; axis++) {
+            Vector direction = Vector.FACTORY.makeZero(2);
+            direction.set(axis, 1);
+            LineSegment expected = pol.intersect(new Line(cursor.getPoint(), direction));
+            LineSegment actual = cursor.intersectAxis(axis);
+            assertEquals(expected.getLower(), actual.getLower(), 1e-10);
+            assertEquals(expected.getUpper(), actual.getUpper(), 1e-10);
+        }
+    }
+
+    @Test
+    public void testMoveAlongAxis() throws Exception {
+        cursor.intersectAxis(1);
+        assertArrayEquals(new double[] {0.1,-0.3}, cursor.moveTo(-0.5).asArray(), 1e-10);
+        assertSlackIsExact();
+    }
+
+    @Test
+    public void testMoveTo() throws Exception {
+        cursor.intersect(Vector.FACTORY.make(new double[] {1,-0.5}));
+        Vector point = cursor.moveTo(0.2);
+        assertArrayEquals(new double[] {0.3,0.1}, point.asArray(), 1e-10);
+        assertSame(point, cursor.getPoint());
+        assertSlackIsExact();
+    }
+
+    @Test
+    public void testSlackIsUpdatedAcrossRefreshes() throws Exception {
+        Sampler sampler = new Sampler(0);
+        for(int i=0; i < 3 * PolytopeCursor.REFRESH_INTERVAL + 1; i++){
+            LineSegment segment = i % 2 == 0 ? cursor.intersect(sampler.sampleGaussian(2)) : cursor.intersectAxis(i % 4 / 2);
+            cursor.moveTo(segment.samplePosition(sampler));
+            assertTrue(pol.isInside(cursor.getPoint()));
+            assertSlackIsExact();
+        }
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testCursorWithWrongDimension() throws Exception {
+        pol.cursor(Vector.FACTORY.make(new double[] {0.1,0.2,0.3}));
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testDefaultCursorWithWrongDimension() throws Exception {
+        new Box(2).cursor(Vector.FACTORY.makeZero(3));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMoveWithoutIntersect() throws Exception {
+        cursor.moveTo(0.1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMoveTwiceAfterIntersect() throws Exception {
+        cursor.intersect(Vector.FACTORY.make(new double[] {1,0}));
+        cursor.moveTo(0.1);
+        cursor.moveTo(0.1);
+    }
+
+    @Test(expected = EmptyIntersectionException.class)
+    public void testIntersectTangentLineOnBoundary() throws Exception {
+        SamplingCursor boundary = pol.cursor(Vector.FACTORY.make(new double[] {-1,0}));
+        boundary.intersect(Vector.FACTORY.make(new double[] {0,1}));
+    }
+}
@@ -0,0 +1,76 @@
+package convex.sampling;
+
+import convex.objects.Box;
+import convex.objects.ConvexBody;
+import convex.objects.Ellipsoid;
+import convex.objects.Polytope;
+import exceptions.convex.PointOutsideConvexBodyException;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
+import linalg.Vector;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class CoordinateHitAndRunTest {
+    private CoordinateHitAndRun sampler;
+    private ConvexBody elp;
+
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.OJALGO);
+    }
+
+    @Before
+    public void setUp(){
+        sampler = new CoordinateHitAndRun(64, 8);
+        elp = new Polytope(new double[][] {{-1,0}, {0,-1}, {1,1}}, new double[] {1,1,1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroChainLength() throws Exception {
+        sampler = new CoordinateHitAndRun(0, 8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroSampleSize() throws Exception {
+        sampler = new CoordinateHitAndRun(10, 0);
+    }
+
+    @Test(expected = PointOutsideConvexBodyException.class)
+    public void testSampleChainWithInitialPointOutside() throws Exception {
+        sampler.chain(elp, Vector.FACTORY.make(new double[] {2,0}));
+    }
+
+    @Test
+    public void testStepMovesAlongSingleAxis() throws Exception {
+        Vector sample = Vector.FACTORY.make(new double[] {0,0});
+        for(int i=0; i < 1000; i++) {
+            Vector next = sampler.step(elp, sample);
+            assertTrue(elp.isInside(next));
+            assertTrue(next.get(0) == sample.get(0) || next.get(1) == sample.get(1));
+            sample = next;
+        }
+    }
+
+    @Test
+    public void testChain() throws Exception {
+        Matrix chain = sampler.chain(elp, Vector.FACTORY.make(new double[] {0,0}));
+        assertEquals(65, chain.getNumRows());
+        chain.forEachRow((i, row) -> assertTrue(elp.isInside(row)));
+    }
+
+    @Test
+    public void testUniformOverOtherBodies() throws Exception {
+        for(ConvexBody body : new ConvexBody[] {new Box(3), new Ellipsoid(3)}) {
+            Matrix sample = sampler.uniform(body, Vector.FACTORY.makeZero(3));
+            assertEquals(8, sample.getNumRows());
+            sample.forEachRow((i, row) -> assertTrue(body.isInside(row)));
+        }
+    }
+}
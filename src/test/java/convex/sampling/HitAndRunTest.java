@@ -5,11 +5,20 @@ import convex.objects.Polytope;
 import exceptions.convex.PointOutsideConvexBodyException;
 import linalg.LinearAlgebraConfig;
 import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
 import linalg.Vector;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import utils.Sampler;
 
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 
@@ -58,6 +67,129 @@ public class HitAndRunTest {
         sampler.uniform(elp, Vector.FACTORY.make(new double[] {2,0}));
     }
 
+    @Test
+    public void testParallelUniformMatchesSequential() throws Exception {
+        Vector initialPoint = Vector.FACTORY.make(new double[] {0,0});
+
+        sampler.setSampler(new Sampler(0));
+        Matrix sequential = sampler.uniform(elp, initialPoint);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            sampler.setForkJoinPool(pool);
+            sampler.setSampler(new Sampler(0));
+            Matrix parallel = sampler.uniform(elp, initialPoint);
+            assertTrue(Arrays.deepEquals(sequential.asArray(), parallel.asArray()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelUniformIsInside() throws Exception {
+        sampler = new HitAndRun(16, 100);
+        sampler.setForkJoinPool(ForkJoinPool.commonPool());
+        Matrix sample = sampler.uniform(elp, Vector.FACTORY.make(new double[] {0.5,-0.5}));
+        assertEquals(100, sample.getNumRows());
+        sample.forEachRow((i, row) -> assertTrue(elp.isInside(row)));
+    }
+
+    @Test
+    public void testAdvance() throws Exception {
+        Matrix points = Matrix.FACTORY.make(new double[][] {{0,0}, {0.5,0.5}, {-0.9,0.1}});
+        Matrix advanced = sampler.advance(elp, points, 10);
+        assertEquals(3, advanced.getNumRows());
+        advanced.forEachRow((i, row) -> assertTrue(elp.isInside(row)));
+    }
+
+    @Test
+    public void testAdvanceZeroSteps() throws Exception {
+        Matrix points = Matrix.FACTORY.make(new double[][] {{0,0}, {0.5,0.5}});
+        assertTrue(Arrays.deepEquals(points.asArray(), sampler.advance(elp, points, 0).asArray()));
+    }
+
+    @Test(expected = PointOutsideConvexBodyException.class)
+    public void testAdvanceWithPointOutside() throws Exception {
+        sampler.advance(elp, Matrix.FACTORY.make(new double[][] {{0,0}, {2,0}}), 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdvanceNegativeSteps() throws Exception {
+        sampler.advance(elp, Matrix.FACTORY.make(new double[][] {{0,0}}), -1);
+    }
+
+    @Test
+    public void testStreamMatchesChain() throws Exception {
+        Vector initialPoint = Vector.FACTORY.make(new double[] {0,0});
+
+        sampler.setSampler(new Sampler(0));
+        Matrix chain = sampler.chain(elp, initialPoint);
+
+        sampler.setSampler(new Sampler(0));
+        Object[] stream = sampler.stream(elp, initialPoint, 3, 5, 10).toArray();
+
+        assertEquals(10, stream.length);
+        for(int i=0; i < stream.length; i++)
+            assertTrue(Arrays.equals(chain.getRow(3 + 5 * i).asArray(), ((Vector) stream[i]).asArray()));
+    }
+
+    @Test
+    public void testStreamIsLazy() throws Exception {
+        Spliterator<Vector> spliterator = sampler.stream(elp, Vector.FACTORY.make(new double[] {0,0}), 0, 1).spliterator();
+        assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+        for(int i=0; i < 1000; i++)
+            assertTrue(spliterator.tryAdvance(point -> assertTrue(elp.isInside(point))));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+    }
+
+    @Test
+    public void testFiniteStreamIsSized() throws Exception {
+        Spliterator<Vector> spliterator = sampler.stream(elp, Vector.FACTORY.make(new double[] {0,0}), 0, 1, 5).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        spliterator.tryAdvance(point -> {});
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(4, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void testStreamZeroLimit() throws Exception {
+        assertEquals(0, sampler.stream(elp, Vector.FACTORY.make(new double[] {0,0}), 10, 1, 0).count());
+    }
+
+    @Test(expected = PointOutsideConvexBodyException.class)
+    public void testStreamWithInitialPointOutside() throws Exception {
+        sampler.stream(elp, Vector.FACTORY.make(new double[] {2,0}), 10, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStreamNegativeBurnIn() throws Exception {
+        sampler.stream(elp, Vector.FACTORY.make(new double[] {0,0}), -1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStreamZeroThin() throws Exception {
+        sampler.stream(elp, Vector.FACTORY.make(new double[] {0,0}), 10, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStreamNegativeLimit() throws Exception {
+        sampler.stream(elp, Vector.FACTORY.make(new double[] {0,0}), 10, 1, -1);
+    }
+
+    @Test
+    public void testWalksSplitTheirOwnSampler() throws Exception {
+        Sampler.setSeed(5);
+        Matrix first = new HitAndRun(10, 4).uniform(elp, Vector.FACTORY.make(new double[] {0,0}));
+        Matrix second = new HitAndRun(10, 4).uniform(elp, Vector.FACTORY.make(new double[] {0,0}));
+        assertNotSame(Sampler.getDefault(), sampler.getSampler());
+        assertFalse(Arrays.deepEquals(first.asArray(), second.asArray()));
+
+        Sampler.setSeed(5);
+        Matrix repeated = new HitAndRun(10, 4).uniform(elp, Vector.FACTORY.make(new double[] {0,0}));
+        assertTrue(Arrays.deepEquals(first.asArray(), repeated.asArray()));
+    }
+
     @Test
     public void testStep() throws Exception {
         Vector sample = Vector.FACTORY.make(new double[] {0,0});
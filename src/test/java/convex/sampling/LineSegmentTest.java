@@ -8,6 +8,7 @@ import linalg.Vector;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import utils.Sampler;
 
 import static org.junit.Assert.assertEquals;
 
@@ -50,13 +51,13 @@ public class LineSegmentTest {
     @Test(expected = UnboundedSegmentException.class)
     public void testUnboundedLowerSegmentException() throws Exception {
         segment = new LineSegment(line, Double.NEGATIVE_INFINITY, 3);
-        segment.sample();
+        segment.sample(new Sampler(0));
     }
 
     @Test(expected = UnboundedSegmentException.class)
     public void testUnboundedUpperSegmentException() throws Exception {
         segment = new LineSegment(line, -2, Double.POSITIVE_INFINITY);
-        segment.sample();
+        segment.sample(new Sampler(0));
     }
 
     // TODO: test sampling method
@@ -0,0 +1,119 @@
+package dataset;
+
+import classifier.Label;
+import classifier.LabelCollection;
+import exceptions.IncompatibleDimensionsException;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class DatasetTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path path;
+    private Matrix points;
+    private LabelCollection labels;
+
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.OJALGO);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        path = folder.newFile("points.bin").toPath();
+        points = Matrix.FACTORY.make(new double[][] {{1,2}, {-3,4.5}, {0,-1e-3}});
+        labels = new LabelCollection();
+        labels.add(Label.POSITIVE);
+        labels.add(Label.NEGATIVE);
+        labels.add(Label.POSITIVE);
+    }
+
+    @Test
+    public void testWriteAndOpenLabeledDataset() throws Exception {
+        Dataset.write(path, points, labels);
+        assertEquals(Dataset.HEADER_BYTES + 6 * Double.BYTES + 3, Files.size(path));
+
+        try (Dataset dataset = Dataset.open(path)) {
+            assertArrayEquals(points.asArray(), dataset.getPoints().asArray());
+            assertTrue(dataset.hasLabels());
+            assertEquals(3, dataset.getLabels().size());
+            assertEquals(Label.POSITIVE, dataset.getLabels().get(0));
+            assertEquals(Label.NEGATIVE, dataset.getLabels().get(1));
+            assertEquals(Label.POSITIVE, dataset.getLabels().get(2));
+        }
+    }
+
+    @Test
+    public void testWriteAndOpenUnlabeledDataset() throws Exception {
+        Dataset.write(path, points);
+        try (Dataset dataset = Dataset.open(path)) {
+            assertFalse(dataset.hasLabels());
+            assertArrayEquals(new double[] {-3, 4.5}, dataset.getPoints().getRow(1).asArray(), 1e-10);
+        }
+    }
+
+    @Test
+    public void testWriteRowsLargerThanWriteBuffer() throws Exception {
+        double[][] values = new double[3][10000];
+        for (int i = 0; i < values.length; i++)
+            for (int j = 0; j < values[i].length; j++)
+                values[i][j] = i - 0.5 * j;
+        Matrix wide = Matrix.FACTORY.make(values);
+
+        Dataset.write(path, wide, labels);
+        try (Dataset dataset = Dataset.open(path)) {
+            assertArrayEquals(wide.asArray(), dataset.getPoints().asArray());
+            assertEquals(Label.NEGATIVE, dataset.getLabels().get(1));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testPointsAreReadOnly() throws Exception {
+        Dataset.write(path, points);
+        try (Dataset dataset = Dataset.open(path)) {
+            dataset.getPoints().set(0, 0, 10);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetLabelsOfUnlabeledDataset() throws Exception {
+        Dataset.write(path, points);
+        try (Dataset dataset = Dataset.open(path)) {
+            dataset.getLabels();
+        }
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testWriteWithWrongNumberOfLabels() throws Exception {
+        labels.add(Label.NEGATIVE);
+        Dataset.write(path, points, labels);
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenInvalidFile() throws Exception {
+        Files.write(path, new byte[Dataset.HEADER_BYTES]);
+        Dataset.open(path);
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenTruncatedFile() throws Exception {
+        Dataset.write(path, points, labels);
+        byte[] content = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(content, content.length - 1));
+        Dataset.open(path);
+    }
+}
@@ -0,0 +1,148 @@
+package linalg;
+
+import classifier.LinearMajorityVote;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.*;
+
+public class BinaryEncodingTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Vector vector;
+    private Matrix matrix;
+
+    @Before
+    public void setUp(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.SIMPLE);
+        vector = Vector.FACTORY.make(new double[] {1,-2,3.5});
+        matrix = Matrix.FACTORY.make(new double[][] {{1,2,3},{4,5,6}});
+    }
+
+    @Test
+    public void testEncodedSize(){
+        assertEquals(16 + 3 * 8, BinaryEncoding.encodedSize(vector));
+        assertEquals(16 + 6 * 8, BinaryEncoding.encodedSize(matrix));
+    }
+
+    @Test
+    public void testByteBufferRoundTrip(){
+        ByteBuffer buffer = ByteBuffer.allocate((int) (BinaryEncoding.encodedSize(vector) + BinaryEncoding.encodedSize(matrix)));
+        BinaryEncoding.write(vector, buffer);
+        BinaryEncoding.write(matrix, buffer);
+        assertFalse(buffer.hasRemaining());
+        assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+
+        buffer.flip();
+        assertArrayEquals(vector.asArray(), BinaryEncoding.readVector(buffer).asArray(), 1e-10);
+        assertArrayEquals(matrix.asArray(), BinaryEncoding.readMatrix(buffer).asArray());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testEncodingIsLittleEndian(){
+        ByteBuffer buffer = ByteBuffer.allocate((int) BinaryEncoding.encodedSize(vector));
+        BinaryEncoding.write(vector, buffer);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(3, buffer.getInt(8));
+        assertEquals(1, buffer.getInt(12));
+        assertEquals(-2, buffer.getDouble(24), 1e-10);
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void testWriteToSmallBuffer(){
+        BinaryEncoding.write(matrix, ByteBuffer.allocate(20));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadVectorFromMatrixEncoding(){
+        ByteBuffer buffer = ByteBuffer.allocate((int) BinaryEncoding.encodedSize(matrix));
+        BinaryEncoding.write(matrix, buffer);
+        buffer.flip();
+        BinaryEncoding.readVector(buffer);
+    }
+
+    @Test
+    public void testDecodingIsBackendIndependent(){
+        ByteBuffer buffer = ByteBuffer.allocate((int) BinaryEncoding.encodedSize(matrix));
+        try (LinearAlgebraContext.Scope scope = new LinearAlgebraContext(LinearAlgebraLibrary.OJALGO).bind()) {
+            BinaryEncoding.write(Matrix.FACTORY.make(matrix.asArray()), buffer);
+        }
+
+        buffer.flip();
+        assertArrayEquals(matrix.asArray(), BinaryEncoding.readMatrix(buffer).asArray());
+    }
+
+    @Test
+    public void testChannelRoundTripOfClassifier() throws IOException {
+        Matrix weights = Matrix.FACTORY.makeZero(300, 700);
+        for(int i=0; i < weights.getNumRows(); i++)
+            for(int j=0; j < weights.getNumCols(); j++)
+                weights.set(i, j, Math.sin(i * 7 + j));
+        LinearMajorityVote classifier = new LinearMajorityVote(Vector.FACTORY.makeFilled(300, 0.5), weights);
+
+        Path path = folder.newFile("session.bin").toPath();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            BinaryEncoding.write(classifier.getBiases(), channel);
+            BinaryEncoding.write(classifier.getWeights(), channel);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            assertEquals(BinaryEncoding.encodedSize(classifier.getBiases()) + BinaryEncoding.encodedSize(weights), channel.size());
+            Vector biases = BinaryEncoding.readVector(channel);
+            Matrix decoded = BinaryEncoding.readMatrix(channel);
+
+            assertArrayEquals(classifier.getBiases().asArray(), biases.asArray(), 1e-10);
+            assertArrayEquals(weights.asArray(), decoded.asArray());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadTruncatedChannel() throws IOException {
+        Path path = folder.newFile("truncated.bin").toPath();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            BinaryEncoding.write(matrix, channel);
+            channel.truncate(BinaryEncoding.encodedSize(matrix) - 8);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            BinaryEncoding.readMatrix(channel);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadChannelWithCorruptedShape() throws IOException {
+        Path path = folder.newFile("corrupted.bin").toPath();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            BinaryEncoding.write(matrix, channel);
+            ByteBuffer shape = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(1 << 20).putInt(1 << 10);
+            shape.flip();
+            channel.write(shape, 8);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            BinaryEncoding.readMatrix(channel);
+        }
+    }
+
+    @Test(expected = BufferUnderflowException.class)
+    public void testReadBufferWithCorruptedShape(){
+        ByteBuffer buffer = ByteBuffer.allocate((int) BinaryEncoding.encodedSize(matrix));
+        BinaryEncoding.write(matrix, buffer);
+        buffer.order(ByteOrder.LITTLE_ENDIAN).putInt(8, 1 << 20).putInt(12, 1 << 10);
+        buffer.flip();
+        BinaryEncoding.readMatrix(buffer);
+    }
+}
@@ -4,7 +4,10 @@ import linalg.libraries.simple.SimpleMatrixFactory;
 import linalg.libraries.simple.SimpleVectorFactory;
 import org.junit.Test;
 
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 public class LinearAlgebraConfigTest {
@@ -31,4 +34,31 @@ public class LinearAlgebraConfigTest {
     public void testSetNullLibraryThrowsException() throws Exception {
         LinearAlgebraConfig.setLibrary(null);
     }
+
+    @Test
+    public void testSetParallelism() throws Exception {
+        int parallelism = LinearAlgebraConfig.getParallelism();
+        LinearAlgebraConfig.setParallelism(3);
+        assertEquals(3, LinearAlgebraConfig.getParallelism());
+        LinearAlgebraConfig.setParallelism(parallelism);
+    }
+
+    @Test
+    public void testPoolFetchedBeforeSetParallelismKeepsRunning() throws Exception {
+        int parallelism = LinearAlgebraConfig.getParallelism();
+        try {
+            LinearAlgebraConfig.setParallelism(2);
+            ForkJoinPool pool = LinearAlgebraConfig.getForkJoinPool();
+            LinearAlgebraConfig.setParallelism(3);
+            assertEquals(42, (int) pool.submit(() -> 42).get());
+            assertNotSame(pool, LinearAlgebraConfig.getForkJoinPool());
+        } finally {
+            LinearAlgebraConfig.setParallelism(parallelism);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetNonPositiveParallelismThrowsException() throws Exception {
+        LinearAlgebraConfig.setParallelism(0);
+    }
 }
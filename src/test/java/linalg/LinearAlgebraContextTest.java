@@ -0,0 +1,78 @@
+package linalg;
+
+import linalg.libraries.apache.ApacheVectorFactory;
+import linalg.libraries.ojalgo.OjalgoVectorFactory;
+import linalg.libraries.simple.SimpleMatrixFactory;
+import linalg.libraries.simple.SimpleVectorFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LinearAlgebraContextTest {
+    private LinearAlgebraContext simple, apache;
+
+    @Before
+    public void setUp() throws Exception {
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.OJALGO);
+        simple = new LinearAlgebraContext(LinearAlgebraLibrary.SIMPLE);
+        apache = new LinearAlgebraContext(LinearAlgebraLibrary.APACHE);
+    }
+
+    @Test
+    public void testFactoriesMatchLibrary() throws Exception {
+        assertEquals(LinearAlgebraLibrary.SIMPLE, simple.getLibrary());
+        assertTrue(simple.getVectorFactory() instanceof SimpleVectorFactory);
+        assertTrue(simple.getMatrixFactory() instanceof SimpleMatrixFactory);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullLibraryThrowsException() throws Exception {
+        new LinearAlgebraContext(null);
+    }
+
+    @Test
+    public void testCurrentDefaultsToConfig() throws Exception {
+        assertSame(LinearAlgebraConfig.getDefaultContext(), LinearAlgebraContext.current());
+        assertTrue(LinearAlgebraContext.current().getVectorFactory() instanceof OjalgoVectorFactory);
+    }
+
+    @Test
+    public void testBindAndClose() throws Exception {
+        try (LinearAlgebraContext.Scope scope = simple.bind()) {
+            assertSame(simple, LinearAlgebraContext.current());
+        }
+        assertSame(LinearAlgebraConfig.getDefaultContext(), LinearAlgebraContext.current());
+    }
+
+    @Test
+    public void testNestedScopesRestorePreviousContext() throws Exception {
+        try (LinearAlgebraContext.Scope outer = simple.bind()) {
+            try (LinearAlgebraContext.Scope inner = apache.bind()) {
+                assertSame(apache, LinearAlgebraContext.current());
+            }
+            assertSame(simple, LinearAlgebraContext.current());
+        }
+    }
+
+    @Test
+    public void testFactoryUsesBoundContext() throws Exception {
+        try (LinearAlgebraContext.Scope scope = apache.bind()) {
+            Vector vector = Vector.FACTORY.make(new double[] {1, 2});
+            assertEquals(new ApacheVectorFactory().make(new double[] {1, 2}).getClass(), vector.getClass());
+        }
+    }
+
+    @Test
+    public void testContextIsBoundPerThread() throws Exception {
+        final LinearAlgebraContext[] seen = new LinearAlgebraContext[1];
+        try (LinearAlgebraContext.Scope scope = simple.bind()) {
+            Thread thread = new Thread(() -> seen[0] = LinearAlgebraContext.current());
+            thread.start();
+            thread.join();
+        }
+        assertSame(LinearAlgebraConfig.getDefaultContext(), seen[0]);
+    }
+}
@@ -0,0 +1,127 @@
+package linalg;
+
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.NegativeDimensionException;
+import linalg.libraries.sparse.SparseVectorFactory;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MatrixBuilderTest {
+    private MatrixBuilder builder;
+
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.SIMPLE);
+    }
+
+    @Before
+    public void setUp(){
+        builder = new MatrixBuilder(3, 2);
+    }
+
+    @Test(expected = NegativeDimensionException.class)
+    public void testNegativeCols(){
+        new MatrixBuilder(0);
+    }
+
+    @Test(expected = NegativeDimensionException.class)
+    public void testBuildEmpty(){
+        builder.build();
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testAppendRowOfWrongLength(){
+        builder.appendRow(new double[] {1,2});
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testAppendVectorOfWrongDimension(){
+        builder.appendRow(Vector.FACTORY.make(new double[] {1,2}));
+    }
+
+    @Test
+    public void testAppendRows(){
+        builder.appendRow(new double[] {1,2,3}).appendRow(Vector.FACTORY.make(new double[] {4,5,6}));
+        assertEquals(2, builder.getNumRows());
+        assertEquals(3, builder.getNumCols());
+        assertEquals(5, builder.get(1, 1), 1e-10);
+        assertArrayEquals(new double[][] {{1,2,3},{4,5,6}}, builder.build().asArray());
+    }
+
+    @Test
+    public void testAppendSparseVectorOverReusedRow(){
+        builder.appendRow(new double[] {1,2,3});
+        builder.build();
+        builder.appendRow(new double[] {7,8,9});
+        builder.appendRow(new SparseVectorFactory().make(3, new int[] {1}, new double[] {-1}));
+        assertArrayEquals(new double[][] {{7,8,9},{0,-1,0}}, builder.build().asArray());
+    }
+
+    @Test
+    public void testGrowsBeyondExpectedRows(){
+        for(int i=0; i < 100; i++)
+            builder.appendRow(new double[] {i, 2*i, 3*i});
+
+        Matrix matrix = builder.build();
+        assertEquals(100, matrix.getNumRows());
+        for(int i=0; i < 100; i++)
+            assertArrayEquals(new double[] {i, 2*i, 3*i}, matrix.getRow(i).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testAppendedArrayIsCopied(){
+        double[] row = {1,2,3};
+        builder.appendRow(row);
+        row[0] = 100;
+        assertEquals(1, builder.get(0, 0), 1e-10);
+    }
+
+    @Test
+    public void testBuildEmptiesBuilder(){
+        builder.appendRow(new double[] {1,2,3}).appendRow(new double[] {4,5,6});
+        Matrix matrix = builder.build();
+        assertTrue(builder.isEmpty());
+
+        builder.appendRow(new double[] {7,8,9});
+        assertArrayEquals(new double[][] {{7,8,9}}, builder.build().asArray());
+        assertArrayEquals(new double[][] {{1,2,3},{4,5,6}}, matrix.asArray());
+    }
+
+    @Test
+    public void testSnapshotKeepsRowsForLaterAppends(){
+        builder.appendRow(new double[] {1,2,3});
+        Matrix first = builder.snapshot();
+        for(int i=0; i < 10; i++)
+            builder.appendRow(new double[] {i, i, i});
+        Matrix second = builder.snapshot();
+
+        assertArrayEquals(new double[][] {{1,2,3}}, first.asArray());
+        assertEquals(11, second.getNumRows());
+        assertArrayEquals(new double[] {9,9,9}, second.getRow(10).asArray(), 1e-10);
+        assertEquals(11, builder.getNumRows());
+    }
+
+    @Test
+    public void testWritesToSnapshotDoNotAffectBuilder(){
+        builder.appendRow(new double[] {1,2,3}).appendRow(new double[] {4,5,6});
+        Matrix snapshot = builder.snapshot();
+        snapshot.set(0, 0, 100);
+        assertEquals(1, builder.get(0, 0), 1e-10);
+    }
+
+    @Test
+    public void testBuildAfterSnapshotDoesNotShareArray(){
+        builder.appendRow(new double[] {1,2,3}).appendRow(new double[] {4,5,6});
+        Matrix snapshot = builder.snapshot();
+        builder.build().set(0, 0, 100);
+        assertEquals(1, snapshot.get(0, 0), 1e-10);
+    }
+
+    @Test(expected = NegativeDimensionException.class)
+    public void testSnapshotEmpty(){
+        builder.snapshot();
+    }
+}
@@ -7,6 +7,9 @@ import org.junit.Test;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public abstract class MatrixTest {
     private Matrix mat, mat2;
@@ -51,6 +54,23 @@ public abstract class MatrixTest {
         assertArrayEquals(new double[] {0,0,0}, mat.asArray()[1], 1e-10);
     }
 
+    @Test
+    public void testMakeFromRowMajorArray(){
+        mat = Matrix.FACTORY.make(new double[] {1,2,3,4,5,6}, 2, 3);
+        assertArrayEquals(new double[] {1,2,3}, mat.asArray()[0], 1e-10);
+        assertArrayEquals(new double[] {4,5,6}, mat.asArray()[1], 1e-10);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testMakeFromRowMajorArrayOfWrongLength(){
+        Matrix.FACTORY.make(new double[] {1,2,3,4,5}, 2, 3);
+    }
+
+    @Test(expected = NegativeDimensionException.class)
+    public void testMakeFromRowMajorArrayWithNegativeDim(){
+        Matrix.FACTORY.make(new double[0], 0, 3);
+    }
+
     @Test(expected = NegativeDimensionException.class)
     public void testMakeEyeWithNegativeDim() throws Exception {
         Matrix.FACTORY.makeEye(0);
@@ -176,6 +196,59 @@ public abstract class MatrixTest {
         assertEquals(1, mat.get(0,0), 1e-10);
     }
 
+    @Test
+    public void testCopyRow() throws Exception {
+        double[] row = new double[3];
+        mat.copyRow(1, row);
+        assertArrayEquals(new double[] {4,5,6}, row, 1e-10);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testCopyRowLargerThanSizeIndex() throws Exception {
+        mat.copyRow(2, new double[3]);
+    }
+
+    @Test
+    public void testRowCursor() throws Exception {
+        RowCursor cursor = mat.rowCursor();
+
+        assertTrue(cursor.next());
+        assertEquals(0, cursor.getIndex());
+        assertArrayEquals(new double[] {1,2,3}, cursor.getValues(), 1e-10);
+        Vector first = cursor.getRow();
+        assertArrayEquals(new double[] {1,2,3}, first.asArray(), 1e-10);
+
+        assertTrue(cursor.next());
+        assertEquals(1, cursor.getIndex());
+        assertArrayEquals(new double[] {4,5,6}, cursor.getValues(), 1e-10);
+        assertSame(first, cursor.getRow());
+        assertArrayEquals(new double[] {4,5,6}, first.asArray(), 1e-10);
+
+        assertFalse(cursor.next());
+        assertFalse(cursor.next());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRowCursorBeforeFirstRow() throws Exception {
+        mat.rowCursor().getValues();
+    }
+
+    @Test
+    public void testForEachRow() throws Exception {
+        double[][] rows = new double[2][];
+        mat.forEachRow((i, row) -> rows[i] = row.asArray());
+        assertArrayEquals(new double[] {1,2,3}, rows[0], 1e-10);
+        assertArrayEquals(new double[] {4,5,6}, rows[1], 1e-10);
+    }
+
+    @Test
+    public void testForEachRowCopiesAreNotOverwritten() throws Exception {
+        Vector[] rows = new Vector[2];
+        mat.forEachRow((i, row) -> rows[i] = row.copy());
+        assertArrayEquals(new double[] {1,2,3}, rows[0].asArray(), 1e-10);
+        assertArrayEquals(new double[] {4,5,6}, rows[1].asArray(), 1e-10);
+    }
+
     @Test(expected = ArrayIndexOutOfBoundsException.class)
     public void testGetColumnNegativeIndex() throws Exception {
         mat.getColumn(-1);
@@ -206,7 +279,14 @@ public abstract class MatrixTest {
 
     @Test(expected = ArrayIndexOutOfBoundsException.class)
     public void testGetColumnLargerThanSizeEnd() throws Exception {
-        mat.sliceColumns(1, 3);
+        mat.sliceColumns(1, 4);
+    }
+
+    @Test
+    public void testSliceColumnsUpToLastColumn() throws Exception {
+        Matrix slice = mat.sliceColumns(1, 3);
+        assertArrayEquals(new double[] {2,3}, slice.asArray()[0], 1e-10);
+        assertArrayEquals(new double[] {5,6}, slice.asArray()[1], 1e-10);
     }
 
 
@@ -230,6 +310,63 @@ public abstract class MatrixTest {
         assertEquals(1, mat.get(0,0), 1e-10);
     }
 
+    @Test
+    public void testRowIsNotAffectedByLaterChangesToMatrix() throws Exception {
+        Vector row = mat.getRow(1);
+        mat.set(1, 0, 100);
+        assertArrayEquals(new double[] {4,5,6}, row.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testColumnIsNotAffectedByLaterChangesToMatrix() throws Exception {
+        Vector column = mat.getColumn(2);
+        mat.set(0, 2, 100);
+        assertArrayEquals(new double[] {3,6}, column.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testSliceIsNotAffectedByLaterChangesToMatrix() throws Exception {
+        Matrix slice = mat.sliceColumns(1, 3);
+        mat.set(0, 1, 100);
+        assertArrayEquals(new double[] {2,3}, slice.asArray()[0], 1e-10);
+    }
+
+    @Test
+    public void testTransposeIsNotAffectedByLaterChangesToMatrix() throws Exception {
+        Matrix transpose = mat.transpose();
+        mat.set(1, 0, 100);
+        assertEquals(4, transpose.get(0, 1), 1e-10);
+    }
+
+    @Test
+    public void testSliceOfTransposeIsCopy() throws Exception {
+        Matrix slice = mat.transpose().sliceColumns(1, 2);
+        assertArrayEquals(new double[] {4,5,6}, slice.getColumn(0).asArray(), 1e-10);
+        slice.set(0, 0, 100);
+        mat.set(1, 1, -100);
+        assertEquals(4, mat.get(1,0), 1e-10);
+        assertEquals(100, slice.get(0,0), 1e-10);
+        assertEquals(5, slice.get(1,0), 1e-10);
+    }
+
+    @Test
+    public void testTransposeIsCopy() throws Exception {
+        Matrix transpose = mat.transpose();
+        transpose.set(0, 1, 100);
+        assertEquals(4, mat.get(1,0), 1e-10);
+        assertArrayEquals(new double[] {1,100}, transpose.getRow(0).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testOperationsOnRowOfTranspose() throws Exception {
+        Vector row = mat.transpose().getRow(1);
+        assertArrayEquals(new double[] {3,6}, row.add(1).asArray(), 1e-10);
+        assertEquals(2*2 + 5*5, row.dot(row), 1e-10);
+        row.scaleInPlace(2);
+        assertArrayEquals(new double[] {4,10}, row.asArray(), 1e-10);
+        assertEquals(2, mat.get(0,1), 1e-10);
+    }
+
     @Test
     public void testAddValue(){
         Matrix res = mat.add(5);
@@ -292,6 +429,56 @@ public abstract class MatrixTest {
         assertArrayEquals(new double[] {25,44}, res.asArray()[1], 1e-10);
     }
 
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testMultiplyTransposedByMatrixOfWrongDimension(){ mat.multiplyTransposed(Matrix.FACTORY.make(new double[][] {{-1,1}, {1,2}})); }
+
+    @Test
+    public void testMultiplyTransposed(){
+        Matrix res = mat.multiplyTransposed(Matrix.FACTORY.make(new double[][] {{-1,1,4}, {1,2,5}}));
+        assertEquals(2, res.getNumRows());
+        assertEquals(2, res.getNumCols());
+        assertArrayEquals(new double[] {13,20}, res.asArray()[0], 1e-10);
+        assertArrayEquals(new double[] {25,44}, res.asArray()[1], 1e-10);
+    }
+
+    @Test
+    public void testMakeViewOverLongerArray(){
+        double[] values = {1,2,3,4,5,6,7,8};
+        Matrix view = Matrix.FACTORY.makeView(values, 2, 3);
+        values[6] = -1;
+        assertArrayEquals(new double[][] {{1,2,3},{4,5,6}}, view.asArray());
+        view.set(1, 2, 100);
+        assertEquals(6, values[5], 1e-10);
+    }
+
+    @Test
+    public void testMultiplyPropagatesNaNFromZeroTimesInfinity(){
+        Matrix left = Matrix.FACTORY.make(new double[][] {{0,1}}), right = Matrix.FACTORY.make(new double[][] {{Double.POSITIVE_INFINITY}, {2}});
+        assertTrue(Double.isNaN(left.multiply(right).get(0,0)));
+    }
+
+    @Test
+    public void testMultiplyTransposedMatchesTranspose(){
+        double[][] left = new double[130][90], right = new double[75][90];
+        for(int i=0; i < left.length; i++)
+            for(int j=0; j < left[i].length; j++)
+                left[i][j] = Math.sin(i + 2 * j);
+        for(int i=0; i < right.length; i++)
+            for(int j=0; j < right[i].length; j++)
+                right[i][j] = Math.cos(3 * i - j);
+
+        int parallelism = LinearAlgebraConfig.getParallelism();
+        try {
+            LinearAlgebraConfig.setParallelism(4);
+            Matrix a = Matrix.FACTORY.make(left), b = Matrix.FACTORY.make(right);
+            Matrix res = a.multiplyTransposed(b), expected = a.multiply(b.transpose());
+            for (int i = 0; i < left.length; i++)
+                assertArrayEquals(expected.asArray()[i], res.asArray()[i], 1e-8);
+        } finally {
+            LinearAlgebraConfig.setParallelism(parallelism);
+        }
+    }
+
     @Test(expected = IncompatibleDimensionsException.class)
     public void testMultiplyElementByMatrixOfWrongDimension(){ mat.multiplyElement(Matrix.FACTORY.make(new double[][] {{-1,1,2,3}, {1,2,3,4}})); }
 
@@ -335,6 +522,58 @@ public abstract class MatrixTest {
         assertArrayEquals(new double[] {3,6}, transpose.getRow(2).asArray(), 1e-10);
     }
 
+    @Test
+    public void testTransposeOfLargeMatrix() throws Exception {
+        double[][] values = new double[45][70];
+        for(int i=0; i < values.length; i++)
+            for(int j=0; j < values[i].length; j++)
+                values[i][j] = 100 * i + j;
+
+        Matrix transpose = Matrix.FACTORY.make(values).transpose();
+        assertEquals(70, transpose.getNumRows());
+        assertEquals(45, transpose.getNumCols());
+        for(int i=0; i < values.length; i++)
+            for(int j=0; j < values[i].length; j++)
+                assertEquals(values[i][j], transpose.get(j, i), 1e-10);
+    }
+
+    @Test
+    public void testMultiplyByNonSquareMatrix(){
+        Matrix res = mat.transpose().multiply(mat2);
+        assertEquals(3, res.getNumRows());
+        assertEquals(3, res.getNumCols());
+        assertArrayEquals(new double[] {7,20,-31}, res.asArray()[0], 1e-10);
+        assertArrayEquals(new double[] {8,25,-38}, res.asArray()[1], 1e-10);
+        assertArrayEquals(new double[] {9,30,-45}, res.asArray()[2], 1e-10);
+    }
+
+    @Test
+    public void testMultiplyLargeMatricesInParallel(){
+        double[][] left = new double[130][90], right = new double[90][75];
+        for(int i=0; i < left.length; i++)
+            for(int j=0; j < left[i].length; j++)
+                left[i][j] = Math.sin(i + 2 * j);
+        for(int i=0; i < right.length; i++)
+            for(int j=0; j < right[i].length; j++)
+                right[i][j] = Math.cos(3 * i - j);
+
+        int parallelism = LinearAlgebraConfig.getParallelism();
+        try {
+            LinearAlgebraConfig.setParallelism(4);
+            Matrix res = Matrix.FACTORY.make(left).multiply(Matrix.FACTORY.make(right));
+            for (int i = 0; i < left.length; i++) {
+                for (int j = 0; j < right[0].length; j++) {
+                    double expected = 0;
+                    for (int k = 0; k < right.length; k++)
+                        expected += left[i][k] * right[k][j];
+                    assertEquals(expected, res.get(i, j), 1e-10);
+                }
+            }
+        } finally {
+            LinearAlgebraConfig.setParallelism(parallelism);
+        }
+    }
+
     @Test
     public void testToString(){ assertEquals("{1.0, 2.0, 3.0}\n{4.0, 5.0, 6.0}", mat.toString());}
 }
@@ -151,6 +151,165 @@ public abstract class VectorTest {
         assertArrayEquals(new double[] {-1,1,0.75}, res.asArray(), 1e-10);
     }
 
+    @Test
+    public void testCopy(){
+        Vector copy = vec.copy();
+        copy.set(0, 100);
+        assertArrayEquals(new double[] {1,2,3}, vec.asArray(), 1e-10);
+        assertArrayEquals(new double[] {100,2,3}, copy.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testAddValueInPlace(){
+        Vector res = vec.addInPlace(5);
+        assertSame(vec, res);
+        assertArrayEquals(new double[] {6,7,8}, vec.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testAddVectorInPlace(){
+        Vector res = vec.addInPlace(vec2);
+        assertSame(vec, res);
+        assertArrayEquals(new double[] {0,2,4}, vec.asArray(), 1e-10);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testAddVectorInPlaceOfWrongDimension(){
+        vec.addInPlace(Vector.FACTORY.make(new double[] {-1,1,2,3}));
+    }
+
+    @Test
+    public void testSubtractValueInPlace(){
+        vec.subtractInPlace(5);
+        assertArrayEquals(new double[] {-4,-3,-2}, vec.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testSubtractVectorInPlace(){
+        vec.subtractInPlace(vec2);
+        assertArrayEquals(new double[] {2,2,2}, vec.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testScaleInPlace(){
+        vec.scaleInPlace(2);
+        assertArrayEquals(new double[] {2,4,6}, vec.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testMultiplyVectorInPlace(){
+        vec.multiplyInPlace(vec2);
+        assertArrayEquals(new double[] {-1,0,3}, vec.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testDivideValueInPlace(){
+        vec.divideInPlace(2);
+        assertArrayEquals(new double[] {0.5,1.0,1.5}, vec.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testDivideVectorInPlace(){
+        vec.divideInPlace(Vector.FACTORY.make(new double[] {-1,2,4}));
+        assertArrayEquals(new double[] {-1,1,0.75}, vec.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testAxpy(){
+        Vector res = vec.axpy(2, vec2);
+        assertSame(vec, res);
+        assertArrayEquals(new double[] {-1,2,5}, vec.asArray(), 1e-10);
+        assertArrayEquals(new double[] {-1,0,1}, vec2.asArray(), 1e-10);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testAxpyOfWrongDimension(){
+        vec.axpy(2, Vector.FACTORY.make(new double[] {-1,1,2,3}));
+    }
+
+    @Test
+    public void testOperationsIntoResult(){
+        Vector result = Vector.FACTORY.makeZero(3);
+
+        assertSame(result, vec.add(5, result));
+        assertArrayEquals(new double[] {6,7,8}, result.asArray(), 1e-10);
+
+        assertSame(result, vec.add(vec2, result));
+        assertArrayEquals(new double[] {0,2,4}, result.asArray(), 1e-10);
+
+        assertSame(result, vec.subtract(5, result));
+        assertArrayEquals(new double[] {-4,-3,-2}, result.asArray(), 1e-10);
+
+        assertSame(result, vec.subtract(vec2, result));
+        assertArrayEquals(new double[] {2,2,2}, result.asArray(), 1e-10);
+
+        assertSame(result, vec.multiply(2, result));
+        assertArrayEquals(new double[] {2,4,6}, result.asArray(), 1e-10);
+
+        assertSame(result, vec.multiply(vec2, result));
+        assertArrayEquals(new double[] {-1,0,3}, result.asArray(), 1e-10);
+
+        assertSame(result, vec.divide(2, result));
+        assertArrayEquals(new double[] {0.5,1.0,1.5}, result.asArray(), 1e-10);
+
+        assertSame(result, vec.divide(Vector.FACTORY.make(new double[] {-1,2,4}), result));
+        assertArrayEquals(new double[] {-1,1,0.75}, result.asArray(), 1e-10);
+
+        assertArrayEquals(new double[] {1,2,3}, vec.asArray(), 1e-10);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testOperationIntoResultOfWrongDimension(){
+        vec.add(vec2, Vector.FACTORY.makeZero(4));
+    }
+
+    @Test
+    public void testDotWithNonIntegerValues(){
+        Vector half = Vector.FACTORY.makeFilled(3, 0.5);
+        assertEquals(3, vec.dot(half), 1e-10);
+    }
+
+    @Test
+    public void testExpressionEvaluate(){
+        Vector third = Vector.FACTORY.make(new double[] {2,4,8});
+        Vector expected = vec.subtract(vec2).divide(third).multiply(2).add(1);
+        assertArrayEquals(expected.asArray(), Vector.expr(vec).minus(vec2).div(third).times(2).plus(1).evaluate().asArray(), 1e-10);
+    }
+
+    @Test
+    public void testExpressionReductions(){
+        VectorExpression expression = Vector.expr(vec).minus(vec2);
+        assertEquals(vec.subtract(vec2).sqNorm(), expression.sqNorm(), 1e-10);
+        assertEquals(vec.subtract(vec2).norm(), expression.norm(), 1e-10);
+        assertEquals(vec.subtract(vec2).dot(vec), expression.dot(vec), 1e-10);
+        assertEquals(2, expression.get(1), 1e-10);
+    }
+
+    @Test
+    public void testExpressionGram(){
+        VectorExpression left = Vector.expr(vec).minus(vec2), right = Vector.expr(vec2).div(2);
+        double[] gram = left.gram(right);
+        assertEquals(left.sqNorm(), gram[0], 1e-10);
+        assertEquals(left.dot(right), gram[1], 1e-10);
+        assertEquals(right.sqNorm(), gram[2], 1e-10);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testExpressionGramWithIncompatibleDimensions(){
+        Vector.expr(vec).gram(Vector.expr(Vector.FACTORY.makeZero(2)));
+    }
+
+    @Test
+    public void testExpressionEvaluateIntoOperand(){
+        Vector.expr(vec).times(vec2).minus(1).evaluate(vec);
+        assertArrayEquals(new double[] {-2,-1,2}, vec.asArray(), 1e-10);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testExpressionWithIncompatibleDimensions(){
+        Vector.expr(vec).minus(Vector.FACTORY.makeZero(2));
+    }
+
     @Test
     public void testNorm(){ assertEquals( Math.sqrt(1+4+9), vec.norm(), 1e-10); }
 
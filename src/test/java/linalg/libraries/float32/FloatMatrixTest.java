@@ -0,0 +1,54 @@
+package linalg.libraries.float32;
+
+import exceptions.IncompatibleDimensionsException;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
+import linalg.MatrixTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FloatMatrixTest extends MatrixTest {
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.FLOAT32);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testMakeWithRowsOfDifferentLengths(){
+        Matrix.FACTORY.make(new double[][] {{1,2,3},{4,5}});
+    }
+
+    @Test
+    @Override
+    public void testDivideByMatrix(){
+        Matrix mat = Matrix.FACTORY.make(new double[][] {{1,2,3},{4,5,6}});
+        Matrix res = mat.divide(Matrix.FACTORY.make(new double[][] {{-1,2,4},{4,6,10}}));
+        assertArrayEquals(new double[] {-1,1,0.75}, res.asArray()[0], 1e-6);
+        assertArrayEquals(new double[] {1,5.0/6,0.6}, res.asArray()[1], 1e-6);
+    }
+
+    @Test
+    @Override
+    public void testMultiplyLargeMatricesInParallel(){
+        double[][] left = new double[130][90], right = new double[90][75];
+        for(int i=0; i < left.length; i++)
+            for(int j=0; j < left[i].length; j++)
+                left[i][j] = Math.sin(i + 2 * j);
+        for(int i=0; i < right.length; i++)
+            for(int j=0; j < right[i].length; j++)
+                right[i][j] = Math.cos(3 * i - j);
+
+        Matrix res = Matrix.FACTORY.make(left).multiply(Matrix.FACTORY.make(right));
+        for (int i = 0; i < left.length; i++) {
+            for (int j = 0; j < right[0].length; j++) {
+                double expected = 0;
+                for (int k = 0; k < right.length; k++)
+                    expected += left[i][k] * right[k][j];
+                assertEquals(expected, res.get(i, j), 1e-4);
+            }
+        }
+    }
+}
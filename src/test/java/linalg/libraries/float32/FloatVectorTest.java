@@ -0,0 +1,72 @@
+package linalg.libraries.float32;
+
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Vector;
+import linalg.VectorTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Element-wise comparisons and normalization are re-checked here at float resolution: the perturbations of 1e-10 used
+ * by VectorTest are lost once values are rounded to single precision.
+ */
+public class FloatVectorTest extends VectorTest {
+    private static final double DELTA = 1e-4;
+
+    private final Vector vec = Vector.FACTORY.make(new double[] {1,2,3});
+
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.FLOAT32);
+    }
+
+    @Test
+    @Override
+    public void testNormalize() throws Exception {
+        assertArrayEquals(new double[] {1.0/Math.sqrt(14), 2.0/Math.sqrt(14), 3.0/Math.sqrt(14)}, vec.normalize().asArray(), 1e-6);
+    }
+
+    @Test
+    @Override
+    public void testEqualsToVector(){
+        assertTrue(vec.equals(Vector.FACTORY.make(new double[] {1,2,3})));
+        assertFalse(vec.equals(Vector.FACTORY.make(new double[] {1+DELTA,2,3})));
+    }
+
+    @Test
+    @Override
+    public void testIsSmallerOrEqualThanVector(){
+        assertFalse(vec.isSmallerOrEqualThan(Vector.FACTORY.make(new double[] {1-DELTA,2,3})));
+        assertTrue(vec.isSmallerOrEqualThan(Vector.FACTORY.make(new double[] {1+DELTA,2,3})));
+        assertFalse(vec.isSmallerOrEqualThan(Vector.FACTORY.make(new double[] {1,2,3-DELTA})));
+        assertTrue(vec.isSmallerOrEqualThan(Vector.FACTORY.make(new double[] {1,2,3+DELTA})));
+    }
+
+    @Test
+    @Override
+    public void testIsSmallerThanVector(){
+        assertFalse(vec.isSmallerThan(Vector.FACTORY.make(new double[] {1,2,3})));
+        assertFalse(vec.isSmallerThan(Vector.FACTORY.make(new double[] {1-DELTA,2+DELTA,3+DELTA})));
+        assertTrue(vec.isSmallerThan(Vector.FACTORY.make(new double[] {1+DELTA,2+DELTA,3+DELTA})));
+    }
+
+    @Test
+    @Override
+    public void testIsLargerThanVector(){
+        assertTrue(vec.isLargerThan(Vector.FACTORY.make(new double[] {1-DELTA, 2-DELTA, 3-DELTA})));
+        assertFalse(vec.isLargerThan(Vector.FACTORY.make(new double[] {1-DELTA, 2-DELTA, 3})));
+        assertFalse(vec.isLargerThan(Vector.FACTORY.make(new double[] {1, 2, 3})));
+    }
+
+    @Test
+    @Override
+    public void testIsLargerOrEqualThanVector(){
+        assertTrue(vec.isLargerOrEqualThan(Vector.FACTORY.make(new double[] {1-DELTA,2,3})));
+        assertFalse(vec.isLargerOrEqualThan(Vector.FACTORY.make(new double[] {1+DELTA,2,3})));
+        assertTrue(vec.isLargerOrEqualThan(Vector.FACTORY.make(new double[] {1,2,3-DELTA})));
+        assertFalse(vec.isLargerOrEqualThan(Vector.FACTORY.make(new double[] {1,2,3+DELTA})));
+    }
+}
@@ -0,0 +1,80 @@
+package linalg.libraries.hybrid;
+
+import exceptions.IncompatibleDimensionsException;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
+import linalg.MatrixTest;
+import linalg.Vector;
+import linalg.libraries.ojalgo.OjalgoMatrixFactory;
+import linalg.libraries.ojalgo.OjalgoVectorFactory;
+import linalg.libraries.simple.SimpleVector;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HybridMatrixTest extends MatrixTest {
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.HYBRID);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testMakeWithRowsOfDifferentLengths(){
+        Matrix.FACTORY.make(new double[][] {{1,2,3},{4,5}});
+    }
+
+    private static Matrix makeLarge(int rows, int cols){
+        Matrix matrix = Matrix.FACTORY.makeZero(rows, cols);
+        for(int i=0; i < rows; i++)
+            for(int j=0; j < cols; j++)
+                matrix.set(i, j, Math.sin(i - 3 * j));
+        return matrix;
+    }
+
+    @Test
+    public void testLargeProductRunsAboveThreshold(){
+        int size = 64;
+        assertTrue((long) size * size * size >= HybridMatrix.MULTIPLY_THRESHOLD);
+
+        Matrix left = makeLarge(size, size), right = makeLarge(size, size);
+        Matrix result = left.multiply(right);
+        for(int i=0; i < size; i += 7)
+            for(int j=0; j < size; j += 5) {
+                double expected = 0;
+                for(int k=0; k < size; k++)
+                    expected += left.get(i, k) * right.get(k, j);
+                assertEquals(expected, result.get(i, j), 1e-10);
+            }
+
+        // the result can be used in further operations, which run on its SIMPLE representation
+        assertArrayEquals(result.getRow(3).asArray(), result.add(0).getRow(3).asArray(), 1e-10);
+        assertTrue(result.getRow(3) instanceof SimpleVector);
+    }
+
+    @Test
+    public void testSetAfterLargeProductIsVisible(){
+        int size = 64;
+        Matrix left = makeLarge(size, size), right = makeLarge(size, size);
+        left.multiply(right);  // creates the OjAlgo representation of 'left'
+
+        left.set(0, 0, left.get(0, 0) + 1);
+        Matrix result = left.multiply(right);
+        double expected = 0;
+        for(int k=0; k < size; k++)
+            expected += left.get(0, k) * right.get(k, 0);
+        assertEquals(expected, result.get(0, 0), 1e-10);
+    }
+
+    @Test
+    public void testMixingWithOtherBackends(){
+        Matrix mat = Matrix.FACTORY.make(new double[][] {{1,2},{3,4}});
+        Matrix ojalgo = new OjalgoMatrixFactory().make(new double[][] {{1,0},{0,1}});
+        Vector vector = new OjalgoVectorFactory().make(new double[] {1,1});
+
+        assertArrayEquals(new double[][] {{2,2},{3,5}}, mat.add(ojalgo).asArray());
+        assertArrayEquals(new double[][] {{1,2},{3,4}}, mat.multiply(ojalgo).asArray());
+        assertArrayEquals(new double[] {3,7}, mat.multiply(vector).asArray(), 1e-10);
+    }
+}
@@ -0,0 +1,144 @@
+package linalg.libraries.offheap;
+
+import classifier.LabelCollection;
+import classifier.LinearClassifier;
+import classifier.LinearMajorityVote;
+import exceptions.IncompatibleDimensionsException;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
+import linalg.Vector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class OffHeapMatrixTest {
+    private OffHeapMatrixFactory factory;
+    private OffHeapMatrix mat;
+
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.OJALGO);
+    }
+
+    @Before
+    public void setUp(){
+        // two rows per chunk, so the 3x3 matrix spans two chunks
+        factory = new OffHeapMatrixFactory(2 * 3 * Double.BYTES + 1);
+        mat = (OffHeapMatrix) factory.make(new double[][] {{1,2,3}, {4,5,6}, {7,8,9}});
+    }
+
+    @After
+    public void tearDown(){
+        mat.close();
+    }
+
+    @Test
+    public void testRowsPerChunk() {
+        assertEquals(2, OffHeapMatrixFactory.rowsPerChunk(3, 2 * 3 * Double.BYTES + 1));
+        assertEquals(1, OffHeapMatrixFactory.rowsPerChunk(1000, 8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRowTooLargeForBuffer() {
+        OffHeapMatrixFactory.rowsPerChunk(Integer.MAX_VALUE, OffHeapMatrixFactory.DEFAULT_CHUNK_BYTES);
+    }
+
+    @Test
+    public void testAsArray() {
+        assertEquals(3, mat.getNumRows());
+        assertEquals(3, mat.getNumCols());
+        assertArrayEquals(new double[][] {{1,2,3}, {4,5,6}, {7,8,9}}, mat.asArray());
+    }
+
+    @Test
+    public void testSetAcrossChunks() {
+        mat.set(0, 0, -1);
+        mat.set(2, 2, -9);
+        assertEquals(-1, mat.get(0, 0), 1e-10);
+        assertEquals(-9, mat.get(2, 2), 1e-10);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        mat.get(3, 0);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetColumnOutOfBounds() {
+        mat.get(0, 3);
+    }
+
+    @Test
+    public void testGetRow() {
+        assertArrayEquals(new double[] {7,8,9}, mat.getRow(2).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testGetColumn() {
+        assertArrayEquals(new double[] {2,5,8}, mat.getColumn(1).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testMultiplyVector() {
+        Vector result = mat.multiply(Vector.FACTORY.make(new double[] {1,0,-1}));
+        assertArrayEquals(new double[] {-2,-2,-2}, result.asArray(), 1e-10);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testMultiplyVectorWithIncompatibleDimensions() {
+        mat.multiply(Vector.FACTORY.make(new double[] {1,0}));
+    }
+
+    @Test
+    public void testMultiplyMatrix() {
+        Matrix right = Matrix.FACTORY.make(new double[][] {{1,0}, {0,1}, {1,1}});
+        assertArrayEquals(new double[][] {{4,5}, {10,11}, {16,17}}, mat.multiply(right).asArray());
+    }
+
+    @Test
+    public void testMultiplyTransposed() {
+        Matrix right = Matrix.FACTORY.make(new double[][] {{1,0,1}, {0,1,1}});
+        assertArrayEquals(new double[][] {{4,5}, {10,11}, {16,17}}, mat.multiplyTransposed(right).asArray());
+    }
+
+    @Test
+    public void testLinearClassifierPredict() {
+        LinearClassifier classifier = new LinearClassifier(-10, Vector.FACTORY.make(new double[] {1,1,0}));
+        LabelCollection labels = classifier.predict(mat);
+        assertEquals(-1, labels.get(0).getValue());
+        assertEquals(-1, labels.get(1).getValue());
+        assertEquals(1, labels.get(2).getValue());
+    }
+
+    @Test
+    public void testLinearMajorityVotePredict() {
+        LinearMajorityVote vote = new LinearMajorityVote(Vector.FACTORY.make(new double[] {-10, -10, 0}),
+                Matrix.FACTORY.make(new double[][] {{1,1,0}, {0,1,1}, {-1,0,0}}));
+        LabelCollection labels = vote.predict(mat);
+        assertEquals(-1, labels.get(0).getValue());
+        assertEquals(1, labels.get(2).getValue());
+    }
+
+    @Test
+    public void testCloseIsIdempotent() {
+        mat.close();
+        mat.close();
+        assertTrue(mat.isClosed());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAccessAfterClose() {
+        mat.close();
+        mat.get(0, 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCopyRowAfterClose() {
+        mat.close();
+        mat.copyRow(0, new double[mat.getNumCols()]);
+    }
+}
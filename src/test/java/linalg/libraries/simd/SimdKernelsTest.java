@@ -0,0 +1,105 @@
+package linalg.libraries.simd;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks the kernels selected at runtime against the scalar ones, for lengths which are not multiple of any vector size.
+ */
+public class SimdKernelsTest {
+    private static final int[] LENGTHS = {1, 3, 4, 7, 8, 13, 16, 33, 100};
+
+    private final SimdKernels kernels = SimdKernels.INSTANCE;
+    private final SimdKernels scalar = new ScalarKernels();
+    private final Random random = new Random(0);
+
+    private double[] randomArray(int size){
+        double[] values = new double[size];
+        for(int i=0; i < size; i++)
+            values[i] = 1 + random.nextDouble();
+        return values;
+    }
+
+    /**
+     * The simd profile sets this property, since it compiles VectorApiKernels and resolves the incubator module: a failed
+     * reflective load would otherwise silently fall back to ScalarKernels.
+     */
+    @Test
+    public void testVectorApiIsSelectedUnderSimdProfile() throws Exception {
+        assumeTrue(Boolean.getBoolean("linalg.simd.expected") && !Boolean.getBoolean(SimdKernels.DISABLE_PROPERTY));
+        assertTrue(kernels.isAccelerated());
+        assertEquals("VectorApiKernels", kernels.getClass().getSimpleName());
+    }
+
+    @Test
+    public void testDot() throws Exception {
+        for(int length : LENGTHS){
+            double[] a = randomArray(length + 2), b = randomArray(length + 1);
+            assertEquals(scalar.dot(a, 2, b, 1, length), kernels.dot(a, 2, b, 1, length), 1e-10);
+        }
+    }
+
+    @Test
+    public void testElementWiseOperations() throws Exception {
+        for(int length : LENGTHS){
+            double[] a = randomArray(length), b = randomArray(length);
+            double[] expected = new double[length], actual = new double[length];
+
+            scalar.add(a, b, expected);
+            kernels.add(a, b, actual);
+            assertArrayEquals(expected, actual, 1e-10);
+
+            scalar.subtract(a, b, expected);
+            kernels.subtract(a, b, actual);
+            assertArrayEquals(expected, actual, 1e-10);
+
+            scalar.multiply(a, b, expected);
+            kernels.multiply(a, b, actual);
+            assertArrayEquals(expected, actual, 1e-10);
+
+            scalar.divide(a, b, expected);
+            kernels.divide(a, b, actual);
+            assertArrayEquals(expected, actual, 1e-10);
+
+            scalar.add(a, 3.0, expected);
+            kernels.add(a, 3.0, actual);
+            assertArrayEquals(expected, actual, 1e-10);
+
+            scalar.multiply(a, 3.0, expected);
+            kernels.multiply(a, 3.0, actual);
+            assertArrayEquals(expected, actual, 1e-10);
+
+            scalar.divide(a, 3.0, expected);
+            kernels.divide(a, 3.0, actual);
+            assertArrayEquals(expected, actual, 1e-10);
+        }
+    }
+
+    @Test
+    public void testAxpy() throws Exception {
+        for(int length : LENGTHS){
+            double[] x = randomArray(length + 1), expected = randomArray(length + 3);
+            double[] actual = expected.clone();
+            scalar.axpy(-2, x, 1, expected, 3, length);
+            kernels.axpy(-2, x, 1, actual, 3, length);
+            assertArrayEquals(expected, actual, 1e-10);
+        }
+    }
+
+    @Test
+    public void testMatrixVectorMultiply() throws Exception {
+        for(int length : LENGTHS){
+            double[] matrix = randomArray(5 * length), x = randomArray(length);
+            double[] expected = new double[5], actual = new double[5];
+            scalar.multiply(matrix, 5, length, x, expected);
+            kernels.multiply(matrix, 5, length, x, actual);
+            assertArrayEquals(expected, actual, 1e-10);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package linalg.libraries.simd;
+
+import exceptions.IncompatibleDimensionsException;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
+import linalg.MatrixTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class SimdMatrixTest extends MatrixTest {
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.SIMD);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testMakeWithRowsOfDifferentLengths(){
+        Matrix.FACTORY.make(new double[][] {{1,2,3},{4,5}});
+    }
+}
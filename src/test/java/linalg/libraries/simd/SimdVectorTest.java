@@ -0,0 +1,13 @@
+package linalg.libraries.simd;
+
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.VectorTest;
+import org.junit.BeforeClass;
+
+public class SimdVectorTest extends VectorTest {
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.SIMD);
+    }
+}
@@ -1,13 +1,40 @@
 package linalg.libraries.simple;
 
+import exceptions.IncompatibleDimensionsException;
 import linalg.LinearAlgebraConfig;
 import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
 import linalg.MatrixTest;
+import linalg.Vector;
 import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
 
 public class SimpleMatrixTest extends MatrixTest {
     @BeforeClass
     public static void setLinearAlgebraLibrary(){
         LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.SIMPLE);
     }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testMakeWithRowsOfDifferentLengths(){
+        Matrix.FACTORY.make(new double[][] {{1,2,3},{4,5}});
+    }
+
+    @Test
+    public void testViewsAndParentAreCopiedOnWrite() throws Exception {
+        Matrix matrix = Matrix.FACTORY.make(new double[][] {{1,2,3},{4,5,6}});
+        Vector row = matrix.getRow(1);
+        Vector rowOfSlice = matrix.sliceColumns(1, 3).getRow(1);
+        matrix.set(1, 1, 100);
+        assertArrayEquals(new double[] {4,5,6}, row.asArray(), 1e-10);
+        assertArrayEquals(new double[] {5,6}, rowOfSlice.asArray(), 1e-10);
+
+        row.set(2, -1);
+        matrix.set(1, 2, 200);
+        assertArrayEquals(new double[] {4,5,-1}, row.asArray(), 1e-10);
+        assertArrayEquals(new double[] {5,6}, rowOfSlice.asArray(), 1e-10);
+        assertArrayEquals(new double[] {4,100,200}, matrix.getRow(1).asArray(), 1e-10);
+    }
 }
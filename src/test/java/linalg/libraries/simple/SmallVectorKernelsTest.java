@@ -0,0 +1,83 @@
+package linalg.libraries.simple;
+
+import linalg.Vector;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks every unrolled case against a plain loop. Results must be bitwise identical, so no tolerance is used.
+ */
+public class SmallVectorKernelsTest {
+    private final Random random = new Random(0);
+
+    private double[] randomArray(int size){
+        double[] values = new double[size];
+        for(int i=0; i < size; i++)
+            values[i] = random.nextGaussian();
+        return values;
+    }
+
+    @Test
+    public void testElementWiseOperations() throws Exception {
+        for(int dim=1; dim <= SmallVectorKernels.MAX_DIM; dim++){
+            double[] a = randomArray(dim), b = randomArray(dim);
+            double[] expected = new double[dim], actual = new double[dim];
+
+            for(int i=0; i < dim; i++) expected[i] = a[i] + b[i];
+            SmallVectorKernels.add(a, b, actual, dim);
+            assertArrayEquals(expected, actual, 0);
+
+            for(int i=0; i < dim; i++) expected[i] = a[i] - b[i];
+            SmallVectorKernels.subtract(a, b, actual, dim);
+            assertArrayEquals(expected, actual, 0);
+
+            for(int i=0; i < dim; i++) expected[i] = a[i] * 3.5;
+            SmallVectorKernels.multiply(a, 3.5, actual, dim);
+            assertArrayEquals(expected, actual, 0);
+
+            for(int i=0; i < dim; i++) expected[i] = a[i] - 2 * b[i];
+            System.arraycopy(a, 0, actual, 0, dim);
+            SmallVectorKernels.axpy(actual, -2, b, dim);
+            assertArrayEquals(expected, actual, 0);
+        }
+    }
+
+    @Test
+    public void testDot() throws Exception {
+        for(int dim=1; dim <= SmallVectorKernels.MAX_DIM; dim++){
+            double[] a = randomArray(dim), b = randomArray(dim);
+            double expected = 0;
+            for(int i=0; i < dim; i++) expected += a[i] * b[i];
+            assertEquals(expected, SmallVectorKernels.dot(a, b, dim), 0);
+        }
+    }
+
+    @Test
+    public void testAllClose() throws Exception {
+        for(int dim=1; dim <= SmallVectorKernels.MAX_DIM; dim++){
+            double[] a = new double[dim];
+            assertTrue(SmallVectorKernels.allClose(a, 0, 1e-10, dim));
+            for(int i=0; i < dim; i++){
+                a[i] = 1e-9;
+                assertFalse(SmallVectorKernels.allClose(a, 0, 1e-10, dim));
+                a[i] = 0;
+            }
+        }
+    }
+
+    @Test
+    public void testSmallVectorMixedWithStridedView() throws Exception {
+        SimpleMatrix matrix = new SimpleMatrix(new double[] {1, 2, 3, 4, 5, 6}, 2, 3);
+        SimpleVector vector = new SimpleVector(new double[] {1, 1});
+        Vector column = matrix.getColumn(2);
+        assertArrayEquals(new double[] {4, 7}, vector.add(column).asArray(), 0);
+        assertArrayEquals(new double[] {2, 5}, column.subtract(vector).asArray(), 0);
+        assertEquals(9, vector.dot(column), 0);
+    }
+}
@@ -0,0 +1,92 @@
+package linalg.libraries.sparse;
+
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.NegativeDimensionException;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
+import linalg.Vector;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SparseMatrixBuilderTest {
+    private SparseVectorFactory factory;
+    private SparseMatrixBuilder builder;
+
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.OJALGO);
+    }
+
+    @Before
+    public void setUp(){
+        factory = new SparseVectorFactory();
+        builder = new SparseMatrixBuilder(4);
+    }
+
+    @Test(expected = NegativeDimensionException.class)
+    public void testNegativeCols(){
+        new SparseMatrixBuilder(0);
+    }
+
+    @Test(expected = NegativeDimensionException.class)
+    public void testSnapshotEmpty(){
+        builder.snapshot();
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testAppendVectorOfWrongDimension(){
+        builder.appendRow(factory.make(new double[] {1,2}));
+    }
+
+    @Test
+    public void testAppendSparseAndDenseRows(){
+        builder.appendRow(factory.make(4, new int[] {3, 0}, new double[] {2, 1}));
+        builder.appendRow(Vector.FACTORY.make(new double[] {0,3,4,0}));
+        assertEquals(2, builder.getNumRows());
+        assertEquals(4, builder.getNumCols());
+        assertEquals(4, builder.getNumNonZeros());
+
+        Matrix matrix = builder.snapshot();
+        assertTrue(matrix instanceof SparseMatrix);
+        assertArrayEquals(new double[][] {{1,0,0,2},{0,3,4,0}}, matrix.asArray());
+    }
+
+    @Test
+    public void testGrowsBeyondDefaultCapacity(){
+        for(int i=0; i < 100; i++)
+            builder.appendRow(factory.make(4, new int[] {i % 4}, new double[] {i + 1}));
+
+        Matrix matrix = builder.snapshot();
+        assertEquals(100, matrix.getNumRows());
+        for(int i=0; i < 100; i++)
+            assertEquals(i + 1, matrix.get(i, i % 4), 1e-10);
+    }
+
+    @Test
+    public void testSnapshotKeepsRowsForLaterAppends(){
+        builder.appendRow(factory.make(new double[] {1,0,0,2}));
+        Matrix snapshot = builder.snapshot();
+        builder.appendRow(factory.make(new double[] {0,3,0,0}));
+
+        assertEquals(1, snapshot.getNumRows());
+        assertArrayEquals(new double[][] {{1,0,0,2}}, snapshot.asArray());
+        assertArrayEquals(new double[] {3}, snapshot.multiply(Vector.FACTORY.make(new double[] {1,1,1,1})).asArray(), 1e-10);
+        assertArrayEquals(new double[][] {{1,0,0,2},{0,3,0,0}}, builder.snapshot().asArray());
+    }
+
+    @Test
+    public void testWritesToSnapshotDoNotAffectBuilder(){
+        builder.appendRow(factory.make(new double[] {1,0,0,2}));
+        Matrix snapshot = builder.snapshot();
+        snapshot.set(0, 1, 5);
+        snapshot.set(0, 0, -1);
+        builder.appendRow(factory.make(new double[] {0,3,0,0}));
+
+        assertArrayEquals(new double[][] {{-1,5,0,2}}, snapshot.asArray());
+        assertArrayEquals(new double[][] {{1,0,0,2},{0,3,0,0}}, builder.snapshot().asArray());
+    }
+}
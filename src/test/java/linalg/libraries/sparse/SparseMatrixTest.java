@@ -0,0 +1,160 @@
+package linalg.libraries.sparse;
+
+import exceptions.IncompatibleDimensionsException;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
+import linalg.Vector;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SparseMatrixTest {
+    private SparseMatrixFactory factory;
+    private SparseMatrix mat;
+
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.OJALGO);
+    }
+
+    @Before
+    public void setUp(){
+        factory = new SparseMatrixFactory();
+        mat = (SparseMatrix) factory.make(new double[][] {{1,0,0,2}, {0,0,0,0}, {0,3,4,0}});
+    }
+
+    @Test
+    public void testMakeKeepsOnlyNonZeros() {
+        assertEquals(3, mat.getNumRows());
+        assertEquals(4, mat.getNumCols());
+        assertEquals(4, mat.getNumNonZeros());
+        assertArrayEquals(new double[][] {{1,0,0,2}, {0,0,0,0}, {0,3,4,0}}, mat.asArray());
+    }
+
+    @Test
+    public void testCopyRowClearsDestination() {
+        double[] row = {9,9,9,9};
+        mat.copyRow(2, row);
+        assertArrayEquals(new double[] {0,3,4,0}, row, 1e-10);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testMakeWithRowsOfDifferentLengths() {
+        factory.make(new double[][] {{1,2}, {3}});
+    }
+
+    @Test
+    public void testMakeFromSparseRows() {
+        SparseVectorFactory vectorFactory = new SparseVectorFactory();
+        Matrix result = factory.make(new SparseVector[] {
+                (SparseVector) vectorFactory.make(new double[] {0,1,0}),
+                (SparseVector) vectorFactory.make(new double[] {2,0,3})
+        });
+        assertArrayEquals(new double[][] {{0,1,0}, {2,0,3}}, result.asArray());
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals(2, mat.get(0, 3), 1e-10);
+        assertEquals(0, mat.get(1, 2), 1e-10);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        mat.get(3, 0);
+    }
+
+    @Test
+    public void testSet() {
+        mat.set(1, 1, 5);
+        mat.set(0, 0, -1);
+        mat.set(2, 3, 6);
+        assertEquals(6, mat.getNumNonZeros());
+        assertArrayEquals(new double[][] {{-1,0,0,2}, {0,5,0,0}, {0,3,4,6}}, mat.asArray());
+    }
+
+    @Test
+    public void testGetRowIsSparse() {
+        Vector row = mat.getRow(2);
+        assertTrue(row instanceof SparseVector);
+        assertArrayEquals(new double[] {0,3,4,0}, row.asArray(), 1e-10);
+        assertArrayEquals(new double[] {0,0,0,0}, mat.getRow(1).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testGetColumn() {
+        assertArrayEquals(new double[] {2,0,0}, mat.getColumn(3).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testSliceColumns() {
+        assertArrayEquals(new double[][] {{0,0}, {0,0}, {3,4}}, mat.sliceColumns(1, 3).asArray());
+    }
+
+    @Test
+    public void testSliceColumnsUpToLastColumn() {
+        assertArrayEquals(new double[][] {{0,0,2}, {0,0,0}, {3,4,0}}, mat.sliceColumns(1, mat.getNumCols()).asArray());
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testSliceColumnsPastLastColumn() {
+        mat.sliceColumns(1, mat.getNumCols() + 1);
+    }
+
+    @Test
+    public void testMultiplyDenseVector() {
+        Vector result = mat.multiply(Vector.FACTORY.make(new double[] {1,2,3,4}));
+        assertArrayEquals(new double[] {9,0,18}, result.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testMultiplySparseVector() {
+        Vector vector = new SparseVectorFactory().make(new double[] {0,1,0,1});
+        assertArrayEquals(new double[] {2,0,3}, mat.multiply(vector).asArray(), 1e-10);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testMultiplyVectorWithIncompatibleDimensions() {
+        mat.multiply(Vector.FACTORY.make(new double[] {1,2,3}));
+    }
+
+    @Test
+    public void testMultiplyTransposedDenseMatrix() {
+        Matrix right = Matrix.FACTORY.make(new double[][] {{1,0,1,2}, {0,1,1,-1}});
+        assertArrayEquals(new double[][] {{5,-2}, {0,0}, {4,7}}, mat.multiplyTransposed(right).asArray());
+    }
+
+    @Test
+    public void testMultiplyTransposedSparseMatrix() {
+        Matrix right = factory.make(new double[][] {{1,0,1,2}, {0,1,1,-1}});
+        assertArrayEquals(new double[][] {{5,-2}, {0,0}, {4,7}}, mat.multiplyTransposed(right).asArray());
+    }
+
+    @Test
+    public void testMultiplyDenseMatrix() {
+        Matrix right = Matrix.FACTORY.make(new double[][] {{1,0}, {0,1}, {1,1}, {2,-1}});
+        assertArrayEquals(new double[][] {{5,-2}, {0,0}, {4,7}}, mat.multiply(right).asArray());
+    }
+
+    @Test
+    public void testMultiplyScalarStaysSparse() {
+        Matrix result = mat.multiply(2);
+        assertTrue(result instanceof SparseMatrix);
+        assertArrayEquals(new double[][] {{2,0,0,4}, {0,0,0,0}, {0,6,8,0}}, result.asArray());
+    }
+
+    @Test
+    public void testTranspose() {
+        Matrix transpose = mat.transpose();
+        assertTrue(transpose instanceof SparseMatrix);
+        assertArrayEquals(new double[][] {{1,0,0}, {0,0,3}, {0,0,4}, {2,0,0}}, transpose.asArray());
+    }
+
+    @Test
+    public void testMakeEye() {
+        assertArrayEquals(new double[][] {{1,0}, {0,1}}, factory.makeEye(2).asArray());
+    }
+}
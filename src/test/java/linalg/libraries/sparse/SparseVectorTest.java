@@ -0,0 +1,183 @@
+package linalg.libraries.sparse;
+
+import exceptions.IncompatibleDimensionsException;
+import exceptions.linalg.EmptyVectorException;
+import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraLibrary;
+import linalg.Matrix;
+import linalg.Vector;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SparseVectorTest {
+    private SparseVectorFactory factory;
+    private SparseVector vec, vec2;
+    private Vector dense;
+
+    @BeforeClass
+    public static void setLinearAlgebraLibrary(){
+        LinearAlgebraConfig.setLibrary(LinearAlgebraLibrary.OJALGO);
+    }
+
+    @Before
+    public void setUp(){
+        factory = new SparseVectorFactory();
+        vec = (SparseVector) factory.make(new double[] {0,2,0,3,0});
+        vec2 = (SparseVector) factory.make(5, new int[] {4, 1}, new double[] {5, -1});
+        dense = Vector.FACTORY.make(new double[] {1,2,3,4,5});
+    }
+
+    @Test
+    public void testMakeKeepsOnlyNonZeros() {
+        assertEquals(5, vec.getDim());
+        assertEquals(2, vec.getNumNonZeros());
+        assertArrayEquals(new double[] {0,2,0,3,0}, vec.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testMakeFromUnsortedIndexes() {
+        assertEquals(1, vec2.getIndexAt(0));
+        assertEquals(4, vec2.getIndexAt(1));
+        assertArrayEquals(new double[] {0,-1,0,0,5}, vec2.asArray(), 1e-10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMakeWithRepeatedIndexes() {
+        factory.make(5, new int[] {1, 1}, new double[] {1, 2});
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testMakeWithIndexOutOfBounds() {
+        factory.make(5, new int[] {5}, new double[] {1});
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetWithTooLargeIndex() {
+        vec.get(5);
+    }
+
+    @Test
+    public void testSetExistingAndNewComponents() {
+        vec.set(1, 10);
+        vec.set(0, -1);
+        vec.set(4, 7);
+        vec.set(2, 0);
+        assertEquals(4, vec.getNumNonZeros());
+        assertArrayEquals(new double[] {-1,10,0,3,7}, vec.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testCopy() {
+        Vector copy = vec.copy();
+        copy.set(1, 100);
+        assertEquals(2, vec.get(1), 1e-10);
+    }
+
+    @Test
+    public void testDotWithSparse() {
+        assertEquals(-2, vec.dot(vec2), 1e-10);
+    }
+
+    @Test
+    public void testDotWithDense() {
+        assertEquals(16, vec.dot(dense), 1e-10);
+    }
+
+    @Test
+    public void testDenseDotWithSparse() {
+        assertEquals(16, dense.dot(vec), 1e-10);
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testDotWithIncompatibleDimensions() {
+        vec.dot(factory.makeZero(3));
+    }
+
+    @Test
+    public void testSqNorm() {
+        assertEquals(13, vec.sqNorm(), 1e-10);
+    }
+
+    @Test
+    public void testAddSparse() {
+        Vector result = vec.add(vec2);
+        assertTrue(result instanceof SparseVector);
+        assertArrayEquals(new double[] {0,1,0,3,5}, result.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testSubtractSparse() {
+        Vector result = vec.subtract(vec2);
+        assertTrue(result instanceof SparseVector);
+        assertArrayEquals(new double[] {0,3,0,3,-5}, result.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testAddDense() {
+        Vector result = vec.add(dense);
+        assertFalse(result instanceof SparseVector);
+        assertArrayEquals(new double[] {1,4,3,7,5}, result.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testSubtractDense() {
+        assertArrayEquals(new double[] {-1,0,-3,-1,-5}, vec.subtract(dense).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testAddScalar() {
+        assertArrayEquals(new double[] {1,3,1,4,1}, vec.add(1).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testMultiplyScalarStaysSparse() {
+        Vector result = vec.multiply(-2);
+        assertTrue(result instanceof SparseVector);
+        assertArrayEquals(new double[] {0,-4,0,-6,0}, result.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testMultiplyElementWise() {
+        assertArrayEquals(new double[] {0,4,0,12,0}, vec.multiply(dense).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testAxpy() {
+        vec.axpy(2, vec2);
+        assertArrayEquals(new double[] {0,0,0,3,10}, vec.asArray(), 1e-10);
+    }
+
+    @Test
+    public void testAppendLeft() {
+        Vector result = vec.appendLeft(1);
+        assertTrue(result instanceof SparseVector);
+        assertArrayEquals(new double[] {1,0,2,0,3,0}, result.asArray(), 1e-10);
+        assertArrayEquals(new double[] {0,0,2,0,3,0}, vec.appendLeft(0).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testDropLeft() {
+        assertArrayEquals(new double[] {2,0,3,0}, vec.dropLeft().asArray(), 1e-10);
+        assertArrayEquals(new double[] {0,2,0,3,0}, vec.appendLeft(7).dropLeft().asArray(), 1e-10);
+    }
+
+    @Test(expected = EmptyVectorException.class)
+    public void testDropLeftOfSingleComponentVector() {
+        factory.makeZero(1).dropLeft();
+    }
+
+    @Test
+    public void testDenseMatrixTimesSparseVector() {
+        Matrix matrix = Matrix.FACTORY.make(new double[][] {{1,1,1,1,1}, {0,1,0,-1,0}});
+        assertArrayEquals(new double[] {5, -1}, matrix.multiply(vec).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testMakeFilled() {
+        assertArrayEquals(new double[] {2,2,2}, factory.makeFilled(3, 2).asArray(), 1e-10);
+        assertEquals(0, ((SparseVector) factory.makeFilled(3, 0)).getNumNonZeros());
+    }
+}
@@ -8,47 +8,156 @@ import org.apache.commons.math3.distribution.UniformRealDistribution;
 import org.apache.commons.math3.stat.inference.KolmogorovSmirnovTest;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 
 public class SamplerTest {
+    private final Sampler sampler = new Sampler(0);
 
     @Test(expected = NegativeDimensionException.class)
     public void testNegativeSizeInGaussianSampler() throws Exception {
-        Sampler.sampleGaussian(-1);
+        sampler.sampleGaussian(-1);
     }
 
     @Test(expected = NegativeDimensionException.class)
     public void testZeroSizeInGaussianSampler() throws Exception {
-        Sampler.sampleGaussian(0);
+        sampler.sampleGaussian(0);
     }
 
     @Test(expected = IncompatibleBoundsException.class)
     public void testEqualBoundsInUniformSampler() throws Exception {
-        Sampler.sampleUniform(-4, -4);
+        sampler.sampleUniform(-4, -4);
     }
 
     @Test(expected = IncompatibleBoundsException.class)
     public void testIncompatibleBoundsInUniformSampler() throws Exception {
-        Sampler.sampleUniform(0, -4);
+        sampler.sampleUniform(0, -4);
     }
 
     @Test
     public void testNormalDistribution() throws Exception {
-        Vector normal = Sampler.sampleGaussian(10000);
+        Vector normal = sampler.sampleGaussian(10000);
         KolmogorovSmirnovTest test = new KolmogorovSmirnovTest();
         double pValue = test.kolmogorovSmirnovTest(new NormalDistribution(0,1), normal.asArray());
         assertTrue(pValue > 0.01);
     }
 
+    @Test
+    public void testFillGaussianDistribution() throws Exception {
+        double[] normal = new double[100000];
+        sampler.fillGaussian(normal);
+        KolmogorovSmirnovTest test = new KolmogorovSmirnovTest();
+        double pValue = test.kolmogorovSmirnovTest(new NormalDistribution(0,1), normal);
+        assertTrue(pValue > 0.01);
+    }
+
+    @Test
+    public void testFillGaussianTails() throws Exception {
+        double[] normal = new double[1000000];
+        sampler.fillGaussian(normal);
+        int beyondThree = 0;
+        for (double value : normal)
+            if (Math.abs(value) > 3)
+                beyondThree++;
+        assertEquals(2700, beyondThree, 250);  // P(|X| > 3) = 0.0027, whose std over 10^6 samples is about 52
+    }
+
+    @Test
+    public void testFillGaussianRange() throws Exception {
+        double[] values = new double[10];
+        sampler.fillGaussian(values, 3, 7);
+        for (int i=0; i < values.length; i++)
+            assertEquals(i >= 3 && i < 7, values[i] != 0);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testFillGaussianInvalidRange() throws Exception {
+        sampler.fillGaussian(new double[10], 5, 11);
+    }
+
     @Test
     public void testUniformDistribution() throws Exception {
         double[] uniform = new double[10000];
         for(int i=0; i < 10000; i++)
-            uniform[i] = Sampler.sampleUniform(-2,3);
+            uniform[i] = sampler.sampleUniform(-2,3);
         KolmogorovSmirnovTest test = new KolmogorovSmirnovTest();
         double pValue = test.kolmogorovSmirnovTest(new UniformRealDistribution(-2,3), uniform);
         assertTrue(pValue > 0.01);
     }
 
+    @Test
+    public void testSeedIsReproducible() throws Exception {
+        Sampler first = new Sampler(1), second = new Sampler(1);
+        for(int i=0; i < 10; i++){
+            assertEquals(first.nextGaussian(), second.nextGaussian());
+            assertEquals(first.sampleUniform(-2, 3), second.sampleUniform(-2, 3));
+            assertEquals(first.sampleIndex(7), second.sampleIndex(7));
+        }
+    }
 
+    @Test
+    public void testSplitIsReproducible() throws Exception {
+        Sampler first = new Sampler(1).split(), second = new Sampler(1).split();
+        assertEquals(first.nextGaussian(), second.nextGaussian());
+    }
+
+    @Test
+    public void testSplitStreamsAreDifferent() throws Exception {
+        Sampler parent = new Sampler(1);
+        Sampler first = parent.split(), second = parent.split();
+        assertFalse(first.sampleUniform(0, 1) == second.sampleUniform(0, 1));
+        assertFalse(parent.sampleUniform(0, 1) == new Sampler(1).sampleUniform(0, 1));
+    }
+
+    @Test
+    public void testSetSeed() throws Exception {
+        Sampler.setSeed(3);
+        assertEquals(new Sampler(3).nextGaussian(), Sampler.getDefault().nextGaussian());
+    }
+
+    @Test
+    public void testSplitDefault() throws Exception {
+        Sampler.setSeed(3);
+        Sampler expected = new Sampler(3);
+        for (int i = 0; i < 3; i++)
+            assertEquals(expected.split().nextGaussian(), Sampler.splitDefault().nextGaussian());
+    }
+
+    @Test
+    public void testConcurrentSplitDefaultNeverLosesOrDuplicatesSplits() throws Exception {
+        int threads = 4, splitsPerThread = 250;
+        Sampler.setSeed(7);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        double[] actual = new double[threads * splitsPerThread];
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                int start = t * splitsPerThread;
+                futures[t] = executor.submit(() -> {
+                    for (int i = start; i < start + splitsPerThread; i++)
+                        actual[i] = Sampler.splitDefault().sampleUniform(0, 1);
+                });
+            }
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        Sampler parent = new Sampler(7);
+        double[] expected = new double[actual.length];
+        for (int i = 0; i < expected.length; i++)
+            expected[i] = parent.split().sampleUniform(0, 1);
+
+        Arrays.sort(actual);
+        Arrays.sort(expected);
+        assertTrue(Arrays.equals(expected, actual));
+    }
 }
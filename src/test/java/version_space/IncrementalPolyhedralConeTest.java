@@ -2,14 +2,21 @@ package version_space;
 
 import convex.sampling.Line;
 import convex.sampling.LineSegment;
+import convex.sampling.SamplingCursor;
 import exceptions.convex.EmptyIntersectionException;
 import exceptions.IncompatibleDimensionsException;
 import linalg.LinearAlgebraConfig;
 import linalg.LinearAlgebraLibrary;
 import linalg.Vector;
+import linalg.libraries.sparse.SparseMatrixFactory;
+import linalg.libraries.sparse.SparseVector;
+import linalg.libraries.sparse.SparseVectorFactory;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import utils.Sampler;
+
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -62,6 +69,101 @@ public class IncrementalPolyhedralConeTest{
         assertEquals(2, pol.getNumConstrains());
     }
 
+    @Test
+    public void testGetConstrainListReturnsCopies() throws Exception {
+        List<Vector> constrains = pol.getConstrainList();
+        assertEquals(2, constrains.size());
+        assertArrayEquals(new double[] {1,-1}, constrains.get(1).asArray(), 1e-10);
+
+        constrains.get(0).set(0, 100);
+        constrains.add(Vector.FACTORY.make(new double[] {1,0}));
+        assertEquals(2, pol.getNumConstrains());
+        assertArrayEquals(new double[] {-1,-1}, pol.getConstrainList().get(0).asArray(), 1e-10);
+        assertTrue(pol.isInside(new double[] {0.5,1}));
+    }
+
+    @Test
+    public void testAddConstrainAfterQuery() throws Exception {
+        assertTrue(pol.isInside(new double[] {0.5,1}));
+
+        pol.addConstrain(Vector.FACTORY.make(new double[] {1,0}));
+        assertEquals(3, pol.getNumConstrains());
+        assertFalse(pol.isInside(new double[] {0.5,1}));
+        assertTrue(pol.isInside(new double[] {-0.5,1}));
+        assertArrayEquals(new double[] {1,0}, pol.getConstrainList().get(2).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testAlternatingAddsAndQueries() throws Exception {
+        for(int i=0; i < 40; i++) {
+            pol.addConstrain(Vector.FACTORY.make(new double[] {1, -2 + 0.05 * i}));
+            assertEquals(3 + i, pol.getNumConstrains());
+            assertTrue(pol.isInside(new double[] {-0.5, 1}));
+            assertEquals(i < 30, pol.isInside(new double[] {0.5, 1}));
+        }
+        assertArrayEquals(new double[] {1,-0.05}, pol.getConstrainList().get(41).asArray(), 1e-10);
+    }
+
+    @Test
+    public void testQueriesWhileAddingFromAnotherThread() throws Exception {
+        Thread adder = new Thread(() -> {
+            for(int i=0; i < 2000; i++)
+                pol.addConstrain(Vector.FACTORY.make(new double[] {1, -2 + 0.001 * i}));
+        });
+        adder.start();
+        while(adder.isAlive())
+            assertTrue(pol.isInside(new double[] {-0.5, 1}));
+        adder.join();
+
+        assertEquals(2002, pol.getNumConstrains());
+        assertFalse(pol.isInside(new double[] {0.5, 1}));
+    }
+
+    @Test
+    public void testSparseConstrains() throws Exception {
+        SparseVectorFactory factory = new SparseVectorFactory();
+        pol = new IncrementalPolyhedralCone();
+        pol.addConstrain(factory.make(4, new int[] {0, 3}, new double[] {-1, -1}));
+        pol.addConstrain(factory.make(4, new int[] {0, 3}, new double[] {1, -1}));
+        pol.addConstrain(Vector.FACTORY.make(new double[] {0, 1, 0, -1}));
+
+        assertEquals(4, pol.getDim());
+        assertTrue(pol.isInside(new double[] {0.5, 0, 7, 1}));
+        assertFalse(pol.isInside(new double[] {2, 0, 7, 1}));
+        assertTrue(pol.getConstrainList().get(1) instanceof SparseVector);
+        assertArrayEquals(new double[] {0, 1, 0, -1}, pol.getConstrainList().get(2).asArray(), 1e-10);
+
+        SamplingCursor cursor = pol.cursor(Vector.FACTORY.make(new double[] {0, 0, 0, 1}));
+        LineSegment segment = cursor.intersectAxis(0);
+        assertEquals(-1, segment.getLower(), 1e-10);
+        assertEquals(1, segment.getUpper(), 1e-10);
+        cursor.moveTo(0.5);
+        segment = cursor.intersectAxis(1);
+        assertEquals(Double.NEGATIVE_INFINITY, segment.getLower(), 1e-10);
+        assertEquals(1, segment.getUpper(), 1e-10);
+    }
+
+    @Test
+    public void testConeFromSparseMatrix() throws Exception {
+        pol = new IncrementalPolyhedralCone(new SparseMatrixFactory().make(new double[][] {{-1,-1}, {1,-1}}));
+        pol.addConstrain(Vector.FACTORY.make(new double[] {1,0}));
+        assertEquals(3, pol.getNumConstrains());
+        assertTrue(pol.isInside(new double[] {-0.5,1}));
+        assertFalse(pol.isInside(new double[] {0.5,1}));
+    }
+
+    @Test
+    public void testCursorOnEmptyConeAcceptsAnyDimension() throws Exception {
+        pol = new IncrementalPolyhedralCone();
+        Vector point = Vector.FACTORY.make(new double[] {1,2,3});
+        assertSame(point, pol.cursor(point).getPoint());
+    }
+
+    @Test(expected = IncompatibleDimensionsException.class)
+    public void testCursorWithWrongDim() throws Exception {
+        pol.cursor(Vector.FACTORY.make(new double[] {1,2,3}));
+    }
+
     @Test(expected = IncompatibleDimensionsException.class)
     public void testAddConstrainWithWrongDim() throws Exception {
         pol.addConstrain(Vector.FACTORY.make(new double[] {1,2,3}));
@@ -106,7 +208,7 @@ public class IncrementalPolyhedralConeTest{
     @Test
     public void testIntersectionWithEmptyPolytope() throws Exception {
         pol = new IncrementalPolyhedralCone();
-        Line line = Line.sample(Vector.FACTORY.make(new double[] {1,1}));
+        Line line = Line.sample(Vector.FACTORY.make(new double[] {1,1}), new Sampler(0));
         LineSegment segment = pol.intersect(line);
         assertEquals(Double.NEGATIVE_INFINITY, segment.getLower(), 1e-10);
         assertEquals(Double.POSITIVE_INFINITY, segment.getUpper(), 1e-10);
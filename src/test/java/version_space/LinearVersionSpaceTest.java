@@ -1,13 +1,18 @@
 package version_space;
 
+import classifier.Classifier;
 import classifier.Label;
+import convex.sampling.CoordinateHitAndRun;
 import convex.sampling.Line;
 import convex.sampling.LineSegment;
+import convex.sampling.SamplingCursor;
 import exceptions.IncompatibleDimensionsException;
 import exceptions.linalg.NegativeDimensionException;
 import linalg.LinearAlgebraConfig;
+import linalg.LinearAlgebraContext;
 import linalg.LinearAlgebraLibrary;
 import linalg.Vector;
+import linalg.libraries.sparse.SparseVectorFactory;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -98,5 +103,99 @@ public class LinearVersionSpaceTest {
         assertTrue(versionSpace.isInside(interiorPoint));
     }
 
+    @Test
+    public void testFindInteriorPointWithSparseConstrains() throws Exception {
+        SparseVectorFactory factory = new SparseVectorFactory();
+        versionSpace.addConstrain(factory.make(new double[] {1, 0}), Label.POSITIVE);
+        versionSpace.addConstrain(factory.make(new double[] {0, -1}), Label.NEGATIVE);
+        Vector interiorPoint = versionSpace.findInteriorPoint();
+        assertTrue(versionSpace.isInside(interiorPoint));
+    }
+
+    @Test
+    public void testSampleIsConsistentWithConstrains() throws Exception {
+        Vector point = Vector.FACTORY.make(new double[] {1, 1});
+        versionSpace.addConstrain(point, Label.POSITIVE);
+        assertEquals(Label.POSITIVE, versionSpace.sample().predict(point));
+    }
+
+    @Test
+    public void testSampleWithExplicitContext() throws Exception {
+        LinearAlgebraContext context = new LinearAlgebraContext(LinearAlgebraLibrary.APACHE);
+        LinearVersionSpace apacheVersionSpace = new LinearVersionSpace(dim, chainLength, sampleSize, context);
+
+        Vector point = context.getVectorFactory().make(new double[] {1, 1});
+        apacheVersionSpace.addConstrain(point, Label.NEGATIVE);
+        assertEquals(Label.NEGATIVE, apacheVersionSpace.sample().predict(point));
+        assertEquals(LinearAlgebraLibrary.OJALGO, LinearAlgebraContext.current().getLibrary());
+    }
+
+    @Test
+    public void testSampleWithCoordinateHitAndRun() throws Exception {
+        LinearVersionSpace coordinateVersionSpace = new LinearVersionSpace(dim, new CoordinateHitAndRun(chainLength, sampleSize));
+        assertEquals(LinearAlgebraContext.current(), coordinateVersionSpace.getContext());
+
+        Vector point = Vector.FACTORY.make(new double[] {1, 1});
+        coordinateVersionSpace.addConstrain(point, Label.POSITIVE);
+        coordinateVersionSpace.addConstrain(Vector.FACTORY.make(new double[] {-1, 0.5}), Label.NEGATIVE);
+        assertEquals(Label.POSITIVE, coordinateVersionSpace.sample().predict(point));
+    }
+
+    @Test
+    public void testCursorIntersectionMatchesIntersect() throws Exception {
+        versionSpace.addConstrain(Vector.FACTORY.make(new double[] {1, 1}), Label.POSITIVE);
+        Vector point = versionSpace.findInteriorPoint();
+        SamplingCursor cursor = versionSpace.cursor(point);
+
+        for(int axis=0; axis < versionSpace.getDim(); axis++) {
+            Vector direction = Vector.FACTORY.makeZero(versionSpace.getDim());
+            direction.set(axis, 1);
+            LineSegment expected = versionSpace.intersect(new Line(point, direction));
+            LineSegment actual = cursor.intersectAxis(axis);
+            assertEquals(expected.getLower(), actual.getLower(), 1e-10);
+            assertEquals(expected.getUpper(), actual.getUpper(), 1e-10);
+        }
+    }
+
+    @Test
+    public void testDefaultWarmStartLength() throws Exception {
+        assertEquals(6, versionSpace.getWarmStartLength());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveWarmStartLength() throws Exception {
+        versionSpace.setWarmStartLength(0);
+    }
+
+    @Test
+    public void testWarmStartedSampleIsConsistentWithNewConstrains() throws Exception {
+        Vector first = Vector.FACTORY.make(new double[] {1, 1});
+        Vector second = Vector.FACTORY.make(new double[] {-1, 0.5});
+        Vector third = Vector.FACTORY.make(new double[] {0.5, -1});
+
+        versionSpace.addConstrain(first, Label.POSITIVE);
+        versionSpace.sample();
+
+        versionSpace.addConstrain(second, Label.NEGATIVE);
+        Classifier classifier = versionSpace.sample();
+        assertEquals(Label.POSITIVE, classifier.predict(first));
+        assertEquals(Label.NEGATIVE, classifier.predict(second));
+
+        versionSpace.addConstrain(third, Label.POSITIVE);
+        classifier = versionSpace.sample();
+        assertEquals(Label.POSITIVE, classifier.predict(first));
+        assertEquals(Label.NEGATIVE, classifier.predict(second));
+        assertEquals(Label.POSITIVE, classifier.predict(third));
+    }
+
+    @Test
+    public void testResetChains() throws Exception {
+        Vector point = Vector.FACTORY.make(new double[] {1, 1});
+        versionSpace.sample();
+        versionSpace.resetChains();
+        versionSpace.addConstrain(point, Label.POSITIVE);
+        assertEquals(Label.POSITIVE, versionSpace.sample().predict(point));
+    }
+
     // TODO: add tests with non-empty constrains
 }